@@ -0,0 +1,48 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.TokenizedCommandInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures constructing the {@link CommandInput} passed to every registered command, both on its own and with the
+ * argument and command lines being read, as usage messages and most parameters do.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CommandInputBenchmark {
+    private final String label = "teleport";
+    private final String[] arguments = {"Notch", "world", "128.5", "64", "-2048.25"};
+
+    @Benchmark
+    public CommandInput construct() {
+        return TokenizedCommandInput.of(label, arguments);
+    }
+
+    @Benchmark
+    public String constructAndReadArgumentLine() {
+        return TokenizedCommandInput.of(label, arguments).getArgumentLine();
+    }
+
+    @Benchmark
+    public String constructAndReadCommandLine() {
+        return TokenizedCommandInput.of(label, arguments).getCommandLine();
+    }
+
+    @Benchmark
+    public String descendAndReadArgumentLine() {
+        return TokenizedCommandInput.of(label, arguments).descend().slice(1, 4).getArgumentLine();
+    }
+
+    @Benchmark
+    public CommandInput parseQuoted() {
+        return TokenizedCommandInput.parse("mail send \"Hello there\" Notch");
+    }
+}
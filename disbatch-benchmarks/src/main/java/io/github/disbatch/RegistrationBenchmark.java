@@ -0,0 +1,87 @@
+package io.github.disbatch;
+
+import io.github.disbatch.benchmark.StandIns;
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.descriptor.CommandDescriptor;
+import org.bukkit.Server;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.SimpleCommandMap;
+import org.bukkit.help.HelpMap;
+import org.bukkit.plugin.SimplePluginManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the startup cost of registering many commands to a fresh {@link SimpleCommandMap}, one at a time and as a
+ * single {@link CommandBatch}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 20)
+public class RegistrationBenchmark {
+    private final Command<CommandSender> command = new Command.Builder<CommandSender>()
+            .executor((sender, input) -> {})
+            .build();
+
+    @Param("5000")
+    private int commandCount;
+
+    private CommandDescriptor[] descriptors;
+    private CommandRegistrar registrar;
+
+    @Setup(Level.Trial)
+    public void createDescriptors() {
+        StandIns.installServer();
+        descriptors = new CommandDescriptor[commandCount];
+
+        for (int i = 0; i < commandCount; i++)
+            descriptors[i] = new CommandDescriptor.Builder()
+                    .label("command" + i)
+                    .aliases("alias" + i)
+                    .build();
+    }
+
+    @Setup(Level.Invocation)
+    public void createRegistrar() {
+        final Map<String, Object> answers = StandIns.answers("getHelpMap", StandIns.of(HelpMap.class, StandIns.answers()));
+        final Server server = StandIns.of(Server.class, answers);
+
+        answers.put("getPluginManager", new SimplePluginManager(server, new SimpleCommandMap(server)));
+        registrar = new LegacyCommandRegistrar(server);
+    }
+
+    @Benchmark
+    public CommandRegistrar registerIndividually() {
+        for (final CommandDescriptor descriptor : descriptors)
+            registrar.register(new TypedCommandProxy(command, descriptor), descriptor);
+
+        return registrar;
+    }
+
+    @Benchmark
+    public CommandRegistrar registerBatch() {
+        final CommandBatch batch = new CommandBatch(registrar);
+
+        for (final CommandDescriptor descriptor : descriptors)
+            batch.add(command, descriptor);
+
+        batch.register();
+        return registrar;
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.disbatch.benchmark;
+
+import io.github.disbatch.command.CommandInput;
+
+/**
+ * A {@link CommandInput} over a fixed command line, split once up front so that benchmarks only measure what consumes
+ * it.
+ */
+public final class ArgumentsInput implements CommandInput {
+    private final String commandLine;
+    private final String label;
+    private final String argumentLine;
+    private final String[] arguments;
+
+    public ArgumentsInput(final String commandLine) {
+        final int labelEnd = commandLine.indexOf(' ');
+
+        this.commandLine = commandLine;
+        label = labelEnd < 0 ? commandLine : commandLine.substring(0, labelEnd);
+        argumentLine = labelEnd < 0 ? "" : commandLine.substring(labelEnd + 1);
+        arguments = argumentLine.isEmpty() ? new String[0] : argumentLine.split(" ", -1);
+    }
+
+    @Override
+    public int getArgumentLength() {
+        return arguments.length;
+    }
+
+    @Override
+    public String getArgumentLine() {
+        return argumentLine;
+    }
+
+    @Override
+    public String getArgument(final int index) {
+        return arguments[index];
+    }
+
+    @Override
+    public String[] getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public String getCommandLabel() {
+        return label;
+    }
+
+    @Override
+    public String getCommandLine() {
+        return commandLine;
+    }
+}
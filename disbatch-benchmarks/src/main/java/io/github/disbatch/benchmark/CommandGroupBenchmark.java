@@ -0,0 +1,59 @@
+package io.github.disbatch.benchmark;
+
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.CommandGroup;
+import io.github.disbatch.command.CommandInput;
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures dispatching through {@link CommandGroup}s, from a root with many siblings down to a leaf three groups deep.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class CommandGroupBenchmark {
+    private final CommandInput shallowInput = new ArgumentsInput("root sibling7 a b");
+    private final CommandInput deepInput = new ArgumentsInput("root region flag set pvp deny");
+    private CommandSender sender;
+    private CommandGroup<CommandSender> root;
+    private int executions;
+
+    @Setup
+    public void setup() {
+        sender = StandIns.console();
+        final Command<CommandSender> leaf = new Command.Builder<CommandSender>()
+                .executor((sender, input) -> executions += input.getArgumentLength())
+                .build();
+
+        root = new CommandGroup<>((sender, input) -> {});
+
+        for (int i = 0; i < 32; i++)
+            root.withCommand(leaf, "sibling" + i);
+
+        root.withCommand(new CommandGroup<>((sender, input) -> {})
+                .withCommand(new CommandGroup<>((sender, input) -> {})
+                        .withCommand(leaf, "set")
+                        .withCommand(leaf, "unset"), "flag")
+                .withCommand(leaf, "claim"), "region");
+    }
+
+    @Benchmark
+    public int dispatchShallow() {
+        root.execute(sender, shallowInput);
+        return executions;
+    }
+
+    @Benchmark
+    public int dispatchNested() {
+        root.execute(sender, deepInput);
+        return executions;
+    }
+}
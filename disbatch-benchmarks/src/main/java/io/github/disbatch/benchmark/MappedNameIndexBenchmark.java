@@ -0,0 +1,93 @@
+package io.github.disbatch.benchmark;
+
+import io.github.disbatch.command.parameter.SuggestionBuffer;
+import io.github.disbatch.command.parameter.model.player.MappedNameIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+/**
+ * Measures resolving a player's {@code UUID} by name, and suggesting names, through a {@link MappedNameIndex} of
+ * hundreds of thousands to millions of past players, along with opening the index.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class MappedNameIndexBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int playerCount = 1000000;
+
+    private Path directory;
+    private Path file;
+    private MappedNameIndex index;
+    private String name;
+    private String prefix;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("names");
+        file = directory.resolve("names.idx");
+
+        try (MappedNameIndex index = MappedNameIndex.open(file)) {
+            for (int i = 0; i < playerCount; i++)
+                index.record("Player_" + i, new UUID(i, i));
+
+            index.compact();
+        }
+
+        index = MappedNameIndex.open(file);
+        name = "player_" + playerCount / 2;
+        prefix = name.substring(0, name.length() - 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (final Path entry : files)
+                Files.deleteIfExists(entry);
+        }
+
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Object lookUpName() {
+        return index.getUniqueId(name);
+    }
+
+    @Benchmark
+    public int suggest() {
+        final SuggestionBuffer buffer = SuggestionBuffer.acquire(SuggestionBuffer.DEFAULT_LIMIT);
+
+        try {
+            index.suggest(prefix, buffer);
+            return buffer.size();
+        } finally {
+            buffer.release();
+        }
+    }
+
+    @Benchmark
+    public Object open() throws IOException {
+        try (MappedNameIndex opened = MappedNameIndex.open(file)) {
+            return opened;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package io.github.disbatch.benchmark;
+
+import io.github.disbatch.command.parameter.NumberScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares validating and converting coordinates and whole numbers with a {@link NumberScanner} against the regular
+ * expression check followed by a JDK parse that {@code NumericParameter} used before.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NumberScannerBenchmark {
+    private static final String NUMBER_REGEX = "-?\\d+(\\.\\d+)?";
+
+    private final String[] coordinates = {"128.5", "64", "-2048.25"};
+    private final String integer = "1234567";
+
+    @Benchmark
+    public double scanCoordinates() {
+        double sum = 0;
+
+        for (final String coordinate : coordinates)
+            sum += NumberScanner.scanDouble(coordinate);
+
+        return sum;
+    }
+
+    @Benchmark
+    public double regexCoordinates() {
+        double sum = 0;
+
+        for (final String coordinate : coordinates)
+            if (coordinate.matches(NUMBER_REGEX))
+                sum += Double.parseDouble(coordinate.contains(".") ? coordinate : coordinate + ".");
+
+        return sum;
+    }
+
+    @Benchmark
+    public long scanInteger() {
+        return NumberScanner.scanInt(integer);
+    }
+
+    @Benchmark
+    public int regexInteger() {
+        return !integer.contains(".") && integer.matches(NUMBER_REGEX) ? Integer.parseInt(integer) : 0;
+    }
+}
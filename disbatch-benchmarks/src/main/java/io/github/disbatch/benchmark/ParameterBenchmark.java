@@ -0,0 +1,87 @@
+package io.github.disbatch.benchmark;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.model.ArrayParameter;
+import io.github.disbatch.command.parameter.model.IntegerParameter;
+import io.github.disbatch.command.parameter.model.LocationFromWorldParameter;
+import io.github.disbatch.command.parameter.model.PairedParameter;
+import io.github.disbatch.command.parameter.model.UUIDParameter;
+import io.github.disbatch.command.parameter.model.enumeration.EnumConverters;
+import io.github.disbatch.command.parameter.model.enumeration.EnumParameter;
+import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing valid input with each of the {@code parameter.model} parsers.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParameterBenchmark {
+    private final CommandInput integerInput = new ArgumentsInput("cmd 1234567");
+    private final CommandInput uuidInput = new ArgumentsInput("cmd 2d6f3c1e-8b5a-4f7e-9c3d-1a2b3c4d5e6f");
+    private final CommandInput enumInput = new ArgumentsInput("cmd DIAMOND_SWORD");
+    private final CommandInput lowerCaseEnumInput = new ArgumentsInput("cmd diamond_sword");
+    private final CommandInput locationInput = new ArgumentsInput("cmd " + StandIns.WORLD_NAME + " 128.5 64 -2048.25");
+    private final CommandInput arrayInput = new ArgumentsInput("cmd 1 2 3 4 5 6 7 8");
+    private final CommandInput pairedInput = new ArgumentsInput("cmd 42 2d6f3c1e-8b5a-4f7e-9c3d-1a2b3c4d5e6f");
+
+    private final Parameter<CommandSender, ?> integer = new IntegerParameter();
+    private final Parameter<CommandSender, ?> uuid = new UUIDParameter();
+    private final Parameter<CommandSender, ?> enumeration = new EnumParameter<>(Material.class);
+    private final Parameter<CommandSender, ?> caseInsensitiveEnumeration = new EnumParameter<>(Material.class, EnumConverters.upperCaseInsensitive());
+    private final Parameter<CommandSender, ?> location = new LocationFromWorldParameter();
+    private final Parameter<CommandSender, ?> array = new ArrayParameter<>(new IntegerParameter(), Integer[]::new, 1, 8);
+    private final Parameter<CommandSender, ?> paired = new PairedParameter<>(new IntegerParameter(), new UUIDParameter());
+    private CommandSender sender;
+
+    @Setup
+    public void setup() {
+        StandIns.installServer();
+        sender = StandIns.console();
+    }
+
+    @Benchmark
+    public Object parseInteger() {
+        return integer.parse(sender, integerInput);
+    }
+
+    @Benchmark
+    public Object parseUUID() {
+        return uuid.parse(sender, uuidInput);
+    }
+
+    @Benchmark
+    public Object parseEnum() {
+        return enumeration.parse(sender, enumInput);
+    }
+
+    @Benchmark
+    public Object parseEnumIgnoringCase() {
+        return caseInsensitiveEnumeration.parse(sender, lowerCaseEnumInput);
+    }
+
+    @Benchmark
+    public Object parseLocation() {
+        return location.parse(sender, locationInput);
+    }
+
+    @Benchmark
+    public Object parseArray() {
+        return array.parse(sender, arrayInput);
+    }
+
+    @Benchmark
+    public Object parsePaired() {
+        return paired.parse(sender, pairedInput);
+    }
+}
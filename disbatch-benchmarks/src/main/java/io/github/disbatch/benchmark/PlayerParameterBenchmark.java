@@ -0,0 +1,117 @@
+package io.github.disbatch.benchmark;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.BufferedSuggester;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.SuggestionBuffer;
+import io.github.disbatch.command.parameter.Suggesters;
+import io.github.disbatch.command.parameter.model.PlayerFromNameParameter;
+import io.github.disbatch.command.parameter.model.PlayerFromUUIDParameter;
+import io.github.disbatch.command.parameter.model.player.OnlinePlayerIndex;
+import io.github.disbatch.command.parameter.model.player.PlayerParameter;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures resolving an online player by name, start of name and {@code UUID}, and suggesting the names of online
+ * players, with thousands of players online, comparing scans of every online player against lookups through an
+ * {@link OnlinePlayerIndex}.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PlayerParameterBenchmark {
+
+    @Param({"100", "2000", "5000"})
+    private int playerCount = 5000;
+
+    private final Parameter<CommandSender, Player> fromName = new PlayerFromNameParameter();
+    private final Parameter<CommandSender, Player> fromUUID = new PlayerFromUUIDParameter();
+    private final BufferedSuggester<CommandSender> suggester = Suggesters.ofOnlinePlayers();
+    private Parameter<CommandSender, Player> indexed;
+    private OnlinePlayerIndex index;
+    private CommandInput nameInput;
+    private CommandInput uuidInput;
+    private CommandInput prefixInput;
+    private String prefix;
+    private CommandSender sender;
+
+    @Setup
+    public void setup() {
+        StandIns.installServer();
+        StandIns.quitAll();
+        sender = StandIns.console();
+
+        index = new OnlinePlayerIndex();
+        Player target = null;
+
+        for (int i = 0; i < playerCount; i++) {
+            final Player player = StandIns.join("Player_" + i);
+
+            index.add(player);
+            if (i == playerCount / 2) target = player;
+        }
+
+        indexed = new PlayerParameter(index);
+        nameInput = new ArgumentsInput("cmd " + target.getName().toLowerCase());
+        uuidInput = new ArgumentsInput("cmd " + target.getUniqueId());
+        prefix = target.getName().substring(0, target.getName().length() - 1);
+        prefixInput = new ArgumentsInput("cmd " + prefix);
+    }
+
+    @Benchmark
+    public Object parseNameWithBukkit() {
+        return fromName.parse(sender, nameInput);
+    }
+
+    @Benchmark
+    public Object parseName() {
+        return indexed.parse(sender, nameInput);
+    }
+
+    @Benchmark
+    public Object parseUUIDWithBukkit() {
+        return fromUUID.parse(sender, uuidInput);
+    }
+
+    @Benchmark
+    public Object parseUUID() {
+        return indexed.parse(sender, uuidInput);
+    }
+
+    @Benchmark
+    public Object parsePrefixWithBukkit() {
+        return fromName.parse(sender, prefixInput);
+    }
+
+    @Benchmark
+    public Object parsePrefix() {
+        return index.getPlayerByPrefix(prefix);
+    }
+
+    @Benchmark
+    public int suggestWithBukkit() {
+        return suggester.getSuggestions(sender, prefixInput).size();
+    }
+
+    @Benchmark
+    public int suggest() {
+        final SuggestionBuffer buffer = SuggestionBuffer.acquire(SuggestionBuffer.DEFAULT_LIMIT);
+
+        try {
+            index.suggest(sender, prefix, buffer);
+            return buffer.size();
+        } finally {
+            buffer.release();
+        }
+    }
+}
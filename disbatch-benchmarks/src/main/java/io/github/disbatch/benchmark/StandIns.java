@@ -0,0 +1,172 @@
+package io.github.disbatch.benchmark;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+/**
+ * Creates stand-ins for the Bukkit types the benchmarks need, answering a fixed set of methods and returning default
+ * values for every other one.
+ */
+public final class StandIns {
+    public static final String WORLD_NAME = "world";
+
+    private static final World WORLD = of(World.class, answers("getName", WORLD_NAME, "getUID", UUID.randomUUID()));
+    private static final List<Player> ONLINE_PLAYERS = new ArrayList<>();
+    private static final Map<UUID, Player> ONLINE_PLAYERS_BY_UNIQUE_ID = new HashMap<>();
+    private static Server server;
+
+    private StandIns() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Answers a method of a stand-in based on the arguments it was called with.
+     */
+    @FunctionalInterface
+    public interface Answer {
+        Object answer(Object[] args);
+    }
+
+    /**
+     * Creates a stand-in for the given interface, answering methods by name from the given map. Values implementing
+     * {@link Answer} are called rather than returned.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T of(final Class<T> type, final Map<String, Object> answers) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
+            }
+
+            if (answers.containsKey(method.getName())) {
+                final Object answer = answers.get(method.getName());
+                return answer instanceof Answer ? ((Answer) answer).answer(args) : answer;
+            }
+
+            return defaultValue(method.getReturnType());
+        });
+    }
+
+    private static Object defaultValue(final Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) return null;
+        if (type == boolean.class) return false;
+        if (type == char.class) return '\0';
+        if (type == long.class) return 0L;
+        if (type == float.class) return 0F;
+        if (type == double.class) return 0D;
+        if (type == short.class) return (short) 0;
+        if (type == byte.class) return (byte) 0;
+
+        return 0;
+    }
+
+    public static Map<String, Object> answers(final Object... namesAndValues) {
+        final Map<String, Object> answers = new HashMap<>();
+
+        for (int i = 0; i < namesAndValues.length; i += 2)
+            answers.put((String) namesAndValues[i], namesAndValues[i + 1]);
+
+        return answers;
+    }
+
+    public static CommandSender console() {
+        return of(ConsoleCommandSender.class, answers("getName", "CONSOLE", "isOp", true, "hasPermission", true));
+    }
+
+    public static Player player(final String name) {
+        return of(Player.class, answers("getName", name, "getUniqueId", UUID.nameUUIDFromBytes(name.getBytes()), "isOnline", true,
+                "hasPermission", true, "getWorld", WORLD));
+    }
+
+    /**
+     * Creates a stand-in {@link Player} that the stand-in {@link Server} considers online.
+     */
+    public static Player join(final String name) {
+        final Player player = player(name);
+
+        ONLINE_PLAYERS.add(player);
+        ONLINE_PLAYERS_BY_UNIQUE_ID.put(player.getUniqueId(), player);
+        return player;
+    }
+
+    /**
+     * Removes every stand-in {@link Player} the stand-in {@link Server} considers online.
+     */
+    public static void quitAll() {
+        ONLINE_PLAYERS.clear();
+        ONLINE_PLAYERS_BY_UNIQUE_ID.clear();
+    }
+
+    public static Collection<Player> onlinePlayers() {
+        return ONLINE_PLAYERS;
+    }
+
+    public static World world() {
+        return WORLD;
+    }
+
+    /**
+     * Installs a stand-in {@link Server} knowing a single world, which parameters looking up worlds go through, and the
+     * {@link Player}s that {@link #join(String) joined}, which are looked up the way CraftBukkit does: by {@link UUID}
+     * through a map, and by name by scanning every online {@code Player}.
+     */
+    public static synchronized Server installServer() {
+        if (server == null) {
+            server = of(Server.class, answers("getName", "StandIn", "getVersion", "benchmark", "getBukkitVersion", "benchmark",
+                    "getLogger", Logger.getLogger("StandIn"), "getWorld", WORLD, "isPrimaryThread", true,
+                    "getOnlinePlayers", (Answer) args -> ONLINE_PLAYERS,
+                    "getPlayerExact", (Answer) args -> getPlayerExact((String) args[0]),
+                    "getPlayer", (Answer) args -> args[0] instanceof UUID
+                            ? ONLINE_PLAYERS_BY_UNIQUE_ID.get(args[0])
+                            : getPlayer((String) args[0])));
+            Bukkit.setServer(server);
+        }
+
+        return server;
+    }
+
+    private static Player getPlayerExact(final String name) {
+        for (final Player player : ONLINE_PLAYERS)
+            if (player.getName().equalsIgnoreCase(name)) return player;
+
+        return null;
+    }
+
+    private static Player getPlayer(final String name) {
+        final Player exact = getPlayerExact(name);
+        if (exact != null) return exact;
+
+        final String lowerName = name.toLowerCase();
+        Player found = null;
+        int delta = Integer.MAX_VALUE;
+
+        for (final Player player : ONLINE_PLAYERS) {
+            final String playerName = player.getName();
+
+            if (playerName.toLowerCase().startsWith(lowerName) && playerName.length() - lowerName.length() < delta) {
+                found = player;
+                delta = playerName.length() - lowerName.length();
+            }
+        }
+
+        return found;
+    }
+}
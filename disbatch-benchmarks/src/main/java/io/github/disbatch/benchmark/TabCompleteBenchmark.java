@@ -0,0 +1,100 @@
+package io.github.disbatch.benchmark;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+import io.github.disbatch.command.parameter.Suggester;
+import io.github.disbatch.command.parameter.Suggesters;
+import io.github.disbatch.command.parameter.SuggestionDictionary;
+import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Measures {@link ParameterizedCommand#tabComplete(CommandSender, CommandInput)} over the material names, filtered by
+ * the argument being typed, through each kind of suggester.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TabCompleteBenchmark {
+    private final CommandInput input = new ArgumentsInput("cmd dia");
+    private CommandSender sender;
+    private ParameterizedCommand<CommandSender, String> filteringList;
+    private ParameterizedCommand<CommandSender, String> immutable;
+    private ParameterizedCommand<CommandSender, String> buffered;
+    private ParameterizedCommand<CommandSender, String> dictionary;
+
+    @Setup
+    public void setup() {
+        sender = StandIns.console();
+        final List<String> names = new ArrayList<>();
+
+        for (final Material material : Material.values())
+            names.add(material.name().toLowerCase(Locale.ENGLISH));
+
+        final ImmutableList<String> diamondNames = ImmutableList.copyOf(names.stream()
+                .filter(name -> name.startsWith("dia"))
+                .toArray(String[]::new));
+
+        filteringList = command((sender, input) -> {
+            final List<String> suggestions = new ArrayList<>();
+
+            for (final String name : names)
+                if (name.startsWith(input.getArgument(0)))
+                    suggestions.add(name);
+
+            return suggestions;
+        });
+
+        immutable = command((sender, input) -> diamondNames);
+        buffered = command(Suggesters.matching(names));
+        dictionary = command(Suggesters.of(SuggestionDictionary.of(names), 64));
+    }
+
+    private static ParameterizedCommand<CommandSender, String> command(final Suggester<CommandSender> suggester) {
+        final Parameter<CommandSender, String> parameter = new Parameter.Builder<CommandSender, String>()
+                .parser((sender, input) -> input.getArgument(0))
+                .suggester(suggester)
+                .maximumUsage(1)
+                .build();
+
+        return new ParameterizedCommand.Builder<CommandSender, String>()
+                .parameter(parameter)
+                .invalidInputHandler((sender, input) -> {})
+                .executor((sender, argument, input) -> {})
+                .build();
+    }
+
+    @Benchmark
+    public List<String> filteringList() {
+        return filteringList.tabComplete(sender, input);
+    }
+
+    @Benchmark
+    public List<String> immutable() {
+        return immutable.tabComplete(sender, input);
+    }
+
+    @Benchmark
+    public List<String> buffered() {
+        return buffered.tabComplete(sender, input);
+    }
+
+    @Benchmark
+    public List<String> dictionary() {
+        return dictionary.tabComplete(sender, input);
+    }
+}
@@ -0,0 +1,340 @@
+package io.github.disbatch.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Generates a command tree class for every class annotated with {@code @CommandTree}, building its {@code CommandGroup}
+ * tree from the {@code @Subcommand} methods it declares.
+ *
+ * @see CommandTreeWriter
+ *
+ * @since 1.0.0
+ */
+@SupportedAnnotationTypes({CommandTreeProcessor.COMMAND_TREE, CommandTreeProcessor.SUBCOMMAND})
+public final class CommandTreeProcessor extends AbstractProcessor {
+    static final String COMMAND_TREE = "io.github.disbatch.command.annotation.CommandTree";
+    static final String SUBCOMMAND = "io.github.disbatch.command.annotation.Subcommand";
+
+    private static final String COMMAND_SENDER = "org.bukkit.command.CommandSender";
+    private static final String COMMAND_INPUT = "io.github.disbatch.command.CommandInput";
+    private static final String PARAMETER = "io.github.disbatch.command.parameter.Parameter";
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+        final TypeElement commandTree = processingEnv.getElementUtils().getTypeElement(COMMAND_TREE);
+        final TypeElement subcommand = processingEnv.getElementUtils().getTypeElement(SUBCOMMAND);
+        if (commandTree == null || subcommand == null) return false;
+
+        for (final Element element : roundEnv.getElementsAnnotatedWith(subcommand))
+            if (findAnnotation(element.getEnclosingElement(), COMMAND_TREE) == null)
+                error(element, "@Subcommand methods must be declared by a @CommandTree class");
+
+        for (final Element element : roundEnv.getElementsAnnotatedWith(commandTree)) {
+            if (element.getKind() != ElementKind.CLASS)
+                error(element, "@CommandTree can only be applied to classes");
+            else
+                processTree((TypeElement) element);
+        }
+
+        return true;
+    }
+
+    private void processTree(final TypeElement type) {
+        if (type.getModifiers().contains(Modifier.PRIVATE)) {
+            error(type, "@CommandTree classes must not be private");
+            return;
+        }
+
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+            error(type, "Nested @CommandTree classes must be static");
+            return;
+        }
+
+        final TypeElement senderElement = processingEnv.getElementUtils().getTypeElement(COMMAND_SENDER);
+        final TypeElement inputElement = processingEnv.getElementUtils().getTypeElement(COMMAND_INPUT);
+        final TypeElement parameterElement = processingEnv.getElementUtils().getTypeElement(PARAMETER);
+
+        if (senderElement == null || inputElement == null || parameterElement == null) {
+            error(type, "Spigot API and disbatch-spigot must be on the classpath to generate command trees");
+            return;
+        }
+
+        final SubcommandNode root = new SubcommandNode(getString(findAnnotation(type, COMMAND_TREE), "value"));
+        final List<TypeMirror> senderTypes = new ArrayList<>();
+        boolean valid = true;
+
+        for (final ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            final AnnotationMirror annotation = findAnnotation(method, SUBCOMMAND);
+            if (annotation == null) continue;
+
+            final SubcommandNode.Leaf leaf = createLeaf(method, annotation, senderElement.asType(), inputElement.asType(), parameterElement);
+
+            if (leaf == null || !insert(root, method, getString(annotation, "value"), leaf))
+                valid = false;
+            else
+                senderTypes.add(leaf.getSenderType());
+        }
+
+        if (!root.hasChildren()) {
+            if (valid) error(type, "@CommandTree classes must declare at least one @Subcommand method");
+            return;
+        }
+
+        if (!valid) return;
+
+        write(type, root, commonSenderType(senderTypes, senderElement.asType()));
+    }
+
+    private SubcommandNode.Leaf createLeaf(final ExecutableElement method, final AnnotationMirror annotation, final TypeMirror senderType,
+                                           final TypeMirror inputType, final TypeElement parameterElement) {
+        final Set<Modifier> modifiers = method.getModifiers();
+
+        if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+            error(method, "@Subcommand methods must not be private or static");
+            return null;
+        }
+
+        final TypeElement parameterType = getParameterType(annotation);
+        final List<? extends VariableElement> parameters = method.getParameters();
+        final int expectedCount = parameterType == null ? 2 : 3;
+
+        if (parameters.size() != expectedCount) {
+            error(method, parameterType == null
+                    ? "@Subcommand methods without a parameter must take a CommandSender and a CommandInput"
+                    : "@Subcommand methods with a parameter must take a CommandSender, the parsed argument and a CommandInput");
+            return null;
+        }
+
+        final TypeMirror methodSenderType = parameters.get(0).asType();
+
+        if (!processingEnv.getTypeUtils().isAssignable(methodSenderType, senderType)) {
+            error(parameters.get(0), "The first parameter of a @Subcommand method must be a CommandSender");
+            return null;
+        }
+
+        if (!processingEnv.getTypeUtils().isSameType(parameters.get(expectedCount - 1).asType(), inputType)) {
+            error(parameters.get(expectedCount - 1), "The last parameter of a @Subcommand method must be a CommandInput");
+            return null;
+        }
+
+        String argumentType = null;
+
+        if (parameterType != null) {
+            if (!isInstantiable(parameterType)) {
+                error(method, parameterType.getQualifiedName() + " must be a non-generic, concrete class with a public no-arguments constructor");
+                return null;
+            }
+
+            final DeclaredType parameterSupertype = findSupertype(parameterType.asType(), parameterElement);
+
+            if (parameterSupertype == null || parameterSupertype.getTypeArguments().size() != 2) {
+                error(method, parameterType.getQualifiedName() + " must implement Parameter with its sender and argument types");
+                return null;
+            }
+
+            final Types types = processingEnv.getTypeUtils();
+            final TypeMirror parameterSenderType = parameterSupertype.getTypeArguments().get(0);
+            final TypeMirror parsedType = parameterSupertype.getTypeArguments().get(1);
+            final TypeMirror argument = parameters.get(1).asType();
+
+            if (!types.isAssignable(methodSenderType, parameterSenderType)) {
+                error(parameters.get(0), parameterType.getQualifiedName() + " parses for senders of type " + parameterSenderType
+                        + ", which " + methodSenderType + " is not assignable to");
+                return null;
+            }
+
+            if (!types.isAssignable(parsedType, argument)) {
+                error(parameters.get(1), parameterType.getQualifiedName() + " parses " + parsedType
+                        + ", which is not assignable to " + argument);
+                return null;
+            }
+
+            argumentType = parsedType.toString();
+        }
+
+        return new SubcommandNode.Leaf(method, methodSenderType, getStrings(annotation, "aliases"), argumentType,
+                parameterType == null ? null : parameterType.getQualifiedName().toString(), getStrings(annotation, "usage"));
+    }
+
+    private boolean isInstantiable(final TypeElement type) {
+        if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) return false;
+        if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) return false;
+
+        for (final ExecutableElement constructor : ElementFilter.constructorsIn(type.getEnclosedElements()))
+            if (constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC))
+                return true;
+
+        return false;
+    }
+
+    /**
+     * Finds the supertype of a type whose erasure is the given type element, with the type arguments it is inherited
+     * with (e.g., {@code Parameter<CommandSender, Integer>} for a class extending {@code AbstractParameter}).
+     */
+    private DeclaredType findSupertype(final TypeMirror type, final TypeElement element) {
+        final Types types = processingEnv.getTypeUtils();
+
+        if (types.isSameType(types.erasure(type), types.erasure(element.asType())))
+            return (DeclaredType) type;
+
+        for (final TypeMirror supertype : types.directSupertypes(type)) {
+            final DeclaredType found = findSupertype(supertype, element);
+            if (found != null) return found;
+        }
+
+        return null;
+    }
+
+    private boolean insert(final SubcommandNode root, final ExecutableElement method, final String path, final SubcommandNode.Leaf leaf) {
+        final String[] labels = path.trim().split("\\s+");
+        SubcommandNode node = root;
+
+        if (labels[0].isEmpty()) {
+            error(method, "@Subcommand labels must not be empty");
+            return false;
+        }
+
+        for (int i = 0; i < labels.length; i++) {
+            SubcommandNode child = node.getChild(labels[i]);
+            final boolean last = i == labels.length - 1;
+
+            if (child == null)
+                child = node.addChild(labels[i]);
+            else if (child.isLeaf() || last) {
+                error(method, "Subcommand \"" + String.join(" ", labels) + "\" conflicts with " + describe(child));
+                return false;
+            }
+
+            node = child;
+        }
+
+        node.setLeaf(leaf);
+        return true;
+    }
+
+    private static String describe(final SubcommandNode node) {
+        return node.isLeaf()
+                ? node.getLeaf().getMethod().getSimpleName() + "()"
+                : "the subcommands nested under \"" + node.getLabel() + "\"";
+    }
+
+    private TypeMirror commonSenderType(final List<TypeMirror> senderTypes, final TypeMirror fallback) {
+        final TypeMirror first = senderTypes.get(0);
+
+        for (final TypeMirror senderType : senderTypes)
+            if (!processingEnv.getTypeUtils().isSameType(first, senderType))
+                return fallback;
+
+        return first;
+    }
+
+    private void write(final TypeElement type, final SubcommandNode root, final TypeMirror senderType) {
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String className = generatedName(type);
+        final String qualifiedName = packageName.isEmpty() ? className : packageName + "." + className;
+        final AnnotationMirror annotation = findAnnotation(type, COMMAND_TREE);
+
+        final CommandTreeWriter writer = new CommandTreeWriter(processingEnv, packageName, className, type, senderType, root)
+                .aliases(getStrings(annotation, "aliases"))
+                .description(getString(annotation, "description"))
+                .validSenderMessage(getString(annotation, "validSenderMessage"))
+                .usageMessage(getString(annotation, "usageMessage"));
+
+        try {
+            final JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+
+            try (Writer output = file.openWriter()) {
+                output.write(writer.write());
+            }
+        } catch (final IOException e) {
+            error(type, "Unable to write " + qualifiedName + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Names the generated class after the annotated one, flattening any enclosing classes (e.g., {@code Outer_Inner}).
+     */
+    private static String generatedName(final TypeElement type) {
+        final StringBuilder name = new StringBuilder(type.getSimpleName());
+
+        for (Element enclosing = type.getEnclosingElement(); enclosing.getKind().isClass(); enclosing = enclosing.getEnclosingElement())
+            name.insert(0, enclosing.getSimpleName() + "_");
+
+        return name.append("Tree").toString();
+    }
+
+    private TypeElement getParameterType(final AnnotationMirror annotation) {
+        final TypeMirror type = (TypeMirror) getValue(annotation, "parameter");
+        if (type.getKind() != TypeKind.DECLARED) return null;
+
+        final TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+        return element.getQualifiedName().contentEquals(PARAMETER) ? null : element;
+    }
+
+    private static AnnotationMirror findAnnotation(final Element element, final String name) {
+        for (final AnnotationMirror annotation : element.getAnnotationMirrors())
+            if (((TypeElement) annotation.getAnnotationType().asElement()).getQualifiedName().contentEquals(name))
+                return annotation;
+
+        return null;
+    }
+
+    private Object getValue(final AnnotationMirror annotation, final String name) {
+        final Map<? extends ExecutableElement, ? extends AnnotationValue> values = processingEnv.getElementUtils().getElementValuesWithDefaults(annotation);
+
+        for (final Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet())
+            if (entry.getKey().getSimpleName().contentEquals(name))
+                return entry.getValue().getValue();
+
+        throw new IllegalArgumentException("No element named " + name + " in " + annotation);
+    }
+
+    private String getString(final AnnotationMirror annotation, final String name) {
+        return (String) getValue(annotation, name);
+    }
+
+    private List<String> getStrings(final AnnotationMirror annotation, final String name) {
+        final List<?> values = (List<?>) getValue(annotation, name);
+        final List<String> strings = new ArrayList<>(values.size());
+
+        for (final Object value : values)
+            strings.add((String) ((AnnotationValue) value).getValue());
+
+        return Collections.unmodifiableList(strings);
+    }
+
+    private void error(final Element element, final String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+}
@@ -0,0 +1,312 @@
+package io.github.disbatch.processor;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Writes the source of a generated command tree class. Every {@code Subcommand} method gets its own nested class
+ * calling it directly, either implementing {@code Command} or, if it takes a parsed argument, extending
+ * {@code ParameterizedCommand}, or wrapping one once the sender has been checked if the method takes a narrower sender
+ * than the tree.
+ */
+final class CommandTreeWriter {
+    private static final String COMMAND = "io.github.disbatch.command.Command";
+    private static final String COMMAND_GROUP = "io.github.disbatch.command.CommandGroup";
+    private static final String COMMAND_INPUT = "io.github.disbatch.command.CommandInput";
+    private static final String COMMAND_DESCRIPTOR = "io.github.disbatch.command.descriptor.CommandDescriptor";
+    private static final String GENERIC_COMMAND_TOPIC = "io.github.disbatch.command.descriptor.GenericCommandTopic";
+    private static final String PARAMETERIZED_COMMAND = "io.github.disbatch.command.parameter.ParameterizedCommand";
+    private static final String PARAMETER_USAGES = "io.github.disbatch.command.parameter.ParameterUsages";
+    private static final String DISBATCH = "io.github.disbatch.Disbatch";
+
+    private final ProcessingEnvironment processingEnv;
+    private final String packageName;
+    private final String className;
+    private final String targetType;
+    private final String senderType;
+    private final TypeMirror senderTypeMirror;
+    private final SubcommandNode root;
+    private final StringBuilder source = new StringBuilder();
+    private final Map<SubcommandNode.Leaf, String> leafNames = new IdentityHashMap<>();
+    private final Set<String> takenNames = new HashSet<>();
+    private List<String> aliases = Collections.emptyList();
+    private String description;
+    private String validSenderMessage;
+    private String usageMessage;
+    private int groupCount;
+
+    CommandTreeWriter(final ProcessingEnvironment processingEnv, final String packageName, final String className, final TypeElement target,
+                      final TypeMirror senderType, final SubcommandNode root) {
+        this.processingEnv = processingEnv;
+        this.packageName = packageName;
+        this.className = className;
+        this.targetType = target.getQualifiedName().toString();
+        this.senderType = senderType.toString();
+        this.senderTypeMirror = senderType;
+        this.root = root;
+    }
+
+    CommandTreeWriter aliases(final List<String> aliases) {
+        this.aliases = aliases;
+        return this;
+    }
+
+    CommandTreeWriter description(final String description) {
+        this.description = description;
+        return this;
+    }
+
+    CommandTreeWriter validSenderMessage(final String validSenderMessage) {
+        this.validSenderMessage = validSenderMessage;
+        return this;
+    }
+
+    CommandTreeWriter usageMessage(final String usageMessage) {
+        this.usageMessage = usageMessage;
+        return this;
+    }
+
+    String write() {
+        if (!packageName.isEmpty())
+            line(0, "package " + packageName + ";").line(0, "");
+
+        line(0, "/**");
+        line(0, " * Generated by disbatch-processor from {@link " + targetType + "}; do not edit.");
+        line(0, " */");
+        line(0, "public final class " + className + " {");
+        line(1, "private static final String VALID_SENDER_MESSAGE = " + literal(validSenderMessage) + ";");
+        line(1, "private static final String USAGE_MESSAGE = " + literal(usageMessage) + ";");
+        line(0, "");
+        line(1, "private " + className + "() {");
+        line(2, "throw new AssertionError();");
+        line(1, "}");
+        line(0, "");
+        writeDescriptor();
+        writeCreate();
+        writeRegister();
+        writeLabel();
+
+        final List<SubcommandNode.Leaf> leaves = new ArrayList<>();
+        collectLeaves(root, leaves);
+
+        for (final SubcommandNode.Leaf leaf : leaves)
+            writeLeaf(leaf);
+
+        source.setLength(source.length() - 1);
+        return line(0, "}").toString();
+    }
+
+    private void writeDescriptor() {
+        line(1, "/**");
+        line(1, " * Creates the {@link " + COMMAND_DESCRIPTOR + "} of the command tree.");
+        line(1, " */");
+        line(1, "public static " + COMMAND_DESCRIPTOR + " descriptor() {");
+        line(2, "return new " + COMMAND_DESCRIPTOR + ".Builder()");
+        line(4, ".label(" + literal(root.getLabel()) + ")");
+        line(4, ".aliases(" + literals(aliases) + ")");
+        line(4, ".topic(new " + GENERIC_COMMAND_TOPIC + "(" + literal(description) + "))");
+        line(4, ".validSenderMessage(VALID_SENDER_MESSAGE)");
+        line(4, ".build();");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeCreate() {
+        line(1, "/**");
+        line(1, " * Creates the {@link " + COMMAND_GROUP + "} tree executing the subcommands of the given target.");
+        line(1, " */");
+        line(1, "public static " + COMMAND_GROUP + "<" + senderType + "> create(final " + targetType + " target) {");
+        line(2, "final " + COMMAND_GROUP + "<" + senderType + "> root = " + newGroup(root) + ";");
+        writeChildren(root, "root");
+        line(2, "return root;");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeChildren(final SubcommandNode node, final String variable) {
+        for (final SubcommandNode child : node.getChildren()) {
+            if (child.isLeaf()) {
+                final SubcommandNode.Leaf leaf = child.getLeaf();
+                line(2, variable + ".withCommand(new " + leafName(leaf) + "(target), label(" + literal(child.getLabel())
+                        + (leaf.getAliases().isEmpty() ? "" : ", " + literals(leaf.getAliases())) + "));");
+            } else {
+                final String groupVariable = "group" + groupCount++;
+                line(2, "final " + COMMAND_GROUP + "<" + senderType + "> " + groupVariable + " = " + newGroup(child) + ";");
+                writeChildren(child, groupVariable);
+                line(2, variable + ".withCommand(" + groupVariable + ", label(" + literal(child.getLabel()) + "));");
+            }
+        }
+    }
+
+    private String newGroup(final SubcommandNode node) {
+        final List<String> labels = new ArrayList<>();
+
+        for (final SubcommandNode child : node.getChildren())
+            labels.add(child.getLabel());
+
+        return "new " + COMMAND_GROUP + "<>(" + PARAMETER_USAGES + ".withChevrons(USAGE_MESSAGE, " + literal(String.join("|", labels)) + "))";
+    }
+
+    private void writeRegister() {
+        line(1, "/**");
+        line(1, " * Registers the command tree executing the subcommands of the given target.");
+        line(1, " */");
+        line(1, "public static void register(final " + targetType + " target) {");
+        line(2, DISBATCH + ".register(create(target), " + erasure(senderTypeMirror) + ".class, descriptor());");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void writeLabel() {
+        line(1, "private static " + COMMAND_DESCRIPTOR + " label(final String label, final String... aliases) {");
+        line(2, "return new " + COMMAND_DESCRIPTOR + ".Builder().label(label).aliases(aliases).build();");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private void collectLeaves(final SubcommandNode node, final List<SubcommandNode.Leaf> leaves) {
+        for (final SubcommandNode child : node.getChildren()) {
+            if (child.isLeaf()) leaves.add(child.getLeaf());
+            else collectLeaves(child, leaves);
+        }
+    }
+
+    private void writeLeaf(final SubcommandNode.Leaf leaf) {
+        final String name = leafName(leaf);
+        final boolean parameterized = leaf.getArgumentType() != null;
+        final boolean sameSender = processingEnv.getTypeUtils().isSameType(leaf.getSenderType(), senderTypeMirror);
+
+        if (parameterized && !sameSender) {
+            writeSenderCheckedLeaf(name, leaf);
+            return;
+        }
+
+        line(1, parameterized
+                ? "private static final class " + name + " extends " + PARAMETERIZED_COMMAND + "<" + senderType + ", " + leaf.getArgumentType() + "> {"
+                : "private static final class " + name + " implements " + COMMAND + "<" + senderType + "> {");
+        line(2, "private final " + targetType + " target;");
+        line(0, "");
+        line(2, "private " + name + "(final " + targetType + " target) {");
+
+        if (parameterized)
+            line(3, "super(new " + leaf.getParameterType() + "(), " + PARAMETER_USAGES + ".withChevrons(USAGE_MESSAGE" + prefixed(leaf.getUsage()) + "));");
+
+        line(3, "this.target = target;");
+        line(2, "}");
+        line(0, "");
+        line(2, "@Override");
+        line(2, parameterized
+                ? "protected void execute(final " + senderType + " sender, final " + leaf.getArgumentType() + " argument, final " + COMMAND_INPUT + " input) {"
+                : "public void execute(final " + senderType + " sender, final " + COMMAND_INPUT + " input) {");
+
+        final String arguments = parameterized ? ", argument, input)" : ", input)";
+        final String call = "target." + leaf.getMethod().getSimpleName() + "(";
+
+        if (sameSender)
+            line(3, call + "sender" + arguments + ";");
+        else {
+            line(3, "if (sender instanceof " + erasure(leaf.getSenderType()) + ")");
+            line(4, call + "(" + leaf.getSenderType() + ") sender" + arguments + ";");
+            line(3, "else if (!VALID_SENDER_MESSAGE.isEmpty())");
+            line(4, "sender.sendMessage(VALID_SENDER_MESSAGE);");
+        }
+
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+    }
+
+    /**
+     * Writes a leaf taking a parsed argument for a narrower sender than the tree, which checks the sender before the
+     * argument is parsed, so that its parameter only ever sees senders of the type it parses for.
+     */
+    private void writeSenderCheckedLeaf(final String name, final SubcommandNode.Leaf leaf) {
+        final String leafSenderType = leaf.getSenderType().toString();
+        final String check = "sender instanceof " + erasure(leaf.getSenderType());
+
+        line(1, "private static final class " + name + " implements " + COMMAND + "<" + senderType + "> {");
+        line(2, "private final " + COMMAND + "<" + leafSenderType + "> command;");
+        line(0, "");
+        line(2, "private " + name + "(final " + targetType + " target) {");
+        line(3, "command = new " + PARAMETERIZED_COMMAND + "<" + leafSenderType + ", " + leaf.getArgumentType() + ">(new " + leaf.getParameterType()
+                + "(), " + PARAMETER_USAGES + ".withChevrons(USAGE_MESSAGE" + prefixed(leaf.getUsage()) + ")) {");
+        line(4, "@Override");
+        line(4, "protected void execute(final " + leafSenderType + " sender, final " + leaf.getArgumentType() + " argument, final " + COMMAND_INPUT + " input) {");
+        line(5, "target." + leaf.getMethod().getSimpleName() + "(sender, argument, input);");
+        line(4, "}");
+        line(3, "};");
+        line(2, "}");
+        line(0, "");
+        line(2, "@Override");
+        line(2, "public void execute(final " + senderType + " sender, final " + COMMAND_INPUT + " input) {");
+        line(3, "if (" + check + ")");
+        line(4, "command.execute((" + leafSenderType + ") sender, input);");
+        line(3, "else if (!VALID_SENDER_MESSAGE.isEmpty())");
+        line(4, "sender.sendMessage(VALID_SENDER_MESSAGE);");
+        line(2, "}");
+        line(0, "");
+        line(2, "@Override");
+        line(2, "public java.util.List<String> tabComplete(final " + senderType + " sender, final " + COMMAND_INPUT + " input) {");
+        line(3, "return " + check);
+        line(5, "? command.tabComplete((" + leafSenderType + ") sender, input)");
+        line(5, ": new java.util.ArrayList<>();");
+        line(2, "}");
+        line(1, "}");
+        line(0, "");
+    }
+
+    private String leafName(final SubcommandNode.Leaf leaf) {
+        return leafNames.computeIfAbsent(leaf, key -> {
+            final String methodName = leaf.getMethod().getSimpleName().toString();
+            final String base = Character.toUpperCase(methodName.charAt(0)) + methodName.substring(1) + "Command";
+            String name = base;
+
+            for (int i = 2; name.equals(className) || !takenNames.add(name); i++)
+                name = base + i;
+
+            return name;
+        });
+    }
+
+    private String erasure(final TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String literal(final String value) {
+        return processingEnv.getElementUtils().getConstantExpression(value);
+    }
+
+    private String literals(final List<String> values) {
+        final List<String> literals = new ArrayList<>(values.size());
+
+        for (final String value : values)
+            literals.add(literal(value));
+
+        return String.join(", ", literals);
+    }
+
+    private String prefixed(final List<String> values) {
+        return values.isEmpty() ? "" : ", " + literals(values);
+    }
+
+    private CommandTreeWriter line(final int indent, final String line) {
+        for (int i = 0; i < indent; i++)
+            source.append("    ");
+
+        source.append(line).append('\n');
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return source.toString();
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.disbatch.processor;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.type.TypeMirror;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * A node of a command tree being generated, which is either a group of nested nodes or a leaf executing a single
+ * {@code Subcommand} method.
+ */
+final class SubcommandNode {
+    private final String label;
+    private final Map<String, SubcommandNode> children = new LinkedHashMap<>();
+    private Leaf leaf;
+
+    SubcommandNode(final String label) {
+        this.label = label;
+    }
+
+    String getLabel() {
+        return label;
+    }
+
+    boolean isLeaf() {
+        return leaf != null;
+    }
+
+    Leaf getLeaf() {
+        return leaf;
+    }
+
+    void setLeaf(final Leaf leaf) {
+        this.leaf = leaf;
+    }
+
+    SubcommandNode getChild(final String label) {
+        return children.get(label.toLowerCase(Locale.ENGLISH));
+    }
+
+    SubcommandNode addChild(final String label) {
+        final SubcommandNode child = new SubcommandNode(label);
+        children.put(label.toLowerCase(Locale.ENGLISH), child);
+        return child;
+    }
+
+    Iterable<SubcommandNode> getChildren() {
+        return Collections.unmodifiableCollection(children.values());
+    }
+
+    boolean hasChildren() {
+        return !children.isEmpty();
+    }
+
+    /**
+     * The {@code Subcommand} method a leaf executes, along with everything needed to generate code calling it.
+     */
+    static final class Leaf {
+        private final ExecutableElement method;
+        private final TypeMirror senderType;
+        private final List<String> aliases;
+        private final String argumentType;
+        private final String parameterType;
+        private final List<String> usage;
+
+        Leaf(final ExecutableElement method, final TypeMirror senderType, final List<String> aliases, final String argumentType, final String parameterType, final List<String> usage) {
+            this.method = method;
+            this.senderType = senderType;
+            this.aliases = aliases;
+            this.argumentType = argumentType;
+            this.parameterType = parameterType;
+            this.usage = usage;
+        }
+
+        ExecutableElement getMethod() {
+            return method;
+        }
+
+        TypeMirror getSenderType() {
+            return senderType;
+        }
+
+        List<String> getAliases() {
+            return aliases;
+        }
+
+        /**
+         * The type the parameter parses, which is assignable to the argument of the method, or {@code null} if the
+         * method takes none.
+         */
+        String getArgumentType() {
+            return argumentType;
+        }
+
+        String getParameterType() {
+            return parameterType;
+        }
+
+        List<String> getUsage() {
+            return usage;
+        }
+    }
+}
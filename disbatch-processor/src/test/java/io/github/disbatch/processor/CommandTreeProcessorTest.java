@@ -0,0 +1,217 @@
+package io.github.disbatch.processor;
+
+import com.google.testing.compile.Compilation;
+import com.google.testing.compile.Compiler;
+import com.google.testing.compile.JavaFileObjects;
+import org.junit.Test;
+
+import javax.tools.JavaFileObject;
+
+import static com.google.testing.compile.CompilationSubject.assertThat;
+
+public class CommandTreeProcessorTest {
+    private static final JavaFileObject PLAYER_PARAMETER = JavaFileObjects.forSourceLines("test.PlayerNameParameter",
+            "package test;",
+            "",
+            "import io.github.disbatch.command.CommandInput;",
+            "import io.github.disbatch.command.parameter.AbstractParameter;",
+            "import org.bukkit.entity.Player;",
+            "",
+            "public final class PlayerNameParameter extends AbstractParameter<Player, String> {",
+            "    public String parse(final Player sender, final CommandInput input) {",
+            "        return sender.getName();",
+            "    }",
+            "",
+            "    public int getMinimumUsage() {",
+            "        return 0;",
+            "    }",
+            "",
+            "    public int getMaximumUsage() {",
+            "        return 0;",
+            "    }",
+            "}");
+
+    private static final JavaFileObject ABSTRACT_PARAMETER = JavaFileObjects.forSourceLines("test.AbstractNameParameter",
+            "package test;",
+            "",
+            "import io.github.disbatch.command.parameter.AbstractParameter;",
+            "import org.bukkit.command.CommandSender;",
+            "",
+            "public abstract class AbstractNameParameter extends AbstractParameter<CommandSender, String> {",
+            "}");
+
+    @Test
+    public void testGeneratesTree() {
+        final Compilation compilation = compile(
+                "@Subcommand(\"help\")",
+                "void help(CommandSender sender, CommandInput input) {}",
+                "",
+                "@Subcommand(value = \"give\", parameter = IntegerParameter.class)",
+                "void give(CommandSender sender, int amount, CommandInput input) {}",
+                "",
+                "@Subcommand(value = \"set count\", parameter = IntegerParameter.class)",
+                "void setCount(CommandSender sender, Number count, CommandInput input) {}");
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.ExampleTree");
+    }
+
+    @Test
+    public void testGeneratesTreeWithNarrowerSenders() {
+        final Compilation compilation = compile(
+                "@Subcommand(\"help\")",
+                "void help(CommandSender sender, CommandInput input) {}",
+                "",
+                "@Subcommand(value = \"name\", parameter = PlayerNameParameter.class)",
+                "void name(Player sender, String name, CommandInput input) {}");
+
+        assertThat(compilation).succeeded();
+        assertThat(compilation).generatedSourceFile("test.ExampleTree")
+                .contentsAsUtf8String()
+                .contains("if (sender instanceof org.bukkit.entity.Player)");
+    }
+
+    @Test
+    public void testPrivateMethod() {
+        assertThat(compile(
+                "@Subcommand(\"help\")",
+                "private void help(CommandSender sender, CommandInput input) {}"))
+                .hadErrorContaining("@Subcommand methods must not be private or static");
+    }
+
+    @Test
+    public void testStaticMethod() {
+        assertThat(compile(
+                "@Subcommand(\"help\")",
+                "static void help(CommandSender sender, CommandInput input) {}"))
+                .hadErrorContaining("@Subcommand methods must not be private or static");
+    }
+
+    @Test
+    public void testMissingArgument() {
+        assertThat(compile(
+                "@Subcommand(value = \"give\", parameter = IntegerParameter.class)",
+                "void give(CommandSender sender, CommandInput input) {}"))
+                .hadErrorContaining("@Subcommand methods with a parameter must take a CommandSender, the parsed argument and a CommandInput");
+    }
+
+    @Test
+    public void testUnexpectedArgument() {
+        assertThat(compile(
+                "@Subcommand(\"give\")",
+                "void give(CommandSender sender, int amount, CommandInput input) {}"))
+                .hadErrorContaining("@Subcommand methods without a parameter must take a CommandSender and a CommandInput");
+    }
+
+    @Test
+    public void testFirstParameterNotSender() {
+        assertThat(compile(
+                "@Subcommand(\"help\")",
+                "void help(String sender, CommandInput input) {}"))
+                .hadErrorContaining("The first parameter of a @Subcommand method must be a CommandSender");
+    }
+
+    @Test
+    public void testLastParameterNotInput() {
+        assertThat(compile(
+                "@Subcommand(\"help\")",
+                "void help(CommandSender sender, String input) {}"))
+                .hadErrorContaining("The last parameter of a @Subcommand method must be a CommandInput");
+    }
+
+    @Test
+    public void testParameterNotInstantiable() {
+        assertThat(compile(
+                "@Subcommand(value = \"name\", parameter = AbstractNameParameter.class)",
+                "void name(CommandSender sender, String name, CommandInput input) {}"))
+                .hadErrorContaining("test.AbstractNameParameter must be a non-generic, concrete class with a public no-arguments constructor");
+    }
+
+    @Test
+    public void testArgumentNotAssignable() {
+        assertThat(compile(
+                "@Subcommand(value = \"give\", parameter = IntegerParameter.class)",
+                "void give(CommandSender sender, String amount, CommandInput input) {}"))
+                .hadErrorContaining("IntegerParameter parses java.lang.Integer, which is not assignable to java.lang.String");
+    }
+
+    @Test
+    public void testSenderNotAssignable() {
+        assertThat(compile(
+                "@Subcommand(value = \"name\", parameter = PlayerNameParameter.class)",
+                "void name(CommandSender sender, String name, CommandInput input) {}"))
+                .hadErrorContaining("test.PlayerNameParameter parses for senders of type org.bukkit.entity.Player, "
+                        + "which org.bukkit.command.CommandSender is not assignable to");
+    }
+
+    @Test
+    public void testEmptyLabel() {
+        assertThat(compile(
+                "@Subcommand(\" \")",
+                "void help(CommandSender sender, CommandInput input) {}"))
+                .hadErrorContaining("@Subcommand labels must not be empty");
+    }
+
+    @Test
+    public void testConflictingLabels() {
+        assertThat(compile(
+                "@Subcommand(\"set\")",
+                "void set(CommandSender sender, CommandInput input) {}",
+                "",
+                "@Subcommand(\"set count\")",
+                "void setCount(CommandSender sender, CommandInput input) {}"))
+                .hadErrorContaining("Subcommand \"set count\" conflicts with set()");
+    }
+
+    @Test
+    public void testNoSubcommands() {
+        assertThat(compile("void help(CommandSender sender, CommandInput input) {}"))
+                .hadErrorContaining("@CommandTree classes must declare at least one @Subcommand method");
+    }
+
+    @Test
+    public void testSubcommandOutsideTree() {
+        final Compilation compilation = Compiler.javac()
+                .withProcessors(new CommandTreeProcessor())
+                .compile(JavaFileObjects.forSourceLines("test.Example",
+                        "package test;",
+                        "",
+                        "import io.github.disbatch.command.CommandInput;",
+                        "import io.github.disbatch.command.annotation.Subcommand;",
+                        "import org.bukkit.command.CommandSender;",
+                        "",
+                        "public class Example {",
+                        "    @Subcommand(\"help\")",
+                        "    void help(CommandSender sender, CommandInput input) {}",
+                        "}"));
+
+        assertThat(compilation).hadErrorContaining("@Subcommand methods must be declared by a @CommandTree class");
+    }
+
+    private static Compilation compile(final String... members) {
+        final String[] lines = new String[members.length + 13];
+        int i = 0;
+
+        lines[i++] = "package test;";
+        lines[i++] = "";
+        lines[i++] = "import io.github.disbatch.command.CommandInput;";
+        lines[i++] = "import io.github.disbatch.command.annotation.CommandTree;";
+        lines[i++] = "import io.github.disbatch.command.annotation.Subcommand;";
+        lines[i++] = "import io.github.disbatch.command.parameter.model.IntegerParameter;";
+        lines[i++] = "import org.bukkit.command.CommandSender;";
+        lines[i++] = "import org.bukkit.entity.Player;";
+        lines[i++] = "";
+        lines[i++] = "@CommandTree(\"example\")";
+        lines[i++] = "public class Example {";
+
+        for (final String member : members)
+            lines[i++] = "    " + member;
+
+        lines[i++] = "}";
+        lines[i] = "";
+
+        return Compiler.javac()
+                .withProcessors(new CommandTreeProcessor())
+                .compile(JavaFileObjects.forSourceLines("test.Example", lines), PLAYER_PARAMETER, ABSTRACT_PARAMETER);
+    }
+}
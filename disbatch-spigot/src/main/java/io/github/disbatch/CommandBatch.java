@@ -0,0 +1,127 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.descriptor.CommandDescriptor;
+import io.github.disbatch.command.exception.CommandRegistrationException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Collects any number of {@link Command}s to be registered to the Spigot Minecraft server at once. Labels and aliases
+ * are checked for collisions, both within the {@code CommandBatch} and against the server's existing commands, before
+ * anything is registered, and should registering fail partway through, every command registered by the batch is
+ * rolled back.
+ * <br>
+ * <br>
+ * As the server registers a batch under a single fallback prefix, its commands can also be executed as
+ * {@code /disbatch:<label>}, whereas a {@code Command} registered on its own through {@link Disbatch} falls back to
+ * {@code /<label>:<label>}.
+ * <br>
+ * <br>
+ * A registered {@code CommandBatch} can later be unregistered as a whole, such as when its plugin is disabled.
+ *
+ * @see Disbatch#batch()
+ *
+ * @since 1.0.0
+ */
+public final class CommandBatch {
+    private final CommandRegistrar registrar;
+    private final List<Entry> entries = new ArrayList<>();
+    private boolean registered;
+
+    CommandBatch(final CommandRegistrar registrar) {
+        this.registrar = registrar;
+    }
+
+    /**
+     * Adds a {@link Command} to be registered with the {@code CommandBatch}.
+     *
+     * @param command the {@code Command} to be registered.
+     * @param label   the label that should be used to execute the {@code Command}.
+     * @return the {@code CommandBatch} instance.
+     * @see #add(Command, CommandDescriptor)
+     */
+    public CommandBatch add(final @NotNull Command<?> command, final @NotNull String label) {
+        return add(command, new CommandDescriptor.Builder().label(label).build());
+    }
+
+    /**
+     * Adds a {@link Command} to be registered with the {@code CommandBatch}.
+     *
+     * @param command    the {@code Command} to be registered.
+     * @param descriptor the {@link CommandDescriptor} aiding in providing usage help in the server's {@code /help} menu.
+     * @return the {@code CommandBatch} instance.
+     * @throws CommandRegistrationException if the {@code CommandBatch} has already been registered.
+     */
+    public CommandBatch add(final @NotNull Command<?> command, final @NotNull CommandDescriptor descriptor) {
+        if (registered) throw new CommandRegistrationException("CommandBatch has already been registered");
+
+        entries.add(new Entry(new TypedCommandProxy(command, descriptor), descriptor));
+        return this;
+    }
+
+    /**
+     * Registers every {@link Command} added to the {@code CommandBatch}, or none of them if any cannot be registered.
+     *
+     * @throws CommandRegistrationException if the {@code CommandBatch} has already been registered, if a label or alias
+     *                                      is used more than once or is already used by the server, or if registering
+     *                                      fails.
+     */
+    public void register() {
+        if (registered) throw new CommandRegistrationException("CommandBatch has already been registered");
+
+        registrar.registerAll(Collections.unmodifiableList(entries));
+        registered = true;
+    }
+
+    /**
+     * Unregisters every {@link Command} registered by the {@code CommandBatch}, if it has been registered.
+     */
+    public void unregister() {
+        if (!registered) return;
+
+        for (final Entry entry : entries)
+            registrar.unregister(entry.descriptor.getLabel());
+
+        registered = false;
+    }
+
+    /**
+     * Retrieves the number of {@link Command}s added to the {@code CommandBatch}.
+     *
+     * @return the command amount.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Determines if the {@code CommandBatch} is currently registered.
+     *
+     * @return {@code true} if the batch is registered, otherwise {@code false}.
+     */
+    public boolean isRegistered() {
+        return registered;
+    }
+
+    static final class Entry {
+        private final TypedCommandProxy typedCommand;
+        private final CommandDescriptor descriptor;
+
+        private Entry(final TypedCommandProxy typedCommand, final CommandDescriptor descriptor) {
+            this.typedCommand = typedCommand;
+            this.descriptor = descriptor;
+        }
+
+        TypedCommandProxy getTypedCommand() {
+            return typedCommand;
+        }
+
+        CommandDescriptor getDescriptor() {
+            return descriptor;
+        }
+    }
+}
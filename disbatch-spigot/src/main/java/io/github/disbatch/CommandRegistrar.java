@@ -2,6 +2,12 @@ package io.github.disbatch;
 
 import io.github.disbatch.command.descriptor.CommandDescriptor;
 
+import java.util.List;
+
 interface CommandRegistrar {
     void register(TypedCommandProxy typedCommand, CommandDescriptor descriptor);
+
+    void registerAll(List<CommandBatch.Entry> entries);
+
+    boolean unregister(String label);
 }
@@ -2,10 +2,12 @@ package io.github.disbatch;
 
 import io.github.disbatch.command.Command;
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.TokenizedCommandInput;
 import io.github.disbatch.command.descriptor.CommandDescriptor;
 import io.github.disbatch.command.exception.CommandExecutionException;
 import io.github.disbatch.command.exception.CommandRegistrationException;
 import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
@@ -41,7 +43,43 @@ public final class Disbatch {
      * @see Disbatch#register(Command, String)
      */
     public static void register(final @NotNull Command<?> command, final @NotNull CommandDescriptor descriptor) {
-        REGISTRAR.register(new TypedCommandProxy(command, descriptor.getValidSenderMessage()), descriptor);
+        REGISTRAR.register(new TypedCommandProxy(command, descriptor), descriptor);
+    }
+
+    /**
+     * Registers a {@link Command} accepting the given type of {@link CommandSender} to be used on the Spigot Minecraft
+     * server, without reflecting on the generic type arguments of the {@code Command} to determine it. This is what
+     * command trees generated by the {@code disbatch-processor} annotation processor use.
+     *
+     * @param command the {@code Command} to be registered.
+     * @param senderType the type of {@code CommandSender} able to execute the {@code Command}.
+     * @param descriptor the {@link CommandDescriptor} aiding in providing usage help in the server's {@code /help} menu.
+     * @param <S> the type of {@code CommandSender} able to execute the {@code Command}.
+     * @see Disbatch#register(Command, CommandDescriptor)
+     */
+    public static <S extends CommandSender> void register(final @NotNull Command<? super S> command, final @NotNull Class<S> senderType, final @NotNull CommandDescriptor descriptor) {
+        REGISTRAR.register(new TypedCommandProxy(command, senderType, descriptor), descriptor);
+    }
+
+    /**
+     * Creates a new {@link CommandBatch} for registering any number of {@link Command}s to the Spigot Minecraft server
+     * at once.
+     *
+     * @return the created {@code CommandBatch}.
+     */
+    public static CommandBatch batch() {
+        return new CommandBatch(REGISTRAR);
+    }
+
+    /**
+     * Unregisters a {@link Command} previously registered to the Spigot Minecraft server, along with its aliases and
+     * help topic. Commands registered through a plugin.yml file are left untouched.
+     *
+     * @param label the label of the {@code Command} to be unregistered.
+     * @return {@code true} if a {@code Command} was unregistered, otherwise {@code false}.
+     */
+    public static boolean unregister(final @NotNull String label) {
+        return REGISTRAR.unregister(label);
     }
 
     /**
@@ -71,16 +109,16 @@ public final class Disbatch {
 
     private static void setupPluginCommandExecution(final Command<?> command, final CommandDescriptor descriptor, final JavaPlugin plugin) {
         final PluginCommand pluginCommand = getExistingPluginCommand(plugin, descriptor.getLabel());
-        final TypedCommandProxy proxy = new TypedCommandProxy(command, descriptor.getValidSenderMessage());
+        final TypedCommandProxy proxy = new TypedCommandProxy(command, descriptor);
 
         pluginCommand.setExecutor((sender, serverCommand, label, args) -> {
             if (sender == null) throw new CommandExecutionException("CommandSender is null");
-            proxy.execute(sender, computeInput(label, args));
+            proxy.execute(sender, computeInput(label, args, descriptor));
             return true;
         });
 
         pluginCommand.setTabCompleter((sender, serverCommand, label, args)
-                -> proxy.tabComplete(sender, computeInput(label, args)));
+                -> proxy.tabComplete(sender, computeInput(label, args, descriptor)));
     }
 
     private static PluginCommand getExistingPluginCommand(final JavaPlugin plugin, final String commandLabel) {
@@ -93,7 +131,7 @@ public final class Disbatch {
         return pluginCommand;
     }
 
-    private static CommandInput computeInput(final String label, final String[] args) {
-        return args.length > 0 ? new LazyLoadingCommandInput(args, label) : new SingleLabelCommandInput(label);
+    private static CommandInput computeInput(final String label, final String[] args, final CommandDescriptor descriptor) {
+        return descriptor.hasQuotedArguments() ? TokenizedCommandInput.quoted(label, args) : TokenizedCommandInput.of(label, args);
     }
 }
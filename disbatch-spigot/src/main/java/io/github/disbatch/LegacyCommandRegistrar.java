@@ -1,23 +1,39 @@
 package io.github.disbatch;
 
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.TokenizedCommandInput;
 import io.github.disbatch.command.descriptor.CommandDescriptor;
 import io.github.disbatch.command.exception.CommandException;
 import io.github.disbatch.command.exception.CommandExecutionException;
+import io.github.disbatch.command.exception.CommandRegistrationException;
 import org.bukkit.Server;
 import org.bukkit.command.CommandMap;
 import org.bukkit.command.CommandSender;
+import org.bukkit.help.HelpMap;
 import org.bukkit.plugin.PluginManager;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
-import java.util.stream.Stream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 class LegacyCommandRegistrar implements CommandRegistrar {
+    /**
+     * Shared by the commands of a batch, since {@link CommandMap#registerAll(String, List)} takes a single prefix,
+     * whereas commands registered one at a time keep their label as prefix.
+     */
+    private static final String FALLBACK_PREFIX = "disbatch";
+
     private final CommandMap serverCommandMap;
     private final Server server;
+    private final Map<String, CommandAdapter> registeredAdapters = new HashMap<>();
+    private Map<String, org.bukkit.command.Command> knownCommands;
 
     LegacyCommandRegistrar(final Server server) {
         try {
@@ -28,24 +44,21 @@ class LegacyCommandRegistrar implements CommandRegistrar {
         }
     }
 
-    private Field getCommandMapField(final PluginManager pluginManager) throws ReflectiveOperationException {
+    private Field getCommandMapField(final PluginManager pluginManager) {
         final Class<? extends PluginManager> pluginManagerClass = pluginManager.getClass();
-        final Stream<Field> stream = Arrays.stream(pluginManagerClass.getDeclaredFields())
-                .filter(field -> CommandMap.class.isAssignableFrom(field.getType()));
+        final List<Field> fields = Arrays.stream(pluginManagerClass.getDeclaredFields())
+                .filter(field -> CommandMap.class.isAssignableFrom(field.getType()))
+                .collect(Collectors.toList());
 
-        return extractCommandMapField(stream, pluginManagerClass);
-    }
+        if (fields.isEmpty())
+            throw new CommandException("No CommandMap field found in " + pluginManagerClass.getName());
 
-    private static Field extractCommandMapField(final Stream<Field> stream, final Class<? extends PluginManager> pluginManagerClass) {
-        if (stream.count() != 1)
+        if (fields.size() != 1)
             throw new CommandException("More than one CommandMap field found in " + pluginManagerClass.getName());
 
-        final Optional<Field> optionalField = stream.findFirst();
-
-        if (!optionalField.isPresent())
-            throw new CommandException("CommandMap field from " + pluginManagerClass.getName() + " is null");
-
-        return optionalField.get();
+        final Field field = fields.get(0);
+        field.setAccessible(true);
+        return field;
     }
 
     @Override
@@ -54,14 +67,117 @@ class LegacyCommandRegistrar implements CommandRegistrar {
         final CommandAdapter adapter = new CommandAdapter(typedCommand, descriptor);
         serverCommandMap.register(label, adapter);
         server.getHelpMap().addTopic(new CommandTopicAdapter(label, descriptor.getTopic()));
+        registeredAdapters.put(label.toLowerCase(Locale.ENGLISH), adapter);
+    }
+
+    @Override
+    public void registerAll(final List<CommandBatch.Entry> entries) {
+        validate(entries);
+
+        final List<org.bukkit.command.Command> adapters = new ArrayList<>(entries.size());
+
+        // Tracked before reaching the server, so that an entry failing partway through can be undone as well
+        for (final CommandBatch.Entry entry : entries) {
+            final CommandAdapter adapter = new CommandAdapter(entry.getTypedCommand(), entry.getDescriptor());
+            registeredAdapters.put(entry.getDescriptor().getLabel().toLowerCase(Locale.ENGLISH), adapter);
+            adapters.add(adapter);
+        }
+
+        try {
+            serverCommandMap.registerAll(FALLBACK_PREFIX, adapters);
+
+            for (final CommandBatch.Entry entry : entries) {
+                final CommandDescriptor descriptor = entry.getDescriptor();
+                server.getHelpMap().addTopic(new CommandTopicAdapter(descriptor.getLabel(), descriptor.getTopic()));
+            }
+        } catch (final RuntimeException e) {
+            for (final CommandBatch.Entry entry : entries) {
+                try {
+                    unregister(entry.getDescriptor().getLabel());
+                } catch (final RuntimeException rollbackFailure) {
+                    e.addSuppressed(rollbackFailure);
+                }
+            }
+
+            throw new CommandRegistrationException("Registering batch failed, rolled back " + entries.size() + " command(s)", e);
+        }
+    }
+
+    private void validate(final List<CommandBatch.Entry> entries) {
+        final Set<String> names = new HashSet<>();
+
+        for (final CommandBatch.Entry entry : entries) {
+            final CommandDescriptor descriptor = entry.getDescriptor();
+            validateName(names, descriptor.getLabel());
+
+            for (final String alias : descriptor.getAliases())
+                validateName(names, alias);
+        }
+    }
+
+    private void validateName(final Set<String> names, final String name) {
+        if (!names.add(name.toLowerCase(Locale.ENGLISH)))
+            throw new CommandRegistrationException(String.format("Command \"%s\" is used more than once in the batch", name));
+
+        if (serverCommandMap.getCommand(name) != null)
+            throw new CommandRegistrationException(String.format("Command \"%s\" is already registered", name));
+    }
+
+    @Override
+    public boolean unregister(final String label) {
+        final CommandAdapter adapter = registeredAdapters.remove(label.toLowerCase(Locale.ENGLISH));
+        if (adapter == null) return false;
+
+        getKnownCommands().values().removeIf(command -> command == adapter);
+        adapter.unregister(serverCommandMap);
+        removeHelpTopic(server.getHelpMap(), "/" + label);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, org.bukkit.command.Command> getKnownCommands() {
+        if (knownCommands == null) {
+            try {
+                knownCommands = (Map<String, org.bukkit.command.Command>) findMapField(serverCommandMap.getClass(), "knownCommands").get(serverCommandMap);
+            } catch (final ReflectiveOperationException e) {
+                throw new CommandRegistrationException("Unregistering commands is unsupported by " + serverCommandMap.getClass().getName(), e);
+            }
+        }
+
+        return knownCommands;
+    }
+
+    /**
+     * The {@code HelpMap} API offers no way of removing topics, so this is done on a best-effort basis.
+     */
+    private static void removeHelpTopic(final HelpMap helpMap, final String name) {
+        try {
+            ((Map<?, ?>) findMapField(helpMap.getClass(), "helpTopics").get(helpMap)).remove(name);
+        } catch (final ReflectiveOperationException | UnsupportedOperationException ignored) {
+        }
+    }
+
+    private static Field findMapField(final Class<?> type, final String name) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            for (final Field field : current.getDeclaredFields()) {
+                if (field.getName().equals(name) && Map.class.isAssignableFrom(field.getType())) {
+                    field.setAccessible(true);
+                    return field;
+                }
+            }
+        }
+
+        throw new NoSuchFieldException(name + " in " + type.getName());
     }
 
     private static class CommandAdapter extends org.bukkit.command.Command {
         private final TypedCommandProxy typedCommand;
+        private final boolean quotedArguments;
 
         private CommandAdapter(final TypedCommandProxy typedCommand, final CommandDescriptor descriptor) {
             super(descriptor.getLabel());
             this.typedCommand = typedCommand;
+            quotedArguments = descriptor.hasQuotedArguments();
 
             setAliases(descriptor.getAliases());
         }
@@ -76,7 +192,7 @@ class LegacyCommandRegistrar implements CommandRegistrar {
         }
 
         private CommandInput computeInput(final String label, final String[] args) {
-            return args.length > 0 ? new LazyLoadingCommandInput(args, label) : new SingleLabelCommandInput(label);
+            return quotedArguments ? TokenizedCommandInput.quoted(label, args) : TokenizedCommandInput.of(label, args);
         }
 
         @Override
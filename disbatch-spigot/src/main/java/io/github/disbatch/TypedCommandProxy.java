@@ -5,7 +5,12 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.reflect.TypeToken;
 import io.github.disbatch.command.Command;
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.SenderSpecificCommand;
+import io.github.disbatch.command.TokenizedCommandInput;
 import io.github.disbatch.command.decorator.CommandProxy;
+import io.github.disbatch.command.descriptor.CommandDescriptor;
+import io.github.disbatch.command.instrument.CommandMetrics;
+import io.github.disbatch.command.instrument.CommandWatchdog;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
@@ -14,14 +19,50 @@ import java.lang.reflect.Type;
 import java.util.List;
 
 class TypedCommandProxy extends CommandProxy<CommandSender> {
-    private final Class<?> senderType;
+    private final String label;
     private final String validSenderMessage;
+    private final ClassValue<Command<CommandSender>> dispatchTable;
 
+    TypedCommandProxy(final Command<?> innerCommand, final CommandDescriptor descriptor) {
+        this(innerCommand, null, descriptor);
+    }
+
+    /**
+     * Uses the given sender type as is, rather than reflecting on the generic type arguments of the command, unless it
+     * is {@code null}.
+     */
     @SuppressWarnings("unchecked")
-    TypedCommandProxy(final Command<?> innerCommand, final String validSenderMessage) {
+    TypedCommandProxy(final Command<?> innerCommand, final Class<? extends CommandSender> senderType, final CommandDescriptor descriptor) {
         super((Command<CommandSender>) innerCommand);
-        senderType = extractSenderType(innerCommand);
-        this.validSenderMessage = validSenderMessage;
+        label = descriptor.getLabel();
+        validSenderMessage = descriptor.getValidSenderMessage();
+        dispatchTable = createDispatchTable((Command<CommandSender>) innerCommand, senderType);
+    }
+
+    /**
+     * Caches, per concrete sender class, the {@link Command} a sender of that class is dispatched to, or {@code null}
+     * if it is not a valid sender.
+     */
+    private ClassValue<Command<CommandSender>> createDispatchTable(final Command<CommandSender> command, final Class<?> knownSenderType) {
+        if (command instanceof SenderSpecificCommand) {
+            final SenderSpecificCommand senderSpecificCommand = (SenderSpecificCommand) command;
+
+            return new ClassValue<Command<CommandSender>>() {
+                @Override
+                protected Command<CommandSender> computeValue(final Class<?> type) {
+                    return senderSpecificCommand.resolve(type);
+                }
+            };
+        }
+
+        final Class<?> senderType = knownSenderType != null ? knownSenderType : extractSenderType(command);
+
+        return new ClassValue<Command<CommandSender>>() {
+            @Override
+            protected Command<CommandSender> computeValue(final Class<?> type) {
+                return senderType.isAssignableFrom(type) ? command : null;
+            }
+        };
     }
 
     private Class<?> extractSenderType(final Command<?> command) {
@@ -39,18 +80,50 @@ class TypedCommandProxy extends CommandProxy<CommandSender> {
 
     @Override
     public void execute(final CommandSender sender, final CommandInput input) {
+        final Command<CommandSender> command = dispatchTable.get(sender.getClass());
         final String validSenderMessage = this.validSenderMessage;
 
-        if (senderType.isAssignableFrom(sender.getClass()))
-            super.execute(sender, input);
+        if (command != null)
+            executeObserved(command, sender, input);
         else if (!Strings.isNullOrEmpty(validSenderMessage))
             sender.sendMessage(validSenderMessage);
     }
 
+    /**
+     * Executes the {@link Command} while it is being recorded by the {@link CommandMetrics} and watched by the
+     * {@link CommandWatchdog}, either of which may be disabled. Metrics are recorded by the label the {@code Command}
+     * was registered with, whichever alias was typed.
+     */
+    private void executeObserved(final Command<CommandSender> command, final CommandSender sender, final CommandInput input) {
+        final CommandMetrics metrics = CommandMetrics.global();
+        final boolean recorded = metrics.isEnabled();
+        final CommandInput observedInput = recorded ? TokenizedCommandInput.from(input).withCommandPath(label) : input;
+        final CommandWatchdog.Watch watch = CommandWatchdog.global().beginExecution(sender, observedInput);
+        final long start = recorded ? System.nanoTime() : 0;
+
+        try {
+            command.execute(sender, observedInput);
+        } finally {
+            if (watch != null) watch.end();
+            if (recorded) metrics.recordExecution(label, System.nanoTime() - start);
+        }
+    }
+
     @Override
     public List<String> tabComplete(final CommandSender sender, final @NotNull CommandInput input) {
-        return senderType.isAssignableFrom(sender.getClass())
-                ? super.tabComplete(sender, input)
-                : ImmutableList.of();
+        final Command<CommandSender> command = dispatchTable.get(sender.getClass());
+        if (command == null) return ImmutableList.of();
+
+        final CommandMetrics metrics = CommandMetrics.global();
+        final boolean recorded = metrics.isEnabled();
+        final CommandWatchdog.Watch watch = CommandWatchdog.global().beginTabCompletion(sender, input);
+        final long start = recorded ? System.nanoTime() : 0;
+
+        try {
+            return command.tabComplete(sender, input);
+        } finally {
+            if (watch != null) watch.end();
+            if (recorded) metrics.recordTabComplete(label, System.nanoTime() - start);
+        }
     }
 }
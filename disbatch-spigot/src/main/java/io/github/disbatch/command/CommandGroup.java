@@ -1,29 +1,46 @@
 package io.github.disbatch.command;
 
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.decorator.CommandProxy;
+import io.github.disbatch.command.decorator.PermissibleCommand;
 import io.github.disbatch.command.descriptor.CommandDescriptor;
-import io.github.disbatch.command.exception.ArgumentIndexOutOfBoundsException;
+import io.github.disbatch.command.instrument.CommandMetrics;
 import io.github.disbatch.command.parameter.InvalidInputHandler;
 import io.github.disbatch.command.parameter.Parameter;
 import io.github.disbatch.command.parameter.ParameterizedCommand;
 import io.github.disbatch.command.parameter.Suggesters;
 import io.github.disbatch.command.parameter.decorator.MutableParameter;
+import io.github.disbatch.command.permission.PermissionNode;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
-import java.util.StringJoiner;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
- * Introduces the concept of executing various {@link Command}s belonging to a root {@code Command}.
+ * Introduces the concept of executing various {@link Command}s belonging to a root {@code Command}. Linked
+ * {@code Command}s are resolved by their labels and aliases, ignoring case, through a {@link RadixTrie}, which also
+ * serves tab completion for the label currently being typed.
+ * <br>
+ * <br>
+ * Labels of linked {@link io.github.disbatch.command.decorator.PermissibleCommand}s, including those proxied by other
+ * {@link CommandProxy}s, such as a {@link io.github.disbatch.command.decorator.RateLimitedCommand}, are only suggested
+ * to senders having every permission along the chain, checked through the installed {@link io.github.disbatch.command.permission.PermissionCache},
+ * if any, which holds the decisions of a {@code Player} for every permission as a bitset filled when they join.
+ * <br>
+ * <br>
+ * Linked {@code Command}s can be swapped at any time, such as while the server is running, from any thread. Each
+ * execution and tab completion resolves labels against an immutable snapshot of the {@code RadixTrie}, read once and
+ * without locking, while linking and unlinking publish a new snapshot that copies only the nodes along the changed
+ * labels, retrying should another change have been published meanwhile.
  *
  * @param <S> {@inheritDoc}
  *
  * @since 1.0.0
  */
 public final class CommandGroup<S extends CommandSender> extends ParameterizedCommand<S, CommandGroup.GroupedCommandExecutor<? super S>> {
-    private final Map<String, CommandGroup.GroupedCommand<? super S>> commands = new HashMap<>();
+    private final AtomicReference<RadixTrie<LinkedCommand<S>>> commands = new AtomicReference<>(RadixTrie.empty());
 
     public CommandGroup(final @NotNull InvalidInputHandler<? super S> handler) {
         this(new MutableParameter<>(), handler);
@@ -34,12 +51,12 @@ public final class CommandGroup<S extends CommandSender> extends ParameterizedCo
 
         parameter.setUnderlyingParameter(new Parameter.Builder<S, CommandGroup.GroupedCommandExecutor<? super S>>()
                 .parser((sender, input) -> {
-                    final GroupedCommand<? super S> groupedCommand = commands.get(input.getArgument(0));
-                    return groupedCommand == null
+                    final LinkedCommand<S> linked = commands.get().get(input.getArgument(0));
+                    return linked == null
                             ? null
-                            : new GroupedCommandExecutor<>(groupedCommand, input);
+                            : new GroupedCommandExecutor<>(linked.command, linked.label, input);
                 })
-                .suggester(Suggesters.forFirstArgument(Suggesters.of(commands.keySet())))
+                .suggester(Suggesters.forFirstArgument((sender, input) -> suggestLabels(sender, input.getArgument(0))))
                 .build());
     }
 
@@ -60,124 +77,119 @@ public final class CommandGroup<S extends CommandSender> extends ParameterizedCo
      * @param descriptor
      */
     public CommandGroup<S> withCommand(final Command<? super S> command, final CommandDescriptor descriptor) {
-        commands.put(descriptor.getLabel(), new GroupedCommand<>(command, descriptor.getLabel()));
+        final LinkedCommand<S> linked = new LinkedCommand<>(command, descriptor);
 
-        for (final String alias : descriptor.getAliases())
-            commands.put(alias, new GroupedCommand<>(command, alias));
+        commands.updateAndGet(current -> {
+            RadixTrie<LinkedCommand<S>> commands = current;
+
+            for (final String key : linked.keys)
+                commands = commands.with(key, linked);
+
+            return commands;
+        });
+
+        return this;
+    }
+
+    /**
+     * Unlinks the {@link Command} linked to a label or alias, ignoring case, along with every other label and alias it
+     * was linked with.
+     *
+     * @param label the label or alias of the {@code Command} to be unlinked.
+     * @return this {@code CommandGroup}.
+     */
+    public CommandGroup<S> withoutCommand(final @NotNull String label) {
+        commands.updateAndGet(current -> {
+            final LinkedCommand<S> linked = current.get(label);
+            if (linked == null) return current;
+
+            RadixTrie<LinkedCommand<S>> commands = current;
+
+            // Keys since relinked to another command are left alone
+            for (final String key : linked.keys)
+                if (commands.get(key) == linked)
+                    commands = commands.without(key);
+
+            return commands;
+        });
 
         return this;
     }
 
+    private List<String> suggestLabels(final S sender, final String prefix) {
+        final List<String> labels = new ArrayList<>();
+
+        commands.get().forEachWithPrefix(prefix, (label, linked) -> {
+            if (linked.isGrantedTo(sender))
+                labels.add(label);
+        });
+
+        return labels;
+    }
+
     @Override
     protected void execute(final S sender, final GroupedCommandExecutor<? super S> executor, final CommandInput input) {
         executor.execute(sender);
     }
 
-    private static class GroupedCommand<S extends CommandSender> {
-        private final Command<S> innerCommand;
+    private static final class LinkedCommand<S extends CommandSender> {
+        private final Command<? super S> command;
         private final String label;
+        private final List<String> keys;
+        private final List<PermissionNode> permissionNodes;
 
-        GroupedCommand(final @NotNull Command<S> innerCommand, final String label) {
-            this.innerCommand = innerCommand;
-            this.label = label;
+        private LinkedCommand(final Command<? super S> command, final CommandDescriptor descriptor) {
+            this.command = command;
+            label = descriptor.getLabel();
+            keys = ImmutableList.<String>builder().add(descriptor.getLabel()).addAll(descriptor.getAliases()).build();
+            permissionNodes = findPermissionNodes(command);
         }
 
-        void execute(final S sender, final CommandInput input) {
-            innerCommand.execute(sender, input);
+        private static List<PermissionNode> findPermissionNodes(final Command<?> command) {
+            final ImmutableList.Builder<PermissionNode> permissionNodes = ImmutableList.builder();
+
+            for (Command<?> current = command; current instanceof CommandProxy; current = ((CommandProxy<?>) current).getInnerCommand())
+                if (current instanceof PermissibleCommand)
+                    permissionNodes.add(((PermissibleCommand<?>) current).getPermissionNode());
+
+            return permissionNodes.build();
         }
 
-        String getLabel() {
-            return label;
+        private boolean isGrantedTo(final CommandSender sender) {
+            for (final PermissionNode permissionNode : permissionNodes)
+                if (!permissionNode.isGrantedTo(sender)) return false;
+
+            return true;
         }
     }
 
     static class GroupedCommandExecutor<S extends CommandSender> {
-        private final GroupedCommand<S> command;
+        private final Command<S> command;
+        private final String label;
         private final CommandInput input;
 
-        GroupedCommandExecutor(final GroupedCommand<S> command, final CommandInput input) {
+        GroupedCommandExecutor(final @NotNull Command<S> command, final String label, final CommandInput input) {
             this.command = command;
+            this.label = label;
             this.input = input;
         }
 
         void execute(final S sender) {
-            command.execute(sender, new LazyLoadingGroupedCommandInput(input, command.getLabel()));
-        }
-
-        private static class LazyLoadingGroupedCommandInput implements CommandInput {
-            private final CommandInput previous;
-            private final String cmdLabel;
-            private String[] arguments;
-            private String argumentLine;
-
-            private LazyLoadingGroupedCommandInput(final CommandInput previous, final String recentCmdLabel) {
-                this.previous = previous;
-                cmdLabel = previous.getCommandLabel() + " " + recentCmdLabel;
-            }
-
-            @Override
-            public int getArgumentLength() {
-                return previous.getArgumentLength() - 1;
-            }
-
-            @Override
-            public String getArgumentLine() {
-                return argumentLine == null
-                        ? (argumentLine = String.join(" ", getArguments()))
-                        : argumentLine;
-            }
-
-            @Override
-            public String getArgument(final int index) {
-                final String[] arguments = getArguments();
-
-                if (index < 0 || index >= arguments.length)
-                    throw new ArgumentIndexOutOfBoundsException(index);
+            final CommandMetrics metrics = CommandMetrics.global();
 
-                return arguments[index];
+            if (!metrics.isEnabled()) {
+                command.execute(sender, CommandInputs.descend(input));
+                return;
             }
 
-            @Override
-            public String[] getArguments() {
-                if (arguments == null) {
-                    final String[] previousArguments = previous.getArguments();
-                    final String[] arguments = (this.arguments = new String[previousArguments.length - 1]);
-                    System.arraycopy(previousArguments, 1, arguments, 0, arguments.length);
-
-                    return arguments;
-                }
-
-                return arguments;
-            }
-
-            @Override
-            public String getCommandLabel() {
-                return cmdLabel;
-            }
-
-            @Override
-            public String getCommandLine() {
-                return previous.getCommandLine();
-            }
-
-            @Override
-            public boolean equals(final Object o) {
-                if (this == o) return true;
-                if (!(o instanceof CommandInput)) return false;
-                final CommandInput that = (CommandInput) o;
-                return getCommandLine().equals(that.getCommandLine());
-            }
-
-            @Override
-            public int hashCode() {
-                return Objects.hash(getCommandLine());
-            }
+            // Recorded by the label the command was linked with, whichever alias was typed
+            final TokenizedCommandInput groupedInput = TokenizedCommandInput.from(input).descend(label);
+            final long start = System.nanoTime();
 
-            @Override
-            public String toString() {
-                return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
-                        .add("commandLine=" + getCommandLine())
-                        .toString();
+            try {
+                command.execute(sender, groupedInput);
+            } finally {
+                metrics.recordExecution(groupedInput.getCommandPath(), System.nanoTime() - start);
             }
         }
     }
@@ -2,6 +2,7 @@ package io.github.disbatch.command;
 
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang.StringUtils;
+import org.jetbrains.annotations.NotNull;
 
 /**
  * A namespace for {@link CommandInput} convenience and utility methods.
@@ -9,7 +10,7 @@ import org.apache.commons.lang.StringUtils;
  * @since 1.0.0
  */
 public final class CommandInputs {
-    private static CommandInput EMPTY = new EmptyCommandInput();
+    private static final CommandInput EMPTY = new EmptyCommandInput();
     private CommandInputs() {
         throw new AssertionError();
     }
@@ -22,6 +23,33 @@ public final class CommandInputs {
         return EMPTY;
     }
 
+    /**
+     * Retrieves a view of a range of the arguments of a {@link CommandInput}, keeping the same command label. No
+     * arguments are copied if the input is a {@link TokenizedCommandInput}, such as every input passed by Disbatch.
+     *
+     * @param input the {@code CommandInput} in question.
+     * @param from  the index of the first argument in the range, inclusive.
+     * @param to    the index of the last argument in the range, exclusive.
+     * @return the retrieved view.
+     * @see TokenizedCommandInput#slice(int, int)
+     */
+    public static CommandInput slice(final @NotNull CommandInput input, final int from, final int to) {
+        return TokenizedCommandInput.from(input).slice(from, to);
+    }
+
+    /**
+     * Retrieves a view of all but the first argument of a {@link CommandInput}, which becomes part of the command label
+     * instead. No arguments are copied if the input is a {@link TokenizedCommandInput}, such as every input passed by
+     * Disbatch.
+     *
+     * @param input the {@code CommandInput} in question.
+     * @return the retrieved view.
+     * @see TokenizedCommandInput#descend()
+     */
+    public static CommandInput descend(final @NotNull CommandInput input) {
+        return TokenizedCommandInput.from(input).descend();
+    }
+
     private static class EmptyCommandInput implements CommandInput {
         @Override
         public int getArgumentLength() {
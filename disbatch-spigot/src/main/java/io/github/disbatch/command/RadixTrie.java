@@ -0,0 +1,330 @@
+package io.github.disbatch.command;
+
+import com.google.common.collect.ImmutableList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+
+/**
+ * An immutable, case-insensitive radix trie mapping {@code String} keys, such as command labels, to values. Lookups
+ * compare characters in place without allocating, and prefix queries walk only the matching branch of the trie.
+ * <br>
+ * <br>
+ * A {@code RadixTrie} is never modified once built; {@link #with(String, Object)} and {@link #without(CharSequence)}
+ * return a new trie that copies only the nodes along the path of the inserted or removed key and shares every other
+ * node with this one.
+ *
+ * @param <V> the type of the mapped values.
+ *
+ * @since 1.0.0
+ */
+public final class RadixTrie<V> {
+    private static final RadixTrie<?> EMPTY = new RadixTrie<>(new Node<>(new char[0], null, null, Node.noChildren()), 0);
+
+    private final Node<V> root;
+    private final int size;
+
+    private RadixTrie(final Node<V> root, final int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Retrieves an empty {@link RadixTrie}.
+     *
+     * @param <V> the type of the mapped values.
+     * @return the empty {@code RadixTrie}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> RadixTrie<V> empty() {
+        return (RadixTrie<V>) EMPTY;
+    }
+
+    /**
+     * Creates a new {@link RadixTrie} containing every mapping of this one along with the given mapping, replacing any
+     * value already mapped to a key equal to the given one, ignoring case.
+     *
+     * @param key   the key to be mapped.
+     * @param value the value to be mapped to the key.
+     * @return the created {@code RadixTrie}.
+     */
+    public RadixTrie<V> with(final @NotNull String key, final @NotNull V value) {
+        final char[] folded = new char[key.length()];
+
+        for (int i = 0; i < folded.length; i++)
+            folded[i] = fold(key.charAt(i));
+
+        final boolean replacing = get(key) != null;
+        return new RadixTrie<>(insert(root, key, folded, 0, value), replacing ? size : size + 1);
+    }
+
+    private static <V> Node<V> insert(final Node<V> node, final String key, final char[] folded, final int depth, final V value) {
+        if (depth == folded.length)
+            return new Node<>(node.edge, key, value, node.children);
+
+        final int index = node.indexOf(folded[depth]);
+
+        if (index < 0)
+            return node.withChild(-(index + 1), new Node<>(Arrays.copyOfRange(folded, depth, folded.length), key, value, Node.noChildren()));
+
+        final Node<V> child = node.children[index];
+        final char[] edge = child.edge;
+        final int common = commonLength(edge, folded, depth);
+
+        if (common == edge.length)
+            return node.replaceChild(index, insert(child, key, folded, depth + common, value));
+
+        final Node<V> tail = new Node<>(Arrays.copyOfRange(edge, common, edge.length), child.key, child.value, child.children);
+        final char[] splitEdge = Arrays.copyOf(edge, common);
+        final Node<V> split;
+
+        if (depth + common == folded.length)
+            split = new Node<>(splitEdge, key, value, Node.single(tail));
+        else {
+            final Node<V> leaf = new Node<>(Arrays.copyOfRange(folded, depth + common, folded.length), key, value, Node.noChildren());
+            split = new Node<>(splitEdge, null, null, tail.edge[0] < leaf.edge[0] ? Node.pair(tail, leaf) : Node.pair(leaf, tail));
+        }
+
+        return node.replaceChild(index, split);
+    }
+
+    /**
+     * Creates a new {@link RadixTrie} containing every mapping of this one except the one of a key equal to the given
+     * one, ignoring case.
+     *
+     * @param key the key to be unmapped.
+     * @return the created {@code RadixTrie}, or this one if the key is not mapped.
+     */
+    public RadixTrie<V> without(final @NotNull CharSequence key) {
+        if (get(key) == null) return this;
+
+        return new RadixTrie<>(remove(root, key, 0), size - 1);
+    }
+
+    private static <V> Node<V> remove(final Node<V> node, final CharSequence key, final int depth) {
+        if (depth == key.length())
+            return new Node<>(node.edge, null, null, node.children);
+
+        final int index = node.indexOf(fold(key.charAt(depth)));
+        final Node<V> child = node.children[index];
+        final Node<V> removed = remove(child, key, depth + child.edge.length);
+
+        if (removed.value != null) return node.replaceChild(index, removed);
+
+        switch (removed.children.length) {
+            case 0:
+                return node.withoutChild(index);
+            case 1:
+                return node.replaceChild(index, removed.mergeWithChild());
+            default:
+                return node.replaceChild(index, removed);
+        }
+    }
+
+    private static int commonLength(final char[] edge, final char[] folded, final int offset) {
+        final int limit = Math.min(edge.length, folded.length - offset);
+        int i = 0;
+
+        while (i < limit && edge[i] == folded[offset + i])
+            i++;
+
+        return i;
+    }
+
+    /**
+     * Retrieves the value mapped to the given key, ignoring case.
+     *
+     * @param key the key in question.
+     * @return the mapped value, or {@code null} if there is none.
+     */
+    public @Nullable V get(final @NotNull CharSequence key) {
+        final int length = key.length();
+        Node<V> node = root;
+        int depth = 0;
+
+        while (depth < length) {
+            final int index = node.indexOf(fold(key.charAt(depth)));
+            if (index < 0) return null;
+
+            node = node.children[index];
+            final char[] edge = node.edge;
+
+            if (length - depth < edge.length) return null;
+
+            for (int i = 1; i < edge.length; i++)
+                if (fold(key.charAt(depth + i)) != edge[i])
+                    return null;
+
+            depth += edge.length;
+        }
+
+        return node.value;
+    }
+
+    /**
+     * Performs the given action for every mapping whose key starts with the given prefix, ignoring case, in
+     * case-insensitive lexicographical order of the keys.
+     *
+     * @param prefix the prefix in question.
+     * @param action the action to be performed for each key and its mapped value.
+     */
+    public void forEachWithPrefix(final @NotNull CharSequence prefix, final @NotNull BiConsumer<? super String, ? super V> action) {
+        final Node<V> node = findPrefixNode(prefix);
+
+        if (node != null)
+            forEach(node, action);
+    }
+
+    /**
+     * Retrieves every key starting with the given prefix, ignoring case, in case-insensitive lexicographical order.
+     *
+     * @param prefix the prefix in question.
+     * @return the matching keys, which may be empty.
+     */
+    public ImmutableList<String> keysWithPrefix(final @NotNull CharSequence prefix) {
+        final Node<V> node = findPrefixNode(prefix);
+        if (node == null) return ImmutableList.of();
+
+        final ImmutableList.Builder<String> keys = ImmutableList.builder();
+        forEach(node, (key, value) -> keys.add(key));
+        return keys.build();
+    }
+
+    private @Nullable Node<V> findPrefixNode(final CharSequence prefix) {
+        final int length = prefix.length();
+        Node<V> node = root;
+        int depth = 0;
+
+        while (depth < length) {
+            final int index = node.indexOf(fold(prefix.charAt(depth)));
+            if (index < 0) return null;
+
+            node = node.children[index];
+            final char[] edge = node.edge;
+            final int limit = Math.min(edge.length, length - depth);
+
+            for (int i = 1; i < limit; i++)
+                if (fold(prefix.charAt(depth + i)) != edge[i])
+                    return null;
+
+            depth += edge.length;
+        }
+
+        return node;
+    }
+
+    private static <V> void forEach(final Node<V> node, final BiConsumer<? super String, ? super V> action) {
+        if (node.value != null)
+            action.accept(node.key, node.value);
+
+        for (final Node<V> child : node.children)
+            forEach(child, action);
+    }
+
+    /**
+     * Retrieves the number of keys mapped by the {@code RadixTrie}.
+     *
+     * @return the key amount.
+     */
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", getClass().getSimpleName() + "[", "]");
+        forEach(root, (key, value) -> joiner.add(key + "=" + value));
+        return joiner.toString();
+    }
+
+    private static char fold(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static final class Node<V> {
+        private static final Node<?>[] NO_CHILDREN = new Node<?>[0];
+
+        private final char[] edge;
+        private final String key;
+        private final V value;
+        private final Node<V>[] children;
+
+        private Node(final char[] edge, final String key, final V value, final Node<V>[] children) {
+            this.edge = edge;
+            this.key = key;
+            this.value = value;
+            this.children = children;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] noChildren() {
+            return (Node<V>[]) NO_CHILDREN;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] single(final Node<V> child) {
+            return new Node[] {child};
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <V> Node<V>[] pair(final Node<V> first, final Node<V> second) {
+            return new Node[] {first, second};
+        }
+
+        /**
+         * Binary searches the children, which are sorted by the first character of their edges.
+         */
+        private int indexOf(final char c) {
+            final Node<V>[] children = this.children;
+            int low = 0;
+            int high = children.length - 1;
+
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final char midChar = children[mid].edge[0];
+
+                if (midChar < c) low = mid + 1;
+                else if (midChar > c) high = mid - 1;
+                else return mid;
+            }
+
+            return -(low + 1);
+        }
+
+        private Node<V> withChild(final int insertionIndex, final Node<V> child) {
+            final Node<V>[] children = Arrays.copyOf(this.children, this.children.length + 1);
+            System.arraycopy(children, insertionIndex, children, insertionIndex + 1, this.children.length - insertionIndex);
+            children[insertionIndex] = child;
+
+            return new Node<>(edge, key, value, children);
+        }
+
+        private Node<V> withoutChild(final int index) {
+            final Node<V>[] children = Arrays.copyOf(this.children, this.children.length - 1);
+            System.arraycopy(this.children, index + 1, children, index, children.length - index);
+
+            return new Node<>(edge, key, value, children);
+        }
+
+        /**
+         * Merges this valueless node with its only child, so no node is left that neither maps a key nor branches.
+         */
+        private Node<V> mergeWithChild() {
+            final Node<V> child = children[0];
+            final char[] edge = Arrays.copyOf(this.edge, this.edge.length + child.edge.length);
+            System.arraycopy(child.edge, 0, edge, this.edge.length, child.edge.length);
+
+            return new Node<>(edge, child.key, child.value, child.children);
+        }
+
+        private Node<V> replaceChild(final int index, final Node<V> child) {
+            final Node<V>[] children = this.children.clone();
+            children[index] = child;
+
+            return new Node<>(edge, key, value, children);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package io.github.disbatch.command;
+
+import com.google.common.collect.ImmutableList;
+import org.bukkit.command.BlockCommandSender;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * A {@link Command} carrying separate implementations for different types of {@link CommandSender}, such as one for
+ * players and another for command blocks, under a single label. The implementation used for a given sender is resolved
+ * once per concrete sender class and cached, so that dispatching afterward is a single table lookup.
+ * <br>
+ * <br>
+ * Implementations are tried in the order they were added to the {@link Builder}, with the first one accepting the
+ * sender's type being used. If none accepts it, the sender is ignored, or, once registered, sent the valid sender
+ * message of the command's descriptor.
+ *
+ * @since 1.0.0
+ */
+public final class SenderSpecificCommand implements Command<CommandSender> {
+    private final List<Route<?>> routes;
+    private final ClassValue<Command<CommandSender>> table = new ClassValue<Command<CommandSender>>() {
+        @Override
+        protected Command<CommandSender> computeValue(final Class<?> senderType) {
+            return find(senderType);
+        }
+    };
+
+    private SenderSpecificCommand(final List<Route<?>> routes) {
+        this.routes = routes;
+    }
+
+    @Override
+    public void execute(final CommandSender sender, final CommandInput input) {
+        final Command<CommandSender> command = resolve(sender.getClass());
+
+        if (command != null)
+            command.execute(sender, input);
+    }
+
+    @Override
+    public List<String> tabComplete(final CommandSender sender, final CommandInput input) {
+        final Command<CommandSender> command = resolve(sender.getClass());
+
+        return command != null
+                ? command.tabComplete(sender, input)
+                : ImmutableList.of();
+    }
+
+    /**
+     * Retrieves the implementation used for the given type of {@link CommandSender}.
+     *
+     * @param senderType the concrete class of the sender in question.
+     * @return the {@link Command} used for the sender type, or {@code null} if none accepts it.
+     */
+    public @Nullable Command<CommandSender> resolve(final @NotNull Class<?> senderType) {
+        return table.get(senderType);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Command<CommandSender> find(final Class<?> senderType) {
+        for (final Route<?> route : routes)
+            if (route.senderType.isAssignableFrom(senderType))
+                return (Command<CommandSender>) route.command;
+
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", getClass().getSimpleName() + "[", "]");
+
+        for (final Route<?> route : routes)
+            joiner.add(route.senderType.getSimpleName() + "=" + route.command);
+
+        return joiner.toString();
+    }
+
+    private static final class Route<S extends CommandSender> {
+        private final Class<S> senderType;
+        private final Command<? super S> command;
+
+        private Route(final Class<S> senderType, final Command<? super S> command) {
+            this.senderType = senderType;
+            this.command = command;
+        }
+    }
+
+    /**
+     * Serves as a way to create a new {@link SenderSpecificCommand} from separate implementations.
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder {
+        private final List<Route<?>> routes = new ArrayList<>();
+
+        /**
+         * Adds an implementation used for the given type of {@link CommandSender}.
+         *
+         * @param senderType the type of sender accepted by the implementation.
+         * @param command    the implementation in question.
+         * @param <S>        the type of sender accepted by the implementation.
+         * @return the {@code Builder} instance.
+         */
+        public <S extends CommandSender> Builder forSenders(final @NotNull Class<S> senderType, final @NotNull Command<? super S> command) {
+            routes.add(new Route<>(senderType, command));
+            return this;
+        }
+
+        /**
+         * Adds an implementation used for {@link Player}s.
+         *
+         * @param command the implementation in question.
+         * @return the {@code Builder} instance.
+         */
+        public Builder forPlayers(final @NotNull Command<? super Player> command) {
+            return forSenders(Player.class, command);
+        }
+
+        /**
+         * Adds an implementation used for the {@link ConsoleCommandSender}.
+         *
+         * @param command the implementation in question.
+         * @return the {@code Builder} instance.
+         */
+        public Builder forConsole(final @NotNull Command<? super ConsoleCommandSender> command) {
+            return forSenders(ConsoleCommandSender.class, command);
+        }
+
+        /**
+         * Adds an implementation used for {@link BlockCommandSender}s, such as command blocks.
+         *
+         * @param command the implementation in question.
+         * @return the {@code Builder} instance.
+         */
+        public Builder forBlocks(final @NotNull Command<? super BlockCommandSender> command) {
+            return forSenders(BlockCommandSender.class, command);
+        }
+
+        /**
+         * Adds an implementation used for any {@link CommandSender} not accepted by a previously added one.
+         *
+         * @param command the implementation in question.
+         * @return the {@code Builder} instance.
+         */
+        public Builder otherwise(final @NotNull Command<CommandSender> command) {
+            return forSenders(CommandSender.class, command);
+        }
+
+        /**
+         * Creates a new {@link SenderSpecificCommand}.
+         *
+         * @return the created {@code SenderSpecificCommand}.
+         */
+        public SenderSpecificCommand build() {
+            return new SenderSpecificCommand(new ArrayList<>(routes));
+        }
+    }
+}
@@ -0,0 +1,393 @@
+package io.github.disbatch.command;
+
+import io.github.disbatch.command.exception.ArgumentIndexOutOfBoundsException;
+import org.apache.commons.lang.ArrayUtils;
+import org.apache.commons.lang.StringUtils;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * A {@link CommandInput} backed by a single command line and a table of offsets marking where each argument begins
+ * and ends within it. Narrower inputs, such as the one a {@link CommandGroup} hands to a linked {@link Command} or the
+ * ones a composite {@link io.github.disbatch.command.parameter.Parameter} hands to its inner parameters, are views
+ * sharing the same line and offsets, so creating one copies nothing, and the argument lines of all of them are slices
+ * of the original line.
+ * <br>
+ * <br>
+ * Arguments are separated by single spaces, just like Bukkit separates them. When created from a whole command line
+ * through {@link #parse(String)} or {@link #quoted(String, String...)}, an argument starting with a double quote also
+ * extends up to the next unescaped double quote, spaces included, and is retrieved without its quotes, while a
+ * backslash within quotes escapes the character following it. An argument lacking its closing quote, such as one
+ * still being typed, extends up to the end of the line. Argument lines always keep the quotes as typed.
+ *
+ * @apiNote A {@code TokenizedCommandInput} is not thread-safe, though it can safely be handed to another thread along
+ * with the rest of the work performed for a command.
+ *
+ * @since 1.0.0
+ */
+public final class TokenizedCommandInput implements CommandInput {
+    private static final int ROOT_LABEL = -1;
+    private static final char SEPARATOR = ' ';
+    private static final char QUOTE = '"';
+    private static final char ESCAPE = '\\';
+
+    private final Source source;
+    private final int from;
+    private final int to;
+    private final int labelEnd;
+    private final String commandPath;
+    private String argumentLine;
+    private String commandLabel;
+    private String[] arguments;
+
+    private TokenizedCommandInput(final Source source, final int from, final int to, final int labelEnd, final String commandPath) {
+        this.source = source;
+        this.from = from;
+        this.to = to;
+        this.labelEnd = labelEnd;
+        this.commandPath = commandPath;
+    }
+
+    /**
+     * Creates a new {@link TokenizedCommandInput} from arguments that have already been separated, as Bukkit passes
+     * them. The command line is only joined together once it, or an argument line, is first retrieved.
+     *
+     * @param label     the command label.
+     * @param arguments the passed arguments, which are used as they are, without a copy being made.
+     * @return the created {@code TokenizedCommandInput}.
+     */
+    public static @NotNull TokenizedCommandInput of(final @NotNull String label, final @NotNull String... arguments) {
+        return new TokenizedCommandInput(new Source(label, arguments), 0, arguments.length, ROOT_LABEL, null);
+    }
+
+    /**
+     * Creates a new {@link TokenizedCommandInput} from a whole command line, whose first word is used as the command
+     * label, recognizing quoted arguments.
+     *
+     * @param commandLine the command line, without a leading slash.
+     * @return the created {@code TokenizedCommandInput}.
+     */
+    public static @NotNull TokenizedCommandInput parse(final @NotNull String commandLine) {
+        final int labelEnd = commandLine.indexOf(SEPARATOR);
+
+        return labelEnd < 0
+                ? of(commandLine)
+                : tokenize(commandLine.substring(0, labelEnd), commandLine);
+    }
+
+    /**
+     * Creates a new {@link TokenizedCommandInput} from arguments that have already been separated, as Bukkit passes
+     * them, but separating them again while recognizing quoted arguments.
+     *
+     * @param label     the command label.
+     * @param arguments the passed arguments.
+     * @return the created {@code TokenizedCommandInput}.
+     */
+    public static @NotNull TokenizedCommandInput quoted(final @NotNull String label, final @NotNull String... arguments) {
+        return arguments.length == 0
+                ? of(label)
+                : tokenize(label, label + SEPARATOR + String.join(String.valueOf(SEPARATOR), arguments));
+    }
+
+    /**
+     * Retrieves a {@link TokenizedCommandInput} holding the same arguments as any other {@link CommandInput}, which is
+     * the given input itself if it already is one.
+     *
+     * @param input the {@code CommandInput} in question.
+     * @return the retrieved {@code TokenizedCommandInput}.
+     */
+    public static @NotNull TokenizedCommandInput from(final @NotNull CommandInput input) {
+        return input instanceof TokenizedCommandInput
+                ? (TokenizedCommandInput) input
+                : of(input.getCommandLabel(), input.getArguments());
+    }
+
+    private static TokenizedCommandInput tokenize(final String label, final String line) {
+        final int length = line.length();
+        int[] bounds = new int[8];
+        int size = 0;
+
+        for (int start = label.length() + 1; ; ) {
+            int end = start < length && line.charAt(start) == QUOTE ? skipQuoted(line, start) : start;
+            end = line.indexOf(SEPARATOR, end);
+            if (end < 0) end = length;
+
+            if (size == bounds.length)
+                bounds = Arrays.copyOf(bounds, size << 1);
+
+            bounds[size++] = start;
+            bounds[size++] = end;
+
+            if (end == length) break;
+            start = end + 1;
+        }
+
+        final int argumentLength = size >> 1;
+        return new TokenizedCommandInput(new Source(label, line, bounds, argumentLength), 0, argumentLength, ROOT_LABEL, null);
+    }
+
+    private static int skipQuoted(final String line, final int quoteIndex) {
+        final int length = line.length();
+
+        for (int i = quoteIndex + 1; i < length; i++) {
+            final char c = line.charAt(i);
+
+            if (c == ESCAPE) i++;
+            else if (c == QUOTE) return i + 1;
+        }
+
+        return length;
+    }
+
+    /**
+     * Retrieves a view of a range of the arguments, keeping the same command label.
+     *
+     * @param from the index of the first argument in the range, inclusive.
+     * @param to   the index of the last argument in the range, exclusive.
+     * @return the retrieved view.
+     * @throws ArgumentIndexOutOfBoundsException if the range does not lie within the arguments.
+     */
+    public @NotNull TokenizedCommandInput slice(final int from, final int to) {
+        if (from < 0 || from > to)
+            throw new ArgumentIndexOutOfBoundsException(from);
+
+        if (to > getArgumentLength())
+            throw new ArgumentIndexOutOfBoundsException(to);
+
+        return from == 0 && to == getArgumentLength()
+                ? this
+                : new TokenizedCommandInput(source, this.from + from, this.from + to, labelEnd, commandPath);
+    }
+
+    /**
+     * Retrieves a view of all but the first argument, which becomes part of the command label instead, as is the case
+     * for the {@link Command}s linked to a {@link CommandGroup}.
+     *
+     * @return the retrieved view.
+     * @throws ArgumentIndexOutOfBoundsException if there are no arguments.
+     */
+    public @NotNull TokenizedCommandInput descend() {
+        if (from == to)
+            throw new ArgumentIndexOutOfBoundsException(0);
+
+        return new TokenizedCommandInput(source, from + 1, to, from, commandPath != null
+                ? commandPath + SEPARATOR + getArgument(0)
+                : null);
+    }
+
+    /**
+     * Retrieves a view of all but the first argument, which becomes part of the command label instead, while the
+     * given label, such as the one the first argument is an alias of, is appended to the command path.
+     *
+     * @param label the label appended to the command path.
+     * @return the retrieved view.
+     * @throws ArgumentIndexOutOfBoundsException if there are no arguments.
+     * @see #getCommandPath()
+     */
+    public @NotNull TokenizedCommandInput descend(final @NotNull String label) {
+        if (from == to)
+            throw new ArgumentIndexOutOfBoundsException(0);
+
+        return new TokenizedCommandInput(source, from + 1, to, from, getCommandPath() + SEPARATOR + label);
+    }
+
+    /**
+     * Retrieves a view of the same arguments and command label, but with the given command path.
+     *
+     * @param commandPath the command path, such as the label a command was registered with.
+     * @return the retrieved view.
+     * @see #getCommandPath()
+     */
+    public @NotNull TokenizedCommandInput withCommandPath(final @NotNull String commandPath) {
+        return new TokenizedCommandInput(source, from, to, labelEnd, commandPath);
+    }
+
+    /**
+     * Retrieves the labels the command and any subcommands being executed were registered with, separated by spaces,
+     * regardless of which of their aliases were typed. Unless a command path was given through
+     * {@link #withCommandPath(String)} or {@link #descend(String)}, this is the command label as typed.
+     *
+     * @return the command path.
+     */
+    public @NotNull String getCommandPath() {
+        return commandPath != null ? commandPath : getCommandLabel();
+    }
+
+    @Override
+    public int getArgumentLength() {
+        return to - from;
+    }
+
+    @Override
+    public String getArgumentLine() {
+        if (argumentLine == null) {
+            if (from == to)
+                argumentLine = StringUtils.EMPTY;
+            else if (to - from == 1 && !source.quoting)
+                argumentLine = source.tokens[from];
+            else
+                argumentLine = source.getLine().substring(source.getStart(from), source.getEnd(to - 1));
+        }
+
+        return argumentLine;
+    }
+
+    @Override
+    public String getArgument(final int index) {
+        if (index == 0 && from == to)
+            return StringUtils.EMPTY;
+
+        if (index < 0 || index >= to - from)
+            throw new ArgumentIndexOutOfBoundsException(index);
+
+        return source.getToken(from + index);
+    }
+
+    @Override
+    public String[] getArguments() {
+        if (arguments == null) {
+            if (from == to)
+                arguments = ArrayUtils.EMPTY_STRING_ARRAY;
+            else if (from == 0 && to == source.tokens.length && !source.quoting)
+                arguments = source.tokens;
+            else {
+                final String[] arguments = (this.arguments = new String[to - from]);
+
+                for (int i = 0; i < arguments.length; i++)
+                    arguments[i] = source.getToken(from + i);
+            }
+        }
+
+        return arguments;
+    }
+
+    @Override
+    public String getCommandLabel() {
+        if (commandLabel == null)
+            commandLabel = labelEnd == ROOT_LABEL
+                    ? source.label
+                    : source.getLine().substring(0, source.getEnd(labelEnd));
+
+        return commandLabel;
+    }
+
+    @Override
+    public String getCommandLine() {
+        return source.getLine();
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CommandInput)) return false;
+        final CommandInput that = (CommandInput) o;
+        return getCommandLine().equals(that.getCommandLine());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getCommandLine());
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("commandLabel=" + getCommandLabel())
+                .add("argumentLine=" + getArgumentLine())
+                .toString();
+    }
+
+    /**
+     * The line and offsets shared by an input and all of its views. Offsets are stored in pairs, marking the start
+     * (inclusive) and end (exclusive) of each argument, quotes included.
+     */
+    private static final class Source {
+        private final String label;
+        private final String[] tokens;
+        private final boolean quoting;
+        private String line;
+        private int[] bounds;
+
+        private Source(final String label, final String[] tokens) {
+            this.label = label;
+            this.tokens = tokens;
+            quoting = false;
+        }
+
+        private Source(final String label, final String line, final int[] bounds, final int argumentLength) {
+            this.label = label;
+            this.line = line;
+            this.bounds = bounds;
+            tokens = new String[argumentLength];
+            quoting = true;
+        }
+
+        private String getToken(final int index) {
+            String token = tokens[index];
+
+            if (token == null)
+                tokens[index] = token = unquote(line, bounds[index << 1], bounds[(index << 1) + 1]);
+
+            return token;
+        }
+
+        private int getStart(final int index) {
+            getLine();
+            return bounds[index << 1];
+        }
+
+        private int getEnd(final int index) {
+            getLine();
+            return bounds[(index << 1) + 1];
+        }
+
+        private String getLine() {
+            if (line == null) {
+                final int[] bounds = new int[tokens.length << 1];
+                final StringBuilder builder = new StringBuilder(label);
+
+                for (int i = 0; i < tokens.length; i++) {
+                    builder.append(SEPARATOR);
+                    bounds[i << 1] = builder.length();
+                    builder.append(tokens[i]);
+                    bounds[(i << 1) + 1] = builder.length();
+                }
+
+                this.bounds = bounds;
+                line = builder.toString();
+            }
+
+            return line;
+        }
+
+        private static String unquote(final String line, final int start, final int end) {
+            if (start == end || line.charAt(start) != QUOTE)
+                return line.substring(start, end);
+
+            final int escapeIndex = line.indexOf(ESCAPE, start);
+
+            if (end - start > 1 && line.charAt(end - 1) == QUOTE && skipQuoted(line, start) == end
+                    && (escapeIndex < 0 || escapeIndex >= end))
+                return line.substring(start + 1, end - 1);
+
+            final StringBuilder builder = new StringBuilder(end - start);
+            boolean quoted = true;
+
+            for (int i = start + 1; i < end; i++) {
+                final char c = line.charAt(i);
+
+                if (quoted && c == ESCAPE && i + 1 < end)
+                    builder.append(line.charAt(++i));
+                else if (quoted && c == QUOTE)
+                    quoted = false;
+                else
+                    builder.append(c);
+            }
+
+            return builder.toString();
+        }
+    }
+}
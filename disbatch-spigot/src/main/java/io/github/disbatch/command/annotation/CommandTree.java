@@ -0,0 +1,54 @@
+package io.github.disbatch.command.annotation;
+
+import io.github.disbatch.command.CommandGroup;
+import io.github.disbatch.command.descriptor.CommandDescriptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class whose {@link Subcommand} methods make up a tree of commands under a single label. When compiled with the
+ * {@code disbatch-processor} annotation processor, a class named after the annotated one with a {@code Tree} suffix
+ * (e.g., {@code WarpCommandsTree} for {@code WarpCommands}) is generated next to it, which builds the
+ * {@link CommandGroup} tree and its {@link CommandDescriptor} without any reflection, and registers them through
+ * {@code register(target)}.
+ * <br>
+ * <br>
+ * The generated tree accepts the sender type shared by every {@code Subcommand} method, or any
+ * {@code CommandSender} if they differ, in which case each subcommand checks its own sender type directly.
+ *
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface CommandTree {
+
+    /**
+     * The label used to execute the command tree.
+     */
+    String value();
+
+    /**
+     * The aliases of the command tree's label.
+     */
+    String[] aliases() default {};
+
+    /**
+     * The description shown in the server's {@code /help} menu.
+     */
+    String description() default "A plugin provided command.";
+
+    /**
+     * The message sent to a {@code CommandSender} unable to execute a subcommand, which is not sent if empty.
+     */
+    String validSenderMessage() default "";
+
+    /**
+     * The base message of usages sent on invalid input, optionally with the {@code %usage} placeholder.
+     */
+    String usageMessage() default "Usage: %usage";
+}
@@ -0,0 +1,49 @@
+package io.github.disbatch.command.annotation;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.Parameter;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a method of a {@link CommandTree} class as a subcommand. The method must not be private or static, and takes
+ * either a {@code CommandSender} and a {@link CommandInput}, or, if a {@link #parameter()} is given, a
+ * {@code CommandSender}, the parsed argument and a {@code CommandInput}.
+ * <br>
+ * <br>
+ * Labels separated by spaces form nested subcommands, so that {@code @Subcommand("region claim")} is executed through
+ * {@code /<tree> region claim}.
+ *
+ * @since 1.0.0
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.METHOD)
+public @interface Subcommand {
+
+    /**
+     * The path of labels used to execute the subcommand, separated by spaces.
+     */
+    String value();
+
+    /**
+     * The aliases of the last label of the subcommand's path.
+     */
+    String[] aliases() default {};
+
+    /**
+     * The {@link Parameter} parsing the argument passed to the subcommand, which must have a public no-arguments
+     * constructor. If left as {@code Parameter}, the subcommand takes no parsed argument.
+     */
+    @SuppressWarnings("rawtypes")
+    Class<? extends Parameter> parameter() default Parameter.class;
+
+    /**
+     * The usage labels of the {@link #parameter()}, sent on invalid input.
+     */
+    String[] usage() default {};
+}
@@ -0,0 +1,82 @@
+package io.github.disbatch.command.async;
+
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.CommandInput;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link Command} whose execution runs off the server's main thread, as decided by its {@link AsyncScheduler}, so
+ * that expensive work, such as database queries, does not stall the server tick. Bukkit API calls made during
+ * execution should hop back to the main thread via {@link AsyncScheduler#runOnMainThread(Runnable)} or
+ * {@link AsyncScheduler#supplyOnMainThread(java.util.function.Supplier)}.
+ *
+ * @param <S> {@inheritDoc}
+ * @see #executeAsync(CommandSender, CommandInput)
+ * @see AsyncParameterizedCommand
+ *
+ * @since 1.0.0
+ */
+public abstract class AsyncCommand<S extends CommandSender> implements Command<S> {
+    private final AsyncScheduler scheduler;
+
+    /**
+     * Constructs a new {@link AsyncCommand}.
+     *
+     * @param scheduler the {@link AsyncScheduler} deciding where execution runs.
+     */
+    protected AsyncCommand(final @NotNull AsyncScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public final void execute(final S sender, final CommandInput input) {
+        submit(sender, input);
+    }
+
+    /**
+     * Executes the {@code AsyncCommand} as {@link #execute(CommandSender, CommandInput)} does, but exposes the
+     * completion of the execution.
+     *
+     * @param sender the {@link CommandSender} responsible for execution.
+     * @param input  the {@link CommandInput} used to execute the {@code AsyncCommand}.
+     * @return a future completed once the {@code CompletionStage} returned from
+     *         {@link #executeAsync(CommandSender, CommandInput)} completes.
+     */
+    public final CompletableFuture<Void> submit(final S sender, final CommandInput input) {
+        return scheduler.submit(() -> executeAsync(sender, input), cause -> handleFailure(sender, input, cause));
+    }
+
+    /**
+     * Executes the {@code AsyncCommand} on the asynchronous executor of its {@link AsyncScheduler}.
+     *
+     * @param sender the {@link CommandSender} responsible for execution.
+     * @param input  the {@link CommandInput} used to execute the {@code AsyncCommand}.
+     * @return a {@code CompletionStage} completing once execution has finished.
+     */
+    protected abstract CompletionStage<?> executeAsync(S sender, CommandInput input);
+
+    /**
+     * Handles an exception thrown during execution, or the failure of the {@code CompletionStage} returned from
+     * {@link #executeAsync(CommandSender, CommandInput)}. By default, the exception is rethrown on the main thread.
+     *
+     * @param sender the {@link CommandSender} responsible for execution.
+     * @param input  the {@link CommandInput} used to execute the {@code AsyncCommand}.
+     * @param cause  the exception in question.
+     */
+    protected void handleFailure(final S sender, final CommandInput input, final Throwable cause) {
+        scheduler.rethrowOnMainThread(input.getCommandLine(), cause);
+    }
+
+    /**
+     * Retrieves the {@link AsyncScheduler} deciding where execution runs.
+     *
+     * @return the scheduler.
+     */
+    protected final AsyncScheduler getScheduler() {
+        return scheduler;
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.disbatch.command.async;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.InvalidInputHandler;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A {@link ParameterizedCommand} whose execution runs off the server's main thread, as decided by its
+ * {@link AsyncScheduler}. Arguments are still parsed on the thread executing the command, so only the body found in
+ * {@link #executeAsync(CommandSender, Object, CommandInput)} is moved off the main thread.
+ *
+ * @param <S> {@inheritDoc}
+ * @param <V> {@inheritDoc}
+ * @see AsyncCommand
+ *
+ * @since 1.0.0
+ */
+public abstract class AsyncParameterizedCommand<S extends CommandSender, V> extends ParameterizedCommand<S, V> {
+    private final AsyncScheduler scheduler;
+
+    /**
+     * Constructs a new {@link AsyncParameterizedCommand}.
+     *
+     * @param parameter the {@link Parameter} to use for {@code Object} argument creation.
+     * @param handler   the {@link InvalidInputHandler} to use for processing a {@link CommandSender} and an
+     *                  {@link io.github.disbatch.command.parameter.InvalidInput} when necessary.
+     * @param scheduler the {@link AsyncScheduler} deciding where execution runs.
+     */
+    protected AsyncParameterizedCommand(final @NotNull Parameter<? super S, V> parameter, final @NotNull InvalidInputHandler<? super S> handler,
+                                        final @NotNull AsyncScheduler scheduler) {
+        super(parameter, handler);
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected final void execute(final S sender, final V argument, final CommandInput input) {
+        submit(sender, argument, input);
+    }
+
+    /**
+     * Submits the parsed argument to {@link #executeAsync(CommandSender, Object, CommandInput)}.
+     *
+     * @param sender   the {@link CommandSender} responsible for execution.
+     * @param argument the resulting argument.
+     * @param input    the {@link CommandInput} used to execute the {@code AsyncParameterizedCommand}.
+     * @return a future completed once the {@code CompletionStage} returned from
+     *         {@link #executeAsync(CommandSender, Object, CommandInput)} completes.
+     */
+    protected final CompletableFuture<Void> submit(final S sender, final V argument, final CommandInput input) {
+        return scheduler.submit(() -> executeAsync(sender, argument, input), cause -> handleFailure(sender, input, cause));
+    }
+
+    /**
+     * Executes the {@code AsyncParameterizedCommand} on the asynchronous executor of its {@link AsyncScheduler}.
+     *
+     * @param sender   the {@link CommandSender} responsible for execution.
+     * @param argument the resulting argument, parsed on the thread executing the command.
+     * @param input    the {@link CommandInput} used to execute the {@code AsyncParameterizedCommand}.
+     * @return a {@code CompletionStage} completing once execution has finished.
+     */
+    protected abstract CompletionStage<?> executeAsync(S sender, V argument, CommandInput input);
+
+    /**
+     * Handles an exception thrown during execution, or the failure of the {@code CompletionStage} returned from
+     * {@link #executeAsync(CommandSender, Object, CommandInput)}. By default, the exception is rethrown on the main
+     * thread.
+     *
+     * @param sender the {@link CommandSender} responsible for execution.
+     * @param input  the {@link CommandInput} used to execute the {@code AsyncParameterizedCommand}.
+     * @param cause  the exception in question.
+     */
+    protected void handleFailure(final S sender, final CommandInput input, final Throwable cause) {
+        scheduler.rethrowOnMainThread(input.getCommandLine(), cause);
+    }
+
+    /**
+     * Retrieves the {@link AsyncScheduler} deciding where execution runs.
+     *
+     * @return the scheduler.
+     */
+    protected final AsyncScheduler getScheduler() {
+        return scheduler;
+    }
+}
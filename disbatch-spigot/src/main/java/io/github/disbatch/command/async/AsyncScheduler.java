@@ -0,0 +1,139 @@
+package io.github.disbatch.command.async;
+
+import io.github.disbatch.command.exception.CommandExecutionException;
+import org.bukkit.Server;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Decides where the bodies of an {@link AsyncCommand} or an {@link AsyncParameterizedCommand} run, and offers the means
+ * of hopping back to the server's main thread, where most of the Bukkit API must be called from.
+ *
+ * @see #of(Plugin)
+ * @see #of(Executor, Executor)
+ *
+ * @since 1.0.0
+ */
+public final class AsyncScheduler {
+    private final Executor asyncExecutor;
+    private final Executor mainThreadExecutor;
+
+    private AsyncScheduler(final Executor asyncExecutor, final Executor mainThreadExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        this.mainThreadExecutor = mainThreadExecutor;
+    }
+
+    /**
+     * Creates an {@link AsyncScheduler} backed by the {@link BukkitScheduler} on behalf of the given {@link Plugin}.
+     * Tasks for the main thread are run immediately when already called from it.
+     *
+     * @param plugin the plugin owning the scheduled tasks.
+     * @return the created {@code AsyncScheduler}.
+     */
+    public static AsyncScheduler of(final @NotNull Plugin plugin) {
+        final Server server = plugin.getServer();
+        final BukkitScheduler scheduler = server.getScheduler();
+
+        return new AsyncScheduler(task -> scheduler.runTaskAsynchronously(plugin, task), task -> {
+            if (server.isPrimaryThread()) task.run();
+            else scheduler.runTask(plugin, task);
+        });
+    }
+
+    /**
+     * Creates an {@link AsyncScheduler} backed by the given {@link Executor}s.
+     *
+     * @param asyncExecutor      the executor running command bodies off the main thread.
+     * @param mainThreadExecutor the executor running tasks on the main thread.
+     * @return the created {@code AsyncScheduler}.
+     */
+    public static AsyncScheduler of(final @NotNull Executor asyncExecutor, final @NotNull Executor mainThreadExecutor) {
+        return new AsyncScheduler(asyncExecutor, mainThreadExecutor);
+    }
+
+    /**
+     * Retrieves the {@link Executor} running command bodies off the main thread.
+     *
+     * @return the asynchronous executor.
+     */
+    public Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
+
+    /**
+     * Retrieves the {@link Executor} running tasks on the main thread.
+     *
+     * @return the main thread executor.
+     */
+    public Executor getMainThreadExecutor() {
+        return mainThreadExecutor;
+    }
+
+    /**
+     * Computes a value off the main thread.
+     *
+     * @param supplier the computation.
+     * @param <T>      the type of the computed value.
+     * @return a future completed with the computed value.
+     */
+    public <T> CompletableFuture<T> supplyAsync(final @NotNull Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, asyncExecutor);
+    }
+
+    /**
+     * Computes a value on the main thread, such as the result of a Bukkit API call.
+     *
+     * @param supplier the computation.
+     * @param <T>      the type of the computed value.
+     * @return a future completed with the computed value.
+     */
+    public <T> CompletableFuture<T> supplyOnMainThread(final @NotNull Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, mainThreadExecutor);
+    }
+
+    /**
+     * Runs a task on the main thread, such as a Bukkit API call.
+     *
+     * @param task the task to be run.
+     * @return a future completed once the task has run.
+     */
+    public CompletableFuture<Void> runOnMainThread(final @NotNull Runnable task) {
+        return CompletableFuture.runAsync(task, mainThreadExecutor);
+    }
+
+    CompletableFuture<Void> submit(final Supplier<? extends CompletionStage<?>> body, final Consumer<Throwable> failureHandler) {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+        CompletableFuture.<CompletionStage<?>>supplyAsync(body::get, asyncExecutor)
+                .thenCompose(stage -> stage.thenApply(result -> (Void) null))
+                .whenComplete((result, failure) -> {
+                    if (failure == null) {
+                        completion.complete(null);
+                        return;
+                    }
+
+                    final Throwable cause = failure instanceof CompletionException && failure.getCause() != null
+                            ? failure.getCause()
+                            : failure;
+
+                    completion.completeExceptionally(cause);
+                    failureHandler.accept(cause);
+                });
+
+        return completion;
+    }
+
+    void rethrowOnMainThread(final String commandLine, final Throwable cause) {
+        mainThreadExecutor.execute(() -> {
+            throw new CommandExecutionException("Unhandled exception executing \"" + commandLine + "\" asynchronously", cause);
+        });
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.disbatch.command.async;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.Parameter;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A {@link Parameter} whose parsing may have to wait on something slow, such as the disk or a web service, and so
+ * hands out a future rather than blocking the thread executing the command. A {@link DeferredParameterizedCommand}
+ * defers its execution until that future completes.
+ *
+ * @param <S> {@inheritDoc}
+ * @param <V> {@inheritDoc}
+ *
+ * @since 1.0.0
+ */
+public interface DeferredParameter<S extends CommandSender, V> extends Parameter<S, V> {
+
+    /**
+     * Parses the given {@link CommandInput} without blocking.
+     *
+     * @param sender the {@link CommandSender} required to parse the arguments.
+     * @param input  the {@link CommandInput} passed from a {@link DeferredParameterizedCommand}.
+     * @return a future completed with the parsed {@code Object}, or {@code null} if the input cannot be parsed, which
+     *         is already completed if the result was available without waiting.
+     */
+    CompletableFuture<V> parseDeferred(S sender, CommandInput input);
+
+    /**
+     * Parses the given {@link CommandInput} only if {@link #parseDeferred(CommandSender, CommandInput)} completes
+     * without waiting, such as for a remembered result, and never blocks. Input whose result is not available yet is
+     * treated as unparsable, so callers able to wait should use {@code parseDeferred} instead, as
+     * {@link DeferredParameterizedCommand} does.
+     */
+    @Override
+    default @Nullable V parse(final S sender, final CommandInput input) {
+        return parseDeferred(sender, input).getNow(null);
+    }
+}
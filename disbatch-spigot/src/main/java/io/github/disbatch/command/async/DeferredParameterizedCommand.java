@@ -0,0 +1,103 @@
+package io.github.disbatch.command.async;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.InvalidInput;
+import io.github.disbatch.command.parameter.InvalidInputHandler;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * A {@link ParameterizedCommand} parsing its arguments through a {@link DeferredParameter}, so that parsing never
+ * blocks the server's main thread. Arguments available right away, such as cached ones, are executed immediately, as
+ * with any {@code ParameterizedCommand}. Otherwise, execution, or the handling of arguments that cannot be parsed, is
+ * deferred until the arguments are available, and then run on the main thread of its {@link AsyncScheduler}, unless
+ * the {@link Player} executing it has left the server by then.
+ *
+ * @param <S> {@inheritDoc}
+ * @param <V> {@inheritDoc}
+ * @see AsyncParameterizedCommand
+ *
+ * @since 1.0.0
+ */
+public abstract class DeferredParameterizedCommand<S extends CommandSender, V> extends ParameterizedCommand<S, V> {
+    private final DeferredParameter<? super S, V> parameter;
+    private final AsyncScheduler scheduler;
+
+    /**
+     * Constructs a new {@link DeferredParameterizedCommand}.
+     *
+     * @param parameter the {@link DeferredParameter} to use for {@code Object} argument creation.
+     * @param handler   the {@link InvalidInputHandler} to use for processing a {@link CommandSender} and an
+     *                  {@link InvalidInput} when necessary.
+     * @param scheduler the {@link AsyncScheduler} whose main thread deferred execution runs on.
+     */
+    protected DeferredParameterizedCommand(final @NotNull DeferredParameter<? super S, V> parameter, final @NotNull InvalidInputHandler<? super S> handler,
+                                           final @NotNull AsyncScheduler scheduler) {
+        super(parameter, handler);
+        this.parameter = parameter;
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    protected final boolean parseAndExecute(final S sender, final CommandInput input) {
+        final CompletableFuture<V> result = parameter.parseDeferred(sender, input);
+
+        if (result.isDone() && !result.isCompletedExceptionally()) {
+            final V argument = result.join();
+            if (argument == null) return false;
+
+            if (!hasLeft(sender)) execute(sender, argument, input);
+            return true;
+        }
+
+        result.whenComplete((argument, failure) -> scheduler.getMainThreadExecutor().execute(() -> {
+            if (failure != null) {
+                handleFailure(sender, input, failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure);
+                return;
+            }
+
+            if (hasLeft(sender)) return;
+
+            if (argument == null)
+                handleInvalidInput(sender, input, InvalidInput.Reason.INSUFFICIENT_ARGUMENTS);
+            else
+                execute(sender, argument, input);
+        }));
+
+        return true;
+    }
+
+    /**
+     * Determines if the {@link CommandSender} is a {@link Player} who has left the server, on whose behalf nothing
+     * should be executed anymore.
+     */
+    private static boolean hasLeft(final CommandSender sender) {
+        return sender instanceof Player && !((Player) sender).isOnline();
+    }
+
+    /**
+     * Handles an exception thrown while parsing the arguments. By default, the exception is rethrown on the main
+     * thread.
+     *
+     * @param sender the {@link CommandSender} responsible for execution.
+     * @param input  the {@link CommandInput} used to execute the {@code DeferredParameterizedCommand}.
+     * @param cause  the exception in question.
+     */
+    protected void handleFailure(final S sender, final CommandInput input, final Throwable cause) {
+        scheduler.rethrowOnMainThread(input.getCommandLine(), cause);
+    }
+
+    /**
+     * Retrieves the {@link AsyncScheduler} whose main thread deferred execution runs on.
+     *
+     * @return the scheduler.
+     */
+    protected final AsyncScheduler getScheduler() {
+        return scheduler;
+    }
+}
@@ -23,6 +23,15 @@ public abstract class CommandProxy<S extends CommandSender> implements Command<S
         this.innerCommand = innerCommand;
     }
 
+    /**
+     * Retrieves the {@link Command} proxied by the {@code CommandProxy}, which may itself be a {@code CommandProxy}.
+     *
+     * @return the proxied {@code Command}.
+     */
+    public final @NotNull Command<S> getInnerCommand() {
+        return innerCommand;
+    }
+
     @Override
     public void execute(final S sender, final CommandInput input) {
         innerCommand.execute(sender, input);
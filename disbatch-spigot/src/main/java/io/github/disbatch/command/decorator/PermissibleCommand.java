@@ -4,6 +4,7 @@ import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import io.github.disbatch.command.Command;
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.permission.PermissionNode;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
@@ -12,32 +13,47 @@ import java.util.StringJoiner;
 
 /**
  * A {@link CommandProxy} that is fully executed for any {@link CommandSender} having a specific permission node.
+ * <br>
+ * <br>
+ * The permission is checked live on every execution, so that revoking it takes effect right away. Tab completion checks
+ * it through the installed {@link io.github.disbatch.command.permission.PermissionCache}, if any, so that it is not
+ * resolved by the permission plugin on every keystroke.
  *
  * @param <S> {@inheritDoc}
  *
  * @since 1.0.0
  */
 public final class PermissibleCommand<S extends CommandSender> extends CommandProxy<S> {
-    private final String permissionNode;
+    private final PermissionNode permissionNode;
     private final String noPermissionMessage;
 
     public PermissibleCommand(final @NotNull Command<S> innerCommand, final @NotNull String permissionNode, final String noPermissionMessage) {
         super(innerCommand);
-        this.permissionNode = permissionNode;
+        this.permissionNode = PermissionNode.of(permissionNode);
         this.noPermissionMessage = noPermissionMessage;
     }
 
+    /**
+     * Retrieves the {@link PermissionNode} a {@link CommandSender} needs for the {@code PermissibleCommand} to be fully
+     * executed.
+     *
+     * @return the required {@code PermissionNode}.
+     */
+    public PermissionNode getPermissionNode() {
+        return permissionNode;
+    }
+
     @Override
     public void execute(final S sender, final @NotNull CommandInput input) {
-        if (sender.hasPermission(permissionNode))
+        if (sender.hasPermission(permissionNode.getName()))
             super.execute(sender, input);
         else if (!Strings.isNullOrEmpty(noPermissionMessage))
-            sender.sendMessage(noPermissionMessage.replace("%permission", permissionNode));
+            sender.sendMessage(noPermissionMessage.replace("%permission", permissionNode.getName()));
     }
 
     @Override
     public List<String> tabComplete(final S sender, final @NotNull CommandInput input) {
-        return sender.hasPermission(permissionNode)
+        return permissionNode.isGrantedTo(sender)
                 ? super.tabComplete(sender, input)
                 : ImmutableList.of();
     }
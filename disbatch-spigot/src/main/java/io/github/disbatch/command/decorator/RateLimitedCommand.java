@@ -0,0 +1,185 @@
+package io.github.disbatch.command.decorator;
+
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.exception.CommandException;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link CommandProxy} limiting how often each {@link CommandSender} can execute and tab complete a {@link Command},
+ * separately. Limited calls are turned away before reaching the inner {@code Command}, so nothing gets parsed for
+ * them.
+ * <br>
+ * <br>
+ * Every sender has a token bucket per {@code RateLimitedCommand}, holding up to the number of permits for a period
+ * and refilling one permit at a time over that period. Buckets live in a fixed-capacity, lock-free table, in which
+ * the buckets of idle senders are replaced by those of new ones once they are full again, so memory stays bounded no
+ * matter how many players pass through. Should every bucket a sender could take still be refilling, that sender
+ * draws from a single bucket shared by all such senders instead. Only entities, such as players, are limited; the
+ * console and command blocks are not.
+ *
+ * @param <S> {@inheritDoc}
+ *
+ * @since 1.0.0
+ */
+public final class RateLimitedCommand<S extends CommandSender> extends CommandProxy<S> {
+    private final SenderRateLimiter executionLimiter;
+    private final SenderRateLimiter tabCompletionLimiter;
+    private final String limitedMessage;
+
+    private RateLimitedCommand(final Command<S> innerCommand, final SenderRateLimiter executionLimiter,
+                               final SenderRateLimiter tabCompletionLimiter, final String limitedMessage) {
+        super(innerCommand);
+        this.executionLimiter = executionLimiter;
+        this.tabCompletionLimiter = tabCompletionLimiter;
+        this.limitedMessage = limitedMessage;
+    }
+
+    @Override
+    public void execute(final S sender, final @NotNull CommandInput input) {
+        if (isPermitted(executionLimiter, sender))
+            super.execute(sender, input);
+        else if (!Strings.isNullOrEmpty(limitedMessage))
+            sender.sendMessage(limitedMessage);
+    }
+
+    @Override
+    public List<String> tabComplete(final S sender, final @NotNull CommandInput input) {
+        return isPermitted(tabCompletionLimiter, sender)
+                ? super.tabComplete(sender, input)
+                : ImmutableList.of();
+    }
+
+    private static boolean isPermitted(final SenderRateLimiter limiter, final CommandSender sender) {
+        return limiter == null || !(sender instanceof Entity) || limiter.tryAcquire(((Entity) sender).getUniqueId());
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("innerCommand=" + super.toString())
+                .toString();
+    }
+
+    /**
+     * Serves as a flexible solution for creating a new {@link RateLimitedCommand}. Executions and tab completions are
+     * only limited if a limit has been set for them.
+     *
+     * @param <S> {@inheritDoc}
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder<S extends CommandSender> {
+        private Command<S> command;
+        private int executionPermits;
+        private long executionPeriodNanos;
+        private int tabCompletionPermits;
+        private long tabCompletionPeriodNanos;
+        private String limitedMessage;
+        private int capacity = 4096;
+        private LongSupplier ticker = System::nanoTime;
+
+        public Builder<S> command(final @NotNull Command<S> command) {
+            this.command = command;
+            return this;
+        }
+
+        /**
+         * Limits each {@link CommandSender} to executing the {@link Command} a number of times per period.
+         *
+         * @param permits the number of executions allowed per period, which can also happen all at once.
+         * @param period  the length of the period.
+         * @param unit    the unit of the period.
+         * @return the {@code Builder} instance.
+         */
+        public Builder<S> executions(final int permits, final long period, final @NotNull TimeUnit unit) {
+            executionPermits = validatePermits(permits);
+            executionPeriodNanos = validatePeriod(unit.toNanos(period));
+            return this;
+        }
+
+        /**
+         * Limits each {@link CommandSender} to tab completing the {@link Command} a number of times per period.
+         *
+         * @param permits the number of tab completions allowed per period, which can also happen all at once.
+         * @param period  the length of the period.
+         * @param unit    the unit of the period.
+         * @return the {@code Builder} instance.
+         */
+        public Builder<S> tabCompletions(final int permits, final long period, final @NotNull TimeUnit unit) {
+            tabCompletionPermits = validatePermits(permits);
+            tabCompletionPeriodNanos = validatePeriod(unit.toNanos(period));
+            return this;
+        }
+
+        /**
+         * Sets the message sent to a {@link CommandSender} whose execution has been limited.
+         *
+         * @param limitedMessage the message to be sent, or {@code null} to not send one.
+         * @return the {@code Builder} instance.
+         */
+        public Builder<S> limitedMessage(final String limitedMessage) {
+            this.limitedMessage = limitedMessage;
+            return this;
+        }
+
+        /**
+         * Sets the number of {@link CommandSender}s whose buckets are kept at once, which should comfortably exceed
+         * the number of players online. Defaults to {@code 4096}.
+         *
+         * @param capacity the number of buckets kept for both executions and tab completions.
+         * @return the {@code Builder} instance.
+         */
+        public Builder<S> capacity(final int capacity) {
+            if (capacity <= 0 || capacity > 1 << 30) throw new CommandException("Capacity must be between 1 and 2^30");
+
+            this.capacity = capacity;
+            return this;
+        }
+
+        /**
+         * Sets the source of the time in nanoseconds buckets refill by, which is {@link System#nanoTime()} by default.
+         *
+         * @param ticker the source of the time.
+         * @return the {@code Builder} instance.
+         */
+        public Builder<S> ticker(final @NotNull LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        private static int validatePermits(final int permits) {
+            if (permits <= 0) throw new CommandException("Permits must be greater than 0");
+            return permits;
+        }
+
+        private static long validatePeriod(final long periodNanos) {
+            if (periodNanos <= 0) throw new CommandException("Period must be greater than 0");
+            return periodNanos;
+        }
+
+        /**
+         * Creates a new {@link RateLimitedCommand}.
+         *
+         * @return the created {@code RateLimitedCommand}.
+         * @throws CommandException if no {@link Command} has been set.
+         */
+        public RateLimitedCommand<S> build() {
+            if (command == null) throw new CommandException("No command has been set");
+
+            return new RateLimitedCommand<>(command,
+                    executionPermits == 0 ? null : new SenderRateLimiter(capacity, executionPermits, executionPeriodNanos, ticker),
+                    tabCompletionPermits == 0 ? null : new SenderRateLimiter(capacity, tabCompletionPermits, tabCompletionPeriodNanos, ticker),
+                    limitedMessage);
+        }
+    }
+}
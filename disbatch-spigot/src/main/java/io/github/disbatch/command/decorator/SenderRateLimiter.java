@@ -0,0 +1,107 @@
+package io.github.disbatch.command.decorator;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * A fixed-capacity, lock-free table of token buckets keyed by sender {@link UUID}s. Each bucket is a single
+ * {@code long} holding its theoretical arrival time, the moment it would be full again, so that taking a token is a
+ * single compare-and-set and refilling needs no timer: a bucket whose arrival time has passed is full, and its slot
+ * can be handed to another sender.
+ * <br>
+ * <br>
+ * Sender {@code UUID}s are folded into non-zero {@code long} keys, and each key is looked for within a small window of
+ * slots from its hash. A sender not found there takes the first empty slot, or otherwise the slot of a bucket that is
+ * full, which keeps memory bounded however many senders pass through. A bucket still refilling is never handed to
+ * another sender, as that would hand its sender a full bucket the next time around; senders finding no slot in their
+ * window share a single overflow bucket instead.
+ */
+final class SenderRateLimiter {
+    private static final int MAX_PROBES = 8;
+    private static final long EMPTY = 0;
+
+    private final AtomicLongArray keys;
+    private final AtomicLongArray arrivalTimes;
+    private final int mask;
+    private final int overflow;
+    private final long intervalNanos;
+    private final long periodNanos;
+    private final LongSupplier ticker;
+    private final long origin;
+
+    SenderRateLimiter(final int capacity, final int permits, final long periodNanos, final LongSupplier ticker) {
+        final int slots = Math.max(MAX_PROBES, Integer.highestOneBit(Math.max(1, capacity - 1)) << 1);
+
+        keys = new AtomicLongArray(slots);
+        // the overflow bucket comes after every slot, so that it is never found through a key
+        arrivalTimes = new AtomicLongArray(slots + 1);
+        mask = slots - 1;
+        overflow = slots;
+        intervalNanos = Math.max(1, periodNanos / permits);
+        this.periodNanos = intervalNanos * permits;
+        this.ticker = ticker;
+        origin = ticker.getAsLong();
+    }
+
+    boolean tryAcquire(final UUID senderId) {
+        final long key = keyOf(senderId);
+        final long now = ticker.getAsLong() - origin;
+        final int start = spread(key) & mask;
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            int candidate = -1;
+            long candidateKey = EMPTY;
+
+            for (int probe = 0; probe < MAX_PROBES; probe++) {
+                final int slot = (start + probe) & mask;
+                final long slotKey = keys.get(slot);
+
+                if (slotKey == key) return acquire(slot, now);
+
+                // slots are never emptied, so a key cannot have been placed past an empty slot
+                if (slotKey == EMPTY) {
+                    candidate = slot;
+                    candidateKey = EMPTY;
+                    break;
+                }
+
+                if (candidate < 0 && arrivalTimes.get(slot) - now <= 0) {
+                    candidate = slot;
+                    candidateKey = slotKey;
+                }
+            }
+
+            if (candidate < 0) break;
+
+            // the bucket is taken over as it is, so one its previous sender drew from meanwhile is not refilled
+            if (keys.compareAndSet(candidate, candidateKey, key))
+                return acquire(candidate, now);
+        }
+
+        return acquire(overflow, now);
+    }
+
+    private boolean acquire(final int slot, final long now) {
+        while (true) {
+            final long arrivalTime = arrivalTimes.get(slot);
+            final long nextArrivalTime = Math.max(arrivalTime, now) + intervalNanos;
+
+            if (nextArrivalTime - now > periodNanos) return false;
+            if (arrivalTimes.compareAndSet(slot, arrivalTime, nextArrivalTime)) return true;
+        }
+    }
+
+    private static long keyOf(final UUID senderId) {
+        long key = senderId.getMostSignificantBits() * 0x9E3779B97F4A7C15L ^ senderId.getLeastSignificantBits();
+        key ^= key >>> 33;
+        key *= 0xFF51AFD7ED558CCDL;
+        key ^= key >>> 33;
+
+        return key == EMPTY ? 1 : key;
+    }
+
+    private static int spread(final long key) {
+        return (int) (key ^ (key >>> 32));
+    }
+}
@@ -23,11 +23,14 @@ public final class CommandDescriptor {
     private final CommandTopic topic;
     private final String label;
     private final String validSenderMessage;
+    private final boolean quotedArguments;
 
-    private CommandDescriptor(final @NotNull String label, final @NotNull String[] aliases, final @NotNull CommandTopic topic, final @NotNull String validSenderMessage) {
+    private CommandDescriptor(final @NotNull String label, final @NotNull String[] aliases, final @NotNull CommandTopic topic,
+                              final @NotNull String validSenderMessage, final boolean quotedArguments) {
         this.label = label;
         this.topic = topic;
         this.validSenderMessage = validSenderMessage;
+        this.quotedArguments = quotedArguments;
         this.aliases.addAll(Arrays.asList(aliases));
     }
 
@@ -47,6 +50,16 @@ public final class CommandDescriptor {
         return topic;
     }
 
+    /**
+     * Determines whether arguments wrapped in double quotes, spaces included, are passed as single arguments.
+     *
+     * @return {@code true} if quoted arguments are recognized, otherwise {@code false}.
+     * @see io.github.disbatch.command.TokenizedCommandInput
+     */
+    public boolean hasQuotedArguments() {
+        return quotedArguments;
+    }
+
     /**
      * Serves as the flexible solution for creating a new {@link CommandDescriptor}.
  *
@@ -60,6 +73,7 @@ public final class CommandDescriptor {
         private String label;
         private String[] aliases = ArrayUtils.EMPTY_STRING_ARRAY;
         private String validSenderMessage = StringUtils.EMPTY;
+        private boolean quotedArguments;
 
         static {
             FINALIZERS.put(GenericCommandTopic.class, new GenericCommandTopic.Finalizer());
@@ -124,6 +138,19 @@ public final class CommandDescriptor {
             return this;
         }
 
+        /**
+         * Sets whether arguments wrapped in double quotes, spaces included, should be passed as single arguments to the
+         * {@link Command} registered with the created descriptor, which is not the case by default.
+         *
+         * @param quotedArguments whether quoted arguments should be recognized
+         * @return the corresponding builder
+         * @see io.github.disbatch.command.TokenizedCommandInput
+         */
+        public Builder quotedArguments(final boolean quotedArguments) {
+            this.quotedArguments = quotedArguments;
+            return this;
+        }
+
         /**
          * Creates a new {@link CommandDescriptor}.
          *
@@ -135,7 +162,7 @@ public final class CommandDescriptor {
                 throw new CommandRegistrationException("Command label cannot be empty");
 
             final MutableCommandTopic mutableTopic = new MutableCommandTopic(topic);
-            final CommandDescriptor descriptor = new CommandDescriptor(label, aliases, mutableTopic, validSenderMessage);
+            final CommandDescriptor descriptor = new CommandDescriptor(label, aliases, mutableTopic, validSenderMessage, quotedArguments);
             final CommandTopicFinalizer<?> finalizer = FINALIZERS.getOrDefault(topic.getClass(), DEFAULT_FINALIZER);
 
             final CommandTopicFinalizer<CommandTopic> topicFinalizer = (CommandTopicFinalizer<CommandTopic>) finalizer;
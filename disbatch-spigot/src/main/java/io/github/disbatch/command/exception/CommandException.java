@@ -13,4 +13,8 @@ public class CommandException extends RuntimeException {
     public CommandException(final Exception cause) {
         super(cause);
     }
+
+    public CommandException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -7,4 +7,8 @@ public class CommandExecutionException extends CommandException {
     public CommandExecutionException(final String message) {
         super(message);
     }
+
+    public CommandExecutionException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
 }
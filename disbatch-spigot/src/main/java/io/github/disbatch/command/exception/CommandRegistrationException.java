@@ -13,9 +13,10 @@ public class CommandRegistrationException extends CommandException {
     }
 
     /**
+     * @param message
      * @param cause
      */
     public CommandRegistrationException(final String message, final Exception cause) {
-        super(cause);
+        super(message, cause);
     }
 }
@@ -0,0 +1,256 @@
+package io.github.disbatch.command.instrument;
+
+import io.github.disbatch.command.parameter.InvalidInput;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Records how every registered {@link io.github.disbatch.command.Command} performs, per command path: execution and
+ * tab completion latencies, along with the number of times input could not be parsed, per
+ * {@link InvalidInput.Reason}. Once enabled through {@link #setEnabled(boolean)}, commands registered through
+ * {@link io.github.disbatch.Disbatch} are recorded automatically, including any subcommands of a
+ * {@link io.github.disbatch.command.CommandGroup}, by the labels they were registered with rather than the aliases
+ * typed.
+ * <br>
+ * <br>
+ * Recorded metrics can either be queried directly or written in the Prometheus text format, such as for the textfile
+ * collector of the Prometheus node exporter.
+ *
+ * @see CommandStats
+ *
+ * @since 1.0.0
+ */
+public final class CommandMetrics {
+    private static final CommandMetrics GLOBAL = new CommandMetrics();
+    private static final String EXECUTION_METRIC = "disbatch_command_execution_seconds";
+    private static final String TAB_COMPLETE_METRIC = "disbatch_command_tab_complete_seconds";
+    private static final String PARSE_FAILURE_METRIC = "disbatch_command_parse_failures_total";
+
+    private final Map<String, CommandStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Retrieves the {@code CommandMetrics} every {@link io.github.disbatch.command.Command} is recorded to.
+     *
+     * @return the global {@code CommandMetrics}.
+     */
+    public static CommandMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Determines if metrics are currently being recorded, which they are not by default.
+     *
+     * @return {@code true} if metrics are being recorded, otherwise {@code false}.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether metrics should be recorded. Already recorded metrics are kept either way.
+     *
+     * @param enabled whether metrics should be recorded.
+     */
+    public void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Records the execution of a command path.
+     *
+     * @param path  the command path, ignoring case.
+     * @param nanos the time the execution took, in nanoseconds.
+     */
+    public void recordExecution(final @NotNull String path, final long nanos) {
+        if (enabled) stats(path).getExecutionLatency().record(nanos);
+    }
+
+    /**
+     * Records a tab completion of a command path.
+     *
+     * @param path  the command path, ignoring case.
+     * @param nanos the time the tab completion took, in nanoseconds.
+     */
+    public void recordTabComplete(final @NotNull String path, final long nanos) {
+        if (enabled) stats(path).getTabCompleteLatency().record(nanos);
+    }
+
+    /**
+     * Records that input passed to a command path could not be parsed.
+     *
+     * @param path   the command path, ignoring case.
+     * @param reason the reason the input could not be parsed.
+     */
+    public void recordParseFailure(final @NotNull String path, final @NotNull InvalidInput.Reason reason) {
+        if (enabled) stats(path).recordParseFailure(reason);
+    }
+
+    private CommandStats stats(final String path) {
+        final String key = path.toLowerCase(Locale.ENGLISH);
+        final CommandStats existing = stats.get(key);
+
+        return existing != null
+                ? existing
+                : stats.computeIfAbsent(key, CommandStats::new);
+    }
+
+    /**
+     * Finds the {@link CommandStats} recorded for a command path.
+     *
+     * @param path the command path, ignoring case (e.g., {@code "warp set"}).
+     * @return the found {@code CommandStats}, or {@code null} if nothing has been recorded for the path.
+     */
+    public @Nullable CommandStats find(final @NotNull String path) {
+        return stats.get(path.toLowerCase(Locale.ENGLISH));
+    }
+
+    /**
+     * Retrieves the {@link CommandStats} of every command path something has been recorded for.
+     *
+     * @return the {@code CommandStats}, sorted by their command paths.
+     */
+    public List<CommandStats> getAll() {
+        final List<CommandStats> all = new ArrayList<>(stats.values());
+        all.sort(Comparator.comparing(CommandStats::getPath));
+
+        return Collections.unmodifiableList(all);
+    }
+
+    /**
+     * Discards every recorded metric.
+     */
+    public void reset() {
+        stats.values().forEach(CommandStats::reset);
+    }
+
+    /**
+     * Writes every recorded metric in the Prometheus text format.
+     *
+     * @param writer the {@link Writer} to be written to.
+     * @throws IOException if writing fails.
+     */
+    public void writePrometheus(final @NotNull Writer writer) throws IOException {
+        final Collection<CommandStats> all = getAll();
+        final StringBuilder text = new StringBuilder();
+
+        appendHeader(text, EXECUTION_METRIC, "histogram", "Time taken to execute a command.");
+        for (final CommandStats stats : all)
+            appendHistogram(text, EXECUTION_METRIC, stats.getPath(), stats.getExecutionLatency().snapshot());
+
+        appendHeader(text, TAB_COMPLETE_METRIC, "histogram", "Time taken to tab complete a command.");
+        for (final CommandStats stats : all)
+            appendHistogram(text, TAB_COMPLETE_METRIC, stats.getPath(), stats.getTabCompleteLatency().snapshot());
+
+        appendHeader(text, PARSE_FAILURE_METRIC, "counter", "Inputs a command could not parse, by reason.");
+        for (final CommandStats stats : all) {
+            for (final InvalidInput.Reason reason : InvalidInput.Reason.values()) {
+                text.append(PARSE_FAILURE_METRIC).append("{command=\"").append(escape(stats.getPath()))
+                        .append("\",reason=\"").append(reason.name().toLowerCase(Locale.ENGLISH)).append("\"} ")
+                        .append(stats.getParseFailures(reason)).append('\n');
+            }
+        }
+
+        writer.write(text.toString());
+    }
+
+    /**
+     * Writes every recorded metric in the Prometheus text format to a file, replacing it atomically where supported so
+     * that a collector never reads a partially written file.
+     *
+     * @param file the file to be written to, which should end with {@code .prom} for the node exporter to collect it.
+     * @throws IOException if writing fails.
+     */
+    public void writePrometheus(final @NotNull Path file) throws IOException {
+        final Path absoluteFile = file.toAbsolutePath();
+        final Path temporaryFile = Files.createTempFile(absoluteFile.getParent(), absoluteFile.getFileName().toString(), ".tmp");
+
+        try {
+            try (Writer writer = Files.newBufferedWriter(temporaryFile, StandardCharsets.UTF_8)) {
+                writePrometheus(writer);
+            }
+
+            try {
+                Files.move(temporaryFile, absoluteFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, absoluteFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Periodically writes every recorded metric in the Prometheus text format to a file, off the main server thread,
+     * until the returned {@link BukkitTask} is cancelled or the given {@link Plugin} is disabled. Failing writes are
+     * logged by the {@code Plugin}.
+     *
+     * @param plugin      the {@code Plugin} scheduling the writes.
+     * @param file        the file to be written to.
+     * @param periodTicks the number of server ticks between writes.
+     * @return the scheduled {@code BukkitTask}.
+     * @see #writePrometheus(Path)
+     */
+    public BukkitTask schedulePrometheusFile(final @NotNull Plugin plugin, final @NotNull Path file, final long periodTicks) {
+        return plugin.getServer().getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+            try {
+                writePrometheus(file);
+            } catch (final IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Unable to write command metrics to " + file, e);
+            }
+        }, periodTicks, periodTicks);
+    }
+
+    private static void appendHeader(final StringBuilder text, final String metric, final String type, final String help) {
+        text.append("# HELP ").append(metric).append(' ').append(help).append('\n')
+                .append("# TYPE ").append(metric).append(' ').append(type).append('\n');
+    }
+
+    private static void appendHistogram(final StringBuilder text, final String metric, final String path, final LatencyHistogram.Snapshot snapshot) {
+        final String command = "command=\"" + escape(path) + "\"";
+        final long[] bounds = LatencyHistogram.getBucketBounds();
+        final long[] counts = snapshot.getBucketCounts();
+        long cumulativeCount = 0;
+
+        for (int i = 0; i < bounds.length; i++) {
+            cumulativeCount += counts[i];
+            text.append(metric).append("_bucket{").append(command).append(",le=\"").append(seconds(bounds[i])).append("\"} ")
+                    .append(cumulativeCount).append('\n');
+        }
+
+        text.append(metric).append("_bucket{").append(command).append(",le=\"+Inf\"} ").append(snapshot.getCount()).append('\n')
+                .append(metric).append("_sum{").append(command).append("} ").append(seconds(snapshot.getTotal(TimeUnit.NANOSECONDS))).append('\n')
+                .append(metric).append("_count{").append(command).append("} ").append(snapshot.getCount()).append('\n');
+    }
+
+    private static String seconds(final long nanos) {
+        return Double.toString(nanos / 1e9);
+    }
+
+    private static String escape(final String labelValue) {
+        return labelValue.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.disbatch.command.instrument;
+
+import io.github.disbatch.command.parameter.InvalidInput;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The metrics recorded for a single command path, being a registered label followed by any subcommand labels leading
+ * to the executed {@link io.github.disbatch.command.Command} (e.g., {@code "warp set"}).
+ *
+ * @see CommandMetrics
+ *
+ * @since 1.0.0
+ */
+public final class CommandStats {
+    private static final InvalidInput.Reason[] REASONS = InvalidInput.Reason.values();
+
+    private final String path;
+    private final LatencyHistogram executionLatency = new LatencyHistogram();
+    private final LatencyHistogram tabCompleteLatency = new LatencyHistogram();
+    private final LongAdder[] parseFailures = new LongAdder[REASONS.length];
+
+    CommandStats(final String path) {
+        this.path = path;
+
+        for (int i = 0; i < parseFailures.length; i++)
+            parseFailures[i] = new LongAdder();
+    }
+
+    /**
+     * Retrieves the command path the {@code CommandStats} are recorded for, in lowercase.
+     *
+     * @return the command path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Retrieves the {@link LatencyHistogram} of every execution, whose count is the number of executions.
+     *
+     * @return the execution {@code LatencyHistogram}.
+     */
+    public LatencyHistogram getExecutionLatency() {
+        return executionLatency;
+    }
+
+    /**
+     * Retrieves the {@link LatencyHistogram} of every tab completion, whose count is the number of tab completions.
+     *
+     * @return the tab completion {@code LatencyHistogram}.
+     */
+    public LatencyHistogram getTabCompleteLatency() {
+        return tabCompleteLatency;
+    }
+
+    /**
+     * Retrieves the number of times input could not be parsed for the given reason.
+     *
+     * @param reason the reason in question.
+     * @return the parse failure amount.
+     */
+    public long getParseFailures(final @NotNull InvalidInput.Reason reason) {
+        return parseFailures[reason.ordinal()].sum();
+    }
+
+    void recordParseFailure(final InvalidInput.Reason reason) {
+        parseFailures[reason.ordinal()].increment();
+    }
+
+    void reset() {
+        executionLatency.reset();
+        tabCompleteLatency.reset();
+
+        for (final LongAdder parseFailure : parseFailures)
+            parseFailure.reset();
+    }
+
+    @Override
+    public String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("path='" + path + "'")
+                .add("execution=" + executionLatency.snapshot())
+                .add("tabComplete=" + tabCompleteLatency.snapshot());
+
+        for (final InvalidInput.Reason reason : REASONS)
+            joiner.add(reason.name() + "=" + getParseFailures(reason));
+
+        return joiner.toString();
+    }
+}
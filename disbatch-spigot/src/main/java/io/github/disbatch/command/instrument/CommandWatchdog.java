@@ -0,0 +1,335 @@
+package io.github.disbatch.command.instrument;
+
+import io.github.disbatch.command.CommandInput;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Reports any execution or tab completion of a registered {@link io.github.disbatch.command.Command} taking longer than
+ * a budget, which defaults to a single server tick. Reports name the command path, the type of
+ * {@link CommandSender} and the shape of the arguments (e.g., {@code [word:5, int:3]}) rather than the arguments
+ * themselves, along with a stack trace sampled while the budget was being exceeded.
+ * <br>
+ * <br>
+ * Stack traces are sampled by a background thread checking on running commands, so that a command finishing within
+ * its budget costs no more than a few field writes.
+ * <br>
+ * <br>
+ * Commands are not watched until the {@code CommandWatchdog} is enabled, preferably through {@link #enable(Plugin)},
+ * which disables it again along with the plugin. The background thread is started by the first command watched, and
+ * stopped once the {@code CommandWatchdog} is disabled.
+ *
+ * @since 1.0.0
+ */
+public final class CommandWatchdog implements Listener {
+    private static final CommandWatchdog GLOBAL = new CommandWatchdog();
+    private static final int MAX_LOGGED_FRAMES = 32;
+
+    private final Map<Thread, Watch> watches = new ConcurrentHashMap<>();
+    private final ThreadLocal<Watch> currentWatch = ThreadLocal.withInitial(this::createWatch);
+    private volatile boolean enabled;
+    private volatile long budgetNanos = TimeUnit.MILLISECONDS.toNanos(50);
+    private volatile Logger logger;
+    private volatile Plugin plugin;
+    private volatile Thread sampler;
+
+    private CommandWatchdog() {
+    }
+
+    /**
+     * Retrieves the {@code CommandWatchdog} every registered {@link io.github.disbatch.command.Command} is watched by.
+     *
+     * @return the global {@code CommandWatchdog}.
+     */
+    public static CommandWatchdog global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Determines if commands are currently being watched, which they are not by default.
+     *
+     * @return {@code true} if commands are being watched, otherwise {@code false}.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Sets whether commands should be watched. Disabling the {@code CommandWatchdog} stops its background thread.
+     *
+     * @param enabled whether commands should be watched.
+     * @see #enable(Plugin)
+     */
+    public synchronized void setEnabled(final boolean enabled) {
+        this.enabled = enabled;
+
+        if (!enabled && sampler != null) {
+            sampler.interrupt();
+            sampler = null;
+        }
+    }
+
+    /**
+     * Starts watching commands for as long as the given plugin is enabled. Enabling while already enabled through a
+     * plugin has no effect.
+     *
+     * @param plugin the plugin to register the listener of the {@code CommandWatchdog} to.
+     */
+    public synchronized void enable(final @NotNull Plugin plugin) {
+        if (this.plugin != null) return;
+
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+        this.plugin = plugin;
+        setEnabled(true);
+    }
+
+    /**
+     * Retrieves the time an execution or tab completion may take before it is reported.
+     *
+     * @return the budget, in milliseconds.
+     */
+    public long getBudgetMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(budgetNanos);
+    }
+
+    /**
+     * Sets the time an execution or tab completion may take before it is reported.
+     *
+     * @param budgetMillis the budget, in milliseconds.
+     * @throws IllegalArgumentException if the budget is not positive.
+     */
+    public void setBudgetMillis(final long budgetMillis) {
+        if (budgetMillis <= 0) throw new IllegalArgumentException("Budget must be greater than 0");
+
+        budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMillis);
+    }
+
+    /**
+     * Sets the {@link Logger} reports are logged to, which is the server's by default.
+     *
+     * @param logger the {@code Logger} to be logged to.
+     */
+    public void setLogger(final @NotNull Logger logger) {
+        this.logger = logger;
+    }
+
+    /**
+     * Starts watching an execution on the current thread, which must be followed by calling {@link Watch#end()} once
+     * it finishes.
+     *
+     * @param sender the {@link CommandSender} executing the command.
+     * @param input  the {@link CommandInput} the command is executed with.
+     * @return the started {@link Watch}, or {@code null} if the {@code CommandWatchdog} is disabled or the current
+     *         thread is already being watched.
+     */
+    public @Nullable Watch beginExecution(final @NotNull CommandSender sender, final @NotNull CommandInput input) {
+        return begin(sender, input, "execution");
+    }
+
+    /**
+     * Starts watching a tab completion on the current thread, which must be followed by calling {@link Watch#end()}
+     * once it finishes.
+     *
+     * @param sender the {@link CommandSender} tab completing the command.
+     * @param input  the {@link CommandInput} the command is tab completed with.
+     * @return the started {@link Watch}, or {@code null} if the {@code CommandWatchdog} is disabled or the current
+     *         thread is already being watched.
+     */
+    public @Nullable Watch beginTabCompletion(final @NotNull CommandSender sender, final @NotNull CommandInput input) {
+        return begin(sender, input, "tab completion");
+    }
+
+    private Watch begin(final CommandSender sender, final CommandInput input, final String activity) {
+        if (!enabled) return null;
+        if (sampler == null) startSampler();
+
+        final Watch watch = currentWatch.get();
+        return watch.startNanos == 0 ? watch.begin(sender, input, activity) : null;
+    }
+
+    private Watch createWatch() {
+        final Watch watch = new Watch(Thread.currentThread());
+        watches.put(watch.thread, watch);
+
+        return watch;
+    }
+
+    private synchronized void startSampler() {
+        if (sampler != null || !enabled) return;
+
+        sampler = new Thread(this::sample, "Disbatch Command Watchdog");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    /**
+     * Samples the stack of every watched thread whose budget is exceeded, checking about four times per budget.
+     */
+    private void sample() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final long budgetNanos = this.budgetNanos;
+            LockSupport.parkNanos(Math.max(TimeUnit.MILLISECONDS.toNanos(1), budgetNanos / 4));
+
+            for (final Watch watch : watches.values()) {
+                if (!watch.thread.isAlive())
+                    watches.remove(watch.thread);
+                else
+                    watch.sample(budgetNanos);
+            }
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(final PluginDisableEvent event) {
+        if (event.getPlugin() != plugin) return;
+
+        synchronized (this) {
+            plugin = null;
+            setEnabled(false);
+        }
+    }
+
+    private void report(final Watch watch, final long elapsedNanos, final StackTraceElement[] stack, final int samples) {
+        final StringBuilder message = new StringBuilder("Command /")
+                .append(watch.input.getCommandLabel()).append(' ').append(watch.activity)
+                .append(" took ").append(TimeUnit.NANOSECONDS.toMillis(elapsedNanos)).append(" ms (budget ")
+                .append(TimeUnit.NANOSECONDS.toMillis(budgetNanos)).append(" ms) for ")
+                .append(watch.sender.getClass().getSimpleName()).append(" with arguments ")
+                .append(shapeOf(watch.input.getArguments()));
+
+        if (stack == null)
+            message.append(", finishing before a stack trace could be sampled");
+        else {
+            message.append(", sampled ").append(samples).append(samples == 1 ? " time" : " times").append(" on ")
+                    .append(watch.thread.getName()).append(':');
+
+            for (int i = 0; i < Math.min(stack.length, MAX_LOGGED_FRAMES); i++)
+                message.append("\n\tat ").append(stack[i]);
+
+            if (stack.length > MAX_LOGGED_FRAMES)
+                message.append("\n\t... ").append(stack.length - MAX_LOGGED_FRAMES).append(" more");
+        }
+
+        final Logger logger = this.logger;
+        (logger != null ? logger : Bukkit.getLogger()).log(Level.WARNING, message.toString());
+    }
+
+    /**
+     * Describes the given arguments without revealing them, classifying each as an integer, a decimal or a word along
+     * with its length.
+     */
+    static String shapeOf(final String[] arguments) {
+        final StringJoiner shape = new StringJoiner(", ", "[", "]");
+
+        for (final String argument : arguments)
+            shape.add(classify(argument) + ":" + argument.length());
+
+        return shape.toString();
+    }
+
+    private static String classify(final String argument) {
+        if (argument.isEmpty()) return "empty";
+
+        boolean digits = false;
+        boolean point = false;
+
+        for (int i = 0; i < argument.length(); i++) {
+            final char c = argument.charAt(i);
+
+            if (c >= '0' && c <= '9') digits = true;
+            else if (c == '.' && !point) point = true;
+            else if ((c != '-' && c != '+') || i != 0) return "word";
+        }
+
+        return !digits ? "word" : point ? "decimal" : "int";
+    }
+
+    /**
+     * Watches whatever a single thread is executing or tab completing. A {@code Watch} is reused by every call on its
+     * thread.
+     *
+     * @since 1.0.0
+     */
+    public final class Watch {
+        private final Thread thread;
+        private CommandSender sender;
+        private CommandInput input;
+        private String activity;
+        private volatile long startNanos;
+        private volatile Sample sample;
+
+        private Watch(final Thread thread) {
+            this.thread = thread;
+        }
+
+        private Watch begin(final CommandSender sender, final CommandInput input, final String activity) {
+            this.sender = sender;
+            this.input = input;
+            this.activity = activity;
+            startNanos = System.nanoTime();
+
+            return this;
+        }
+
+        private void sample(final long budgetNanos) {
+            final long startNanos = this.startNanos;
+            if (startNanos == 0 || System.nanoTime() - startNanos <= budgetNanos) return;
+
+            final StackTraceElement[] stack = thread.getStackTrace();
+            final Sample previous = sample;
+
+            sample = new Sample(startNanos, stack, previous != null && previous.startNanos == startNanos ? previous.count + 1 : 1);
+        }
+
+        /**
+         * Stops watching, reporting the call if it took longer than the budget.
+         */
+        public void end() {
+            final long startNanos = this.startNanos;
+            final long elapsedNanos = System.nanoTime() - startNanos;
+
+            this.startNanos = 0;
+
+            if (elapsedNanos > budgetNanos) {
+                // a sample taken as a previous call was ending belongs to that call instead
+                final Sample sample = this.sample;
+                final boolean sampled = sample != null && sample.startNanos == startNanos;
+
+                try {
+                    report(this, elapsedNanos, sampled ? sample.stack : null, sampled ? sample.count : 0);
+                } catch (final RuntimeException ignored) {
+                }
+            }
+
+            sender = null;
+            input = null;
+        }
+    }
+
+    private static final class Sample {
+        private final long startNanos;
+        private final StackTraceElement[] stack;
+        private final int count;
+
+        private Sample(final long startNanos, final StackTraceElement[] stack, final int count) {
+            this.startNanos = startNanos;
+            this.stack = stack;
+            this.count = count;
+        }
+    }
+}
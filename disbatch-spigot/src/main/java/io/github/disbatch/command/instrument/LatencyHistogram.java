@@ -0,0 +1,191 @@
+package io.github.disbatch.command.instrument;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies, counted into a fixed set of buckets ranging from one microsecond to ten seconds. Every
+ * bucket, as well as the running total, is a striped {@link LongAdder}, so that recording from many threads at once
+ * rarely contends and never blocks.
+ *
+ * @see CommandStats
+ *
+ * @since 1.0.0
+ */
+public final class LatencyHistogram {
+    private static final long[] BUCKET_BOUNDS = {
+            1_000L, 2_500L, 5_000L,
+            10_000L, 25_000L, 50_000L,
+            100_000L, 250_000L, 500_000L,
+            1_000_000L, 2_500_000L, 5_000_000L,
+            10_000_000L, 25_000_000L, 50_000_000L,
+            100_000_000L, 250_000_000L, 500_000_000L,
+            1_000_000_000L, 2_500_000_000L, 5_000_000_000L,
+            10_000_000_000L
+    };
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS.length + 1];
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    LatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++)
+            buckets[i] = new LongAdder();
+    }
+
+    /**
+     * Retrieves the inclusive upper bound of every bucket, in nanoseconds. Latencies exceeding the last bound are
+     * counted into an additional overflow bucket.
+     *
+     * @return a copy of the bucket bounds.
+     */
+    public static long[] getBucketBounds() {
+        return BUCKET_BOUNDS.clone();
+    }
+
+    /**
+     * Records a latency.
+     *
+     * @param nanos the latency, in nanoseconds.
+     */
+    public void record(final long nanos) {
+        final long latency = Math.max(0, nanos);
+        final int index = Arrays.binarySearch(BUCKET_BOUNDS, latency);
+
+        buckets[index < 0 ? -index - 1 : index].increment();
+        totalNanos.add(latency);
+        maxNanos.accumulate(latency);
+    }
+
+    /**
+     * Takes a {@link Snapshot} of the {@code LatencyHistogram}. Latencies recorded while the snapshot is taken may or
+     * may not be part of it.
+     *
+     * @return the taken {@code Snapshot}.
+     */
+    public Snapshot snapshot() {
+        final long[] counts = new long[buckets.length];
+
+        for (int i = 0; i < counts.length; i++)
+            counts[i] = buckets[i].sum();
+
+        return new Snapshot(counts, totalNanos.sum(), maxNanos.get());
+    }
+
+    void reset() {
+        for (final LongAdder bucket : buckets)
+            bucket.reset();
+
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    /**
+     * A point-in-time copy of the counts of a {@link LatencyHistogram}.
+     *
+     * @since 1.0.0
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long totalNanos;
+        private final long maxNanos;
+        private final long count;
+
+        private Snapshot(final long[] counts, final long totalNanos, final long maxNanos) {
+            this.counts = counts;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+
+            long count = 0;
+
+            for (final long bucketCount : counts)
+                count += bucketCount;
+
+            this.count = count;
+        }
+
+        /**
+         * Retrieves the number of recorded latencies.
+         *
+         * @return the latency amount.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Retrieves the number of recorded latencies per bucket, ordered as {@link LatencyHistogram#getBucketBounds()},
+         * followed by the overflow bucket.
+         *
+         * @return a copy of the bucket counts.
+         */
+        public long[] getBucketCounts() {
+            return counts.clone();
+        }
+
+        /**
+         * Retrieves the sum of every recorded latency.
+         *
+         * @param unit the unit of the sum.
+         * @return the summed latencies.
+         */
+        public long getTotal(final TimeUnit unit) {
+            return unit.convert(totalNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Retrieves the highest recorded latency.
+         *
+         * @param unit the unit of the latency.
+         * @return the highest latency, or {@code 0} if none have been recorded.
+         */
+        public long getMax(final TimeUnit unit) {
+            return unit.convert(maxNanos, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Retrieves the average recorded latency.
+         *
+         * @param unit the unit of the latency.
+         * @return the average latency, or {@code 0} if none have been recorded.
+         */
+        public long getMean(final TimeUnit unit) {
+            return count == 0 ? 0 : unit.convert(totalNanos / count, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Estimates the latency below which the given fraction of recorded latencies fall, as the upper bound of the
+         * bucket it falls into, capped by the highest recorded latency.
+         *
+         * @param quantile the fraction, between {@code 0} and {@code 1} (e.g., {@code 0.99} for the 99th percentile).
+         * @param unit     the unit of the latency.
+         * @return the estimated latency, or {@code 0} if none have been recorded.
+         */
+        public long getQuantile(final double quantile, final TimeUnit unit) {
+            if (count == 0) return 0;
+
+            final long rank = Math.max(1, (long) Math.ceil(Math.min(Math.max(quantile, 0), 1) * count));
+            long seen = 0;
+
+            for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+                if ((seen += counts[i]) >= rank)
+                    return unit.convert(Math.min(BUCKET_BOUNDS[i], maxNanos), TimeUnit.NANOSECONDS);
+            }
+
+            return unit.convert(maxNanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                    .add("count=" + count)
+                    .add("meanMicros=" + getMean(TimeUnit.MICROSECONDS))
+                    .add("p99Micros=" + getQuantile(0.99, TimeUnit.MICROSECONDS))
+                    .add("maxMicros=" + getMax(TimeUnit.MICROSECONDS))
+                    .toString();
+        }
+    }
+}
@@ -17,7 +17,7 @@ import java.util.Collection;
  * @since 1.0.0
  */
 public abstract class AbstractParameter<S extends CommandSender, V> implements Parameter<S, V> {
-    private Suggester<S> suggester = Suggesters.empty();
+    private volatile Suggester<S> suggester = Suggesters.empty();
 
     @Override
     public final Collection<String> getSuggestions(final S sender, final CommandInput input) {
@@ -0,0 +1,31 @@
+package io.github.disbatch.command.parameter;
+
+import io.github.disbatch.command.CommandInput;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collection;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves the same purpose as a {@link Suggester}, but allows the suggestions to be computed asynchronously, such as
+ * when they are backed by a database.
+ *
+ * @apiNote An {@code AsyncSuggester} can be used wherever a {@code Suggester} is expected by bounding it with a deadline
+ * via {@link Suggesters#withDeadline(AsyncSuggester, long, TimeUnit)}.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface AsyncSuggester<S extends CommandSender> {
+
+    /**
+     * Retrieves a {@code CompletionStage} completing with all the possible suggestions to be used for tab completion.
+     * The returned stage may be cancelled once a newer tab completion from the same {@link CommandSender} arrives.
+     *
+     * @param sender the {@link CommandSender} responsible for requesting suggestions.
+     * @param input  the {@link CommandInput} passed during tab completion.
+     * @return the pending suggestions.
+     */
+    CompletionStage<? extends Collection<String>> getSuggestionsAsync(S sender, CommandInput input);
+}
@@ -0,0 +1,45 @@
+package io.github.disbatch.command.parameter;
+
+import io.github.disbatch.command.CommandInput;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collection;
+
+/**
+ * Serves the same purpose as a {@link Suggester}, but writes its suggestions into a reused {@link SuggestionBuffer},
+ * which sorts and bounds them without growing a new {@code Collection} for every tab completion. Only the final,
+ * exactly sized copy of the suggestions is allocated.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface BufferedSuggester<S extends CommandSender> extends Suggester<S> {
+
+    /**
+     * Adds all the possible suggestions to be used for tab completion to the given {@link SuggestionBuffer}.
+     *
+     * @param sender the {@link CommandSender} responsible for requesting suggestions.
+     * @param input  the {@link CommandInput} passed during tab completion.
+     * @param buffer the {@code SuggestionBuffer} to add suggestions to.
+     */
+    void suggest(S sender, CommandInput input, SuggestionBuffer buffer);
+
+    /**
+     * Fills the {@link SuggestionBuffer} of the current thread, bounded by {@link SuggestionBuffer#DEFAULT_LIMIT}.
+     *
+     * @return an immutable copy of the filled buffer.
+     * @see SuggestionBuffer#toList()
+     */
+    @Override
+    default Collection<String> getSuggestions(final S sender, final CommandInput input) {
+        final SuggestionBuffer buffer = SuggestionBuffer.acquire(SuggestionBuffer.DEFAULT_LIMIT);
+
+        try {
+            suggest(sender, input, buffer);
+        } finally {
+            buffer.release();
+        }
+
+        return buffer.toList();
+    }
+}
@@ -0,0 +1,107 @@
+package io.github.disbatch.command.parameter;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.exception.ParameterException;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Waits on an {@link AsyncSuggester} for at most a fixed deadline. Once the deadline passes, the most recently completed
+ * suggestions for the same {@link CommandSender} are used instead, narrowed down to the argument being typed.
+ * <br>
+ * <br>
+ * A request that misses the deadline keeps running, and stays the request in flight for its {@code CommandSender}
+ * until it completes or a newer request cancels it. Only the suggestions of the request in flight are remembered, so
+ * that an older request completing late cannot replace the suggestions of a newer one.
+ */
+final class DeadlineSuggester<S extends CommandSender> implements Suggester<S> {
+    private final Map<CommandSender, CompletableFuture<?>> inFlight = Collections.synchronizedMap(new WeakHashMap<>());
+    private final Map<CommandSender, CompletedSuggestions> completed = Collections.synchronizedMap(new WeakHashMap<>());
+    private final AsyncSuggester<S> suggester;
+    private final long deadlineNanos;
+
+    DeadlineSuggester(final AsyncSuggester<S> suggester, final long deadline, final TimeUnit unit) {
+        this.suggester = suggester;
+        deadlineNanos = unit.toNanos(deadline);
+    }
+
+    @Override
+    public Collection<String> getSuggestions(final S sender, final CommandInput input) {
+        final String argument = lastArgument(input);
+        final CompletableFuture<? extends Collection<String>> future = suggester.getSuggestionsAsync(sender, input).toCompletableFuture();
+        final CompletableFuture<?> previous = inFlight.put(sender, future);
+
+        if (previous != null && previous != future)
+            previous.cancel(true);
+
+        future.whenComplete((suggestions, failure) -> {
+            synchronized (inFlight) {
+                if (inFlight.get(sender) != future) return;
+
+                inFlight.remove(sender);
+                if (failure == null) completed.put(sender, new CompletedSuggestions(argument, suggestions));
+            }
+        });
+
+        try {
+            return future.get(deadlineNanos, TimeUnit.NANOSECONDS);
+        } catch (final TimeoutException | CancellationException e) {
+            return fallback(sender, argument);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return fallback(sender, argument);
+        } catch (final ExecutionException e) {
+            throw new ParameterException("Unable to compute suggestions for \"" + input.getCommandLine() + "\"", e.getCause());
+        }
+    }
+
+    private Collection<String> fallback(final S sender, final String argument) {
+        final CompletedSuggestions suggestions = completed.get(sender);
+
+        return suggestions == null
+                ? ImmutableList.of()
+                : suggestions.narrow(argument);
+    }
+
+    private static String lastArgument(final CommandInput input) {
+        final int length = input.getArgumentLength();
+        return length == 0 ? "" : input.getArgument(length - 1);
+    }
+
+    private static class CompletedSuggestions {
+        private final String argument;
+        private final Collection<String> suggestions;
+
+        CompletedSuggestions(final String argument, final Collection<String> suggestions) {
+            this.argument = argument;
+            this.suggestions = suggestions;
+        }
+
+        Collection<String> narrow(final String argument) {
+            if (!startsWithIgnoreCase(argument, this.argument))
+                return ImmutableList.of();
+
+            final ImmutableList.Builder<String> narrowed = ImmutableList.builder();
+
+            for (final String suggestion : suggestions)
+                if (startsWithIgnoreCase(suggestion, argument))
+                    narrowed.add(suggestion);
+
+            return narrowed.build();
+        }
+
+        private static boolean startsWithIgnoreCase(final String string, final String prefix) {
+            return string.regionMatches(true, 0, prefix, 0, prefix.length());
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package io.github.disbatch.command.parameter;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A namespace for validating and converting numeric arguments in a single pass, without regular expressions and,
+ * for all but unusually long or precise decimals, without allocating.
+ * <br>
+ * <br>
+ * Whole numbers are accepted in the form {@code -?\d+}, and decimals in the form {@code -?\d+(\.\d+)?}. Arguments
+ * that do not match, overflow, or fall outside the given range are reported as invalid through a sentinel value
+ * rather than an exception: {@link #INVALID} for whole numbers and {@code NaN}, which is never accepted, for decimals.
+ *
+ * @since 1.0.0
+ */
+public final class NumberScanner {
+
+    /**
+     * The value returned for invalid whole numbers. As a consequence, {@link Long#MIN_VALUE} itself is never accepted
+     * as a {@code long}.
+     */
+    public static final long INVALID = Long.MIN_VALUE;
+
+    private static final int MAX_EXACT_DOUBLE_EXPONENT = 22;
+    private static final long MAX_EXACT_DOUBLE_SIGNIFICAND = 1L << 53;
+    private static final int MAX_EXACT_FLOAT_EXPONENT = 10;
+    private static final long MAX_EXACT_FLOAT_SIGNIFICAND = 1L << 24;
+    private static final long MAX_ACCUMULATED = (Long.MAX_VALUE - 9) / 10;
+    private static final double[] DOUBLE_POWERS_OF_TEN = new double[MAX_EXACT_DOUBLE_EXPONENT + 1];
+    private static final float[] FLOAT_POWERS_OF_TEN = new float[MAX_EXACT_FLOAT_EXPONENT + 1];
+
+    static {
+        DOUBLE_POWERS_OF_TEN[0] = 1;
+        FLOAT_POWERS_OF_TEN[0] = 1;
+
+        for (int i = 1; i < DOUBLE_POWERS_OF_TEN.length; i++)
+            DOUBLE_POWERS_OF_TEN[i] = DOUBLE_POWERS_OF_TEN[i - 1] * 10;
+
+        for (int i = 1; i < FLOAT_POWERS_OF_TEN.length; i++)
+            FLOAT_POWERS_OF_TEN[i] = FLOAT_POWERS_OF_TEN[i - 1] * 10;
+    }
+
+    private NumberScanner() {
+        throw new AssertionError();
+    }
+
+    /**
+     * Scans an argument as an {@code int}.
+     *
+     * @param argument the argument to be scanned.
+     * @return the scanned value, or {@link #INVALID} if the argument is not a valid {@code int}.
+     */
+    public static long scanInt(final @NotNull CharSequence argument) {
+        return scanLong(argument, Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Scans an argument as an {@code int} within a range.
+     *
+     * @param argument the argument to be scanned.
+     * @param min      the minimum value, inclusive.
+     * @param max      the maximum value, inclusive.
+     * @return the scanned value, or {@link #INVALID} if the argument is not a valid {@code int} within the range.
+     */
+    public static long scanInt(final @NotNull CharSequence argument, final int min, final int max) {
+        return scanLong(argument, min, max);
+    }
+
+    /**
+     * Scans an argument as a {@code long}.
+     *
+     * @param argument the argument to be scanned.
+     * @return the scanned value, or {@link #INVALID} if the argument is not a valid {@code long}.
+     */
+    public static long scanLong(final @NotNull CharSequence argument) {
+        return scanLong(argument, Long.MIN_VALUE + 1, Long.MAX_VALUE);
+    }
+
+    /**
+     * Scans an argument as a {@code long} within a range.
+     *
+     * @param argument the argument to be scanned.
+     * @param min      the minimum value, inclusive.
+     * @param max      the maximum value, inclusive.
+     * @return the scanned value, or {@link #INVALID} if the argument is not a valid {@code long} within the range.
+     */
+    public static long scanLong(final @NotNull CharSequence argument, final long min, final long max) {
+        final int length = argument.length();
+        final boolean negative = length > 0 && argument.charAt(0) == '-';
+        int index = negative ? 1 : 0;
+
+        if (index == length) return INVALID;
+
+        long value = 0;
+
+        for (; index < length; index++) {
+            final int digit = argument.charAt(index) - '0';
+
+            if (digit < 0 || digit > 9) return INVALID;
+
+            if (value > MAX_ACCUMULATED && (value > Long.MAX_VALUE / 10 || digit > Long.MAX_VALUE % 10))
+                return INVALID;
+
+            value = value * 10 + digit;
+        }
+
+        if (negative) value = -value;
+
+        return value < min || value > max ? INVALID : value;
+    }
+
+    /**
+     * Scans an argument as a {@code double}.
+     *
+     * @param argument the argument to be scanned.
+     * @return the scanned value, or {@code NaN} if the argument is not a valid decimal.
+     */
+    public static double scanDouble(final @NotNull CharSequence argument) {
+        return scanDouble(argument, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Scans an argument as a {@code double} within a range.
+     *
+     * @param argument the argument to be scanned.
+     * @param min      the minimum value, inclusive.
+     * @param max      the maximum value, inclusive.
+     * @return the scanned value, or {@code NaN} if the argument is not a valid decimal within the range.
+     */
+    public static double scanDouble(final @NotNull CharSequence argument, final double min, final double max) {
+        final double value = scanDecimal(argument, false);
+        return value < min || value > max ? Double.NaN : value;
+    }
+
+    /**
+     * Scans an argument as a {@code float}.
+     *
+     * @param argument the argument to be scanned.
+     * @return the scanned value, or {@code NaN} if the argument is not a valid decimal.
+     */
+    public static float scanFloat(final @NotNull CharSequence argument) {
+        return scanFloat(argument, Float.NEGATIVE_INFINITY, Float.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Scans an argument as a {@code float} within a range.
+     *
+     * @param argument the argument to be scanned.
+     * @param min      the minimum value, inclusive.
+     * @param max      the maximum value, inclusive.
+     * @return the scanned value, or {@code NaN} if the argument is not a valid decimal within the range.
+     */
+    public static float scanFloat(final @NotNull CharSequence argument, final float min, final float max) {
+        final float value = (float) scanDecimal(argument, true);
+        return value < min || value > max ? Float.NaN : value;
+    }
+
+    /**
+     * Accumulates up to 18 significant digits in a {@code long}. If these hold every digit and both they and the
+     * power of ten they are divided by are exactly representable, a single division is correctly rounded, which
+     * covers practically all arguments typed by players. Anything else is left to the JDK parsers.
+     */
+    private static double scanDecimal(final CharSequence argument, final boolean single) {
+        final int length = argument.length();
+        final boolean negative = length > 0 && argument.charAt(0) == '-';
+        int index = negative ? 1 : 0;
+        final int integerStart = index;
+        long significand = 0;
+        int exponent = 0;
+        boolean exact = true;
+
+        for (; index < length; index++) {
+            final int digit = argument.charAt(index) - '0';
+
+            if (digit < 0 || digit > 9) break;
+
+            if (significand <= MAX_ACCUMULATED) {
+                significand = significand * 10 + digit;
+            } else {
+                exponent++;
+                exact = false;
+            }
+        }
+
+        if (index == integerStart) return Double.NaN;
+
+        if (index < length) {
+            if (argument.charAt(index) != '.' || ++index == length) return Double.NaN;
+
+            for (; index < length; index++) {
+                final int digit = argument.charAt(index) - '0';
+
+                if (digit < 0 || digit > 9) return Double.NaN;
+
+                if (significand <= MAX_ACCUMULATED) {
+                    significand = significand * 10 + digit;
+                    exponent--;
+                } else if (digit != 0) {
+                    exact = false;
+                }
+            }
+        }
+
+        final double value;
+
+        if (exact && significand == 0)
+            value = 0;
+        else if (!single && exact && significand <= MAX_EXACT_DOUBLE_SIGNIFICAND && exponent >= -MAX_EXACT_DOUBLE_EXPONENT)
+            value = significand / DOUBLE_POWERS_OF_TEN[-exponent];
+        else if (single && exact && significand <= MAX_EXACT_FLOAT_SIGNIFICAND && exponent >= -MAX_EXACT_FLOAT_EXPONENT)
+            value = (float) significand / FLOAT_POWERS_OF_TEN[-exponent];
+        else if (single)
+            value = Math.abs(Float.parseFloat(argument.toString()));
+        else
+            value = Math.abs(Double.parseDouble(argument.toString()));
+
+        return negative ? -value : value;
+    }
+}
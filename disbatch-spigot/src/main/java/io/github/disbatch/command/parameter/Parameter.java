@@ -34,7 +34,9 @@ public interface Parameter<S extends CommandSender, V> {
 
     /**
      * Retrieves a {@code Collection} of all the possible suggestions to be used for tab completion from a
-     * {@link ParameterizedCommand}.
+     * {@link ParameterizedCommand}. An immutable {@code List} is handed to the server as is, and any other
+     * {@code List} through an unmodifiable view, so the returned {@code Collection} must not change afterwards, such
+     * as a view of a reused {@link SuggestionBuffer} would.
      *
      * @param sender the {@link CommandSender} responsible for requesting suggestions.
      * @param input  the {@link CommandInput} passed from a {@link ParameterizedCommand} during tab completion.
@@ -56,6 +58,19 @@ public interface Parameter<S extends CommandSender, V> {
      */
     int getMaximumUsage();
 
+    /**
+     * Determines if the {@link Parameter} is pure, meaning that it parses equal arguments into equal results no matter
+     * the {@link CommandSender} or the state of the server, which cannot be modified. Results of a pure
+     * {@code Parameter} may be cached and handed out again as they are, such as by a
+     * {@link io.github.disbatch.command.parameter.decorator.CachingParameter}. A {@code Parameter} parsing into
+     * modifiable results, such as a {@link org.bukkit.util.Vector} or an array, is therefore not pure.
+     *
+     * @return {@code true} if the {@code Parameter} is pure, otherwise {@code false}.
+     */
+    default boolean isPure() {
+        return false;
+    }
+
     /**
      * Serves as the flexible solution for creating a {@link Parameter}.
      *
@@ -69,6 +84,7 @@ public interface Parameter<S extends CommandSender, V> {
         private Suggester<S> suggester = Suggesters.empty();
         private int minUsage = 1;
         private int maxUsage = Integer.MAX_VALUE;
+        private boolean pure;
 
         public Builder<S, V> parser(final ParameterParser<S, V> parser) {
             this.parser = parser;
@@ -90,8 +106,20 @@ public interface Parameter<S extends CommandSender, V> {
             return this;
         }
 
+        /**
+         * Declares the built {@link Parameter} as pure.
+         *
+         * @param pure whether the built {@code Parameter} is pure.
+         * @return the {@code Builder} instance.
+         * @see Parameter#isPure()
+         */
+        public Builder<S, V> pure(final boolean pure) {
+            this.pure = pure;
+            return this;
+        }
+
         public Parameter<S, V> build() {
-            return new BuiltParameter(parser, suggester, minUsage, maxUsage);
+            return new BuiltParameter(parser, suggester, minUsage, maxUsage, pure);
         }
 
         private class BuiltParameter implements Parameter<S, V> {
@@ -99,12 +127,14 @@ public interface Parameter<S extends CommandSender, V> {
             private final Suggester<S> suggester;
             private final int minUsage;
             private final int maxUsage;
+            private final boolean pure;
 
-            private BuiltParameter(final @NotNull ParameterParser<S, V> parser, final @NotNull Suggester<S> suggester, final int minUsage, final int maxUsage) {
+            private BuiltParameter(final @NotNull ParameterParser<S, V> parser, final @NotNull Suggester<S> suggester, final int minUsage, final int maxUsage, final boolean pure) {
                 this.parser = parser;
                 this.suggester = suggester;
                 this.minUsage = minUsage;
                 this.maxUsage = maxUsage;
+                this.pure = pure;
             }
 
             @Override
@@ -127,6 +157,11 @@ public interface Parameter<S extends CommandSender, V> {
                 return maxUsage;
             }
 
+            @Override
+            public boolean isPure() {
+                return pure;
+            }
+
             @Override
             public String toString() {
                 return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
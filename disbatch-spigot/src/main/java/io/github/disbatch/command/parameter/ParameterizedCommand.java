@@ -3,11 +3,14 @@ package io.github.disbatch.command.parameter;
 import com.google.common.collect.ImmutableList;
 import io.github.disbatch.command.Command;
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.TokenizedCommandInput;
+import io.github.disbatch.command.instrument.CommandMetrics;
 import io.github.disbatch.command.parameter.exception.InvalidParameterException;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.LinkedList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -57,14 +60,48 @@ public abstract class ParameterizedCommand<S extends CommandSender, V> implement
         final boolean hasExtraArgs = length > parameter.getMaximumUsage();
 
         if (!hasLackingArgs && !hasExtraArgs) {
-            final V result = parameter.parse(sender, input);
-
-            if (result == null) handler.handle(sender, new InvalidInputImpl(input, InvalidInput.Reason.INSUFFICIENT_ARGUMENTS));
-            else execute(sender, result, input);
+            if (!parseAndExecute(sender, input))
+                handleInvalidInput(sender, input, InvalidInput.Reason.INSUFFICIENT_ARGUMENTS);
         } else if (hasLackingArgs)
-            handler.handle(sender, new InvalidInputImpl(input, InvalidInput.Reason.LACKING_ARGUMENTS));
+            handleInvalidInput(sender, input, InvalidInput.Reason.LACKING_ARGUMENTS);
         else
-            handler.handle(sender, new InvalidInputImpl(input, InvalidInput.Reason.EXTRA_ARGUMENTS));
+            handleInvalidInput(sender, input, InvalidInput.Reason.EXTRA_ARGUMENTS);
+    }
+
+    /**
+     * Parses a {@link CommandInput} whose arguments are within the usage bounds of the {@link Parameter}, and executes
+     * the {@code ParameterizedCommand} with the result. This can be overridden by subclasses carrying the result to
+     * their execution differently, such as without boxing a primitive.
+     *
+     * @param sender the {@link CommandSender} responsible for execution
+     * @param input  the {@code CommandInput} used to execute the {@code ParameterizedCommand}
+     * @return {@code true} if the input was parsed and executed, or {@code false} if it could not be parsed.
+     */
+    protected boolean parseAndExecute(final S sender, final CommandInput input) {
+        final V result = parameter.parse(sender, input);
+        if (result == null) return false;
+
+        execute(sender, result, input);
+        return true;
+    }
+
+    /**
+     * Records and handles a {@link CommandInput} that could not be parsed through the inner {@link InvalidInputHandler}.
+     * This is done by {@link #execute(CommandSender, CommandInput)} itself, unless parsing was deferred by
+     * {@link #parseAndExecute(CommandSender, CommandInput)}. Failures are recorded by the command path of the input.
+     *
+     * @param sender the {@link CommandSender} responsible for execution
+     * @param input  the {@code CommandInput} that could not be parsed
+     * @see TokenizedCommandInput#getCommandPath()
+     * @param reason the reason the {@code CommandInput} could not be parsed
+     */
+    protected final void handleInvalidInput(final S sender, final CommandInput input, final InvalidInput.Reason reason) {
+        final CommandMetrics metrics = CommandMetrics.global();
+
+        if (metrics.isEnabled())
+            metrics.recordParseFailure(TokenizedCommandInput.from(input).getCommandPath(), reason);
+
+        handler.handle(sender, new InvalidInputImpl(input, reason));
     }
 
     /**
@@ -79,9 +116,16 @@ public abstract class ParameterizedCommand<S extends CommandSender, V> implement
 
     @Override
     public final List<String> tabComplete(final S sender, final @NotNull CommandInput input) {
-        return input.getArgumentLength() <= parameter.getMaximumUsage()
-                ? new LinkedList<>(parameter.getSuggestions(sender, input))
-                : ImmutableList.of();
+        if (input.getArgumentLength() > parameter.getMaximumUsage()) return ImmutableList.of();
+
+        final Collection<String> suggestions = parameter.getSuggestions(sender, input);
+
+        if (suggestions instanceof ImmutableList)
+            return (List<String>) suggestions;
+
+        return suggestions instanceof List
+                ? Collections.unmodifiableList((List<String>) suggestions)
+                : ImmutableList.copyOf(suggestions);
     }
 
     /**
@@ -2,12 +2,18 @@ package io.github.disbatch.command.parameter;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
+import io.github.disbatch.command.parameter.model.enumeration.IndexedEnumRepository;
+import io.github.disbatch.command.parameter.model.player.MappedNameIndex;
+import io.github.disbatch.command.parameter.model.player.OnlinePlayerIndex;
+import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -32,27 +38,62 @@ public final class Suggesters {
     }
 
     /**
-     * @param values
-     * @param <S>
-     * @param <E>
-     * @return
+     * Suggests the names of the given constants. If they are every constant of their enum type, the names are shared
+     * through its {@link IndexedEnumRepository} rather than collected again.
+     *
+     * @param values the constants to be suggested.
+     * @param <S>    any type extending {@code CommandSender} requesting suggestions.
+     * @param <E>    the enum type subclass.
+     * @return the created {@link Suggester}.
      */
     public static <S extends CommandSender, E extends Enum<E>> Suggester<S> of(final @NotNull E[] values) {
-        return of(Arrays.stream(values)
-                .map(Enum::name)
-                .collect(Collectors.toList()));
+        final IndexedEnumRepository<E> repository = repositoryOf(values);
+
+        return of(repository != null
+                ? repository.getNames()
+                : Arrays.stream(values)
+                        .map(Enum::name)
+                        .collect(Collectors.toList()));
     }
 
     /**
-     * @param values
-     * @param <S>
-     * @param <E>
-     * @return
+     * Suggests the lower-cased names of the given constants. If they are every constant of their enum type, the names
+     * are shared through its {@link IndexedEnumRepository} rather than collected again.
+     *
+     * @param values the constants to be suggested.
+     * @param <S>    any type extending {@code CommandSender} requesting suggestions.
+     * @param <E>    the enum type subclass.
+     * @return the created {@link Suggester}.
      */
     public static <S extends CommandSender, E extends Enum<E>> Suggester<S> ofLowerCase(final @NotNull E[] values) {
-        return of(Arrays.stream(values)
-                .map(e -> e.name().toLowerCase(Locale.ROOT))
-                .collect(Collectors.toList()));
+        final IndexedEnumRepository<E> repository = repositoryOf(values);
+
+        return of(repository != null
+                ? repository.getLowerCaseNames()
+                : Arrays.stream(values)
+                        .map(e -> e.name().toLowerCase(Locale.ROOT))
+                        .collect(Collectors.toList()));
+    }
+
+    private static <E extends Enum<E>> IndexedEnumRepository<E> repositoryOf(final E[] values) {
+        if (values.length == 0) return null;
+
+        final IndexedEnumRepository<E> repository = IndexedEnumRepository.of(values[0].getDeclaringClass());
+        return repository.isEveryConstant(values) ? repository : null;
+    }
+
+    /**
+     * Suggests the names of the constants of an enum type starting with the last argument of the input, ignoring case,
+     * through the {@link SuggestionDictionary} shared by every user of the enum type. This is meant for enums too
+     * large to suggest as a whole, such as {@link org.bukkit.Material} or {@link org.bukkit.entity.EntityType}.
+     *
+     * @param type the enum type subclass.
+     * @param <S>  any type extending {@code CommandSender} requesting suggestions.
+     * @param <E>  the enum type subclass.
+     * @return the created {@link Suggester}.
+     */
+    public static <S extends CommandSender, E extends Enum<E>> Suggester<S> of(final @NotNull Class<E> type) {
+        return of(IndexedEnumRepository.of(type).getSuggestions());
     }
 
     /**
@@ -73,6 +114,90 @@ public final class Suggesters {
         return (sender, input) -> collection;
     }
 
+    /**
+     * Suggests the elements of the given {@code Collection} starting with the last argument of the input, ignoring
+     * case, through the reused {@link SuggestionBuffer} of the current thread.
+     *
+     * @param collection the possible suggestions.
+     * @param <S>        any type extending {@code CommandSender} requesting suggestions.
+     * @return the created {@link BufferedSuggester}.
+     */
+    public static <S extends CommandSender> BufferedSuggester<S> matching(final @NotNull Collection<String> collection) {
+        return (sender, input, buffer) -> {
+            final int length = input.getArgumentLength();
+            buffer.addAllStartingWith(collection, length == 0 ? "" : input.getArgument(length - 1));
+        };
+    }
+
+    /**
+     * Suggests the names of online {@link Player}s visible to the {@code CommandSender} and starting with the last
+     * argument of the input, ignoring case. Through the installed {@link OnlinePlayerIndex}, only the {@code Player}s
+     * whose names start with the argument are visited; without one, every online {@code Player} is.
+     *
+     * @param <S> any type extending {@code CommandSender} requesting suggestions.
+     * @return the created {@link BufferedSuggester}.
+     * @see OnlinePlayerIndex#install(org.bukkit.plugin.Plugin)
+     */
+    public static <S extends CommandSender> BufferedSuggester<S> ofOnlinePlayers() {
+        return (sender, input, buffer) -> {
+            final int length = input.getArgumentLength();
+            final String prefix = length == 0 ? "" : input.getArgument(length - 1);
+            final OnlinePlayerIndex index = OnlinePlayerIndex.getInstalled();
+
+            if (index != null) {
+                index.suggest(sender, prefix, buffer);
+                return;
+            }
+
+            for (final Player player : Bukkit.getOnlinePlayers())
+                if (OnlinePlayerIndex.canSee(sender, player))
+                    buffer.addIfStartsWith(player.getName(), prefix);
+        };
+    }
+
+    /**
+     * Suggests every name players have been seen with, online or not, starting with the last argument of the input,
+     * ignoring case, through a {@link MappedNameIndex}, which only decodes the names starting with the argument.
+     *
+     * @param index the {@code MappedNameIndex} in question.
+     * @param <S>   any type extending {@code CommandSender} requesting suggestions.
+     * @return the created {@link BufferedSuggester}.
+     */
+    public static <S extends CommandSender> BufferedSuggester<S> ofKnownPlayers(final @NotNull MappedNameIndex index) {
+        return (sender, input, buffer) -> {
+            final int length = input.getArgumentLength();
+            index.suggest(length == 0 ? "" : input.getArgument(length - 1), buffer);
+        };
+    }
+
+    /**
+     * Suggests the entries of the given {@link SuggestionDictionary} starting with the last argument of the input,
+     * ignoring case.
+     *
+     * @param dictionary the dictionary of suggestions.
+     * @param <S>        any type extending {@code CommandSender} requesting suggestions.
+     * @return the created {@link Suggester}.
+     */
+    public static <S extends CommandSender> Suggester<S> of(final @NotNull SuggestionDictionary dictionary) {
+        return of(dictionary, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Suggests at most {@code limit} entries of the given {@link SuggestionDictionary} starting with the last argument
+     * of the input, ignoring case.
+     *
+     * @param dictionary the dictionary of suggestions.
+     * @param limit      the maximum number of suggestions.
+     * @param <S>        any type extending {@code CommandSender} requesting suggestions.
+     * @return the created {@link Suggester}.
+     */
+    public static <S extends CommandSender> Suggester<S> of(final @NotNull SuggestionDictionary dictionary, final int limit) {
+        return (sender, input) -> {
+            final int length = input.getArgumentLength();
+            return dictionary.withPrefix(length == 0 ? "" : input.getArgument(length - 1), limit);
+        };
+    }
+
     /**
      * @param suggester
      * @param <S>
@@ -86,4 +211,20 @@ public final class Suggesters {
                     : ImmutableList.of();
         };
     }
+
+    /**
+     * Bounds the given {@link AsyncSuggester} with a deadline, so that tab completion waits on it for no longer than the
+     * given amount of time. A newer tab completion from the same {@link CommandSender} cancels any pending one, and
+     * once the deadline passes, the most recently completed suggestions for the sender, narrowed down to the argument
+     * being typed, are used instead.
+     *
+     * @param suggester the suggester to be bounded.
+     * @param deadline  the maximum amount of time to wait for suggestions.
+     * @param unit      the unit of the deadline.
+     * @param <S>       any type extending {@code CommandSender} requesting suggestions.
+     * @return the bounded {@link Suggester}.
+     */
+    public static <S extends CommandSender> Suggester<S> withDeadline(final @NotNull AsyncSuggester<S> suggester, final long deadline, final @NotNull TimeUnit unit) {
+        return new DeadlineSuggester<>(suggester, deadline, unit);
+    }
 }
@@ -0,0 +1,186 @@
+package io.github.disbatch.command.parameter;
+
+import com.google.common.collect.ImmutableList;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A bounded, sorted sink of suggestions, written into by a {@link BufferedSuggester}. Each thread reuses a single
+ * {@code SuggestionBuffer} across tab completions, so that filling it allocates nothing once it has grown to its
+ * working size, and handing out its contents through {@link #toList()} allocates a single list of the exact size.
+ * <br>
+ * <br>
+ * Suggestions are kept in case-insensitive order without duplicates. Once the buffer holds as many suggestions as its
+ * limit allows, adding a suggestion sorting after every held one is rejected, and adding any other suggestion drops
+ * the last held one.
+ *
+ * @apiNote The view returned by {@link #asList()} reflects the buffer, and is therefore only valid until the buffer is
+ * acquired again by the same thread. It must not be returned from
+ * {@link Parameter#getSuggestions(org.bukkit.command.CommandSender, io.github.disbatch.command.CommandInput)}, whose
+ * result may be kept by the server; {@link #toList()} is returned instead.
+ *
+ * @since 1.0.0
+ */
+public final class SuggestionBuffer {
+
+    /**
+     * The limit used by {@link BufferedSuggester#getSuggestions(org.bukkit.command.CommandSender,
+     * io.github.disbatch.command.CommandInput)}, which is more than a client can display at once.
+     */
+    public static final int DEFAULT_LIMIT = 256;
+
+    private static final ThreadLocal<SuggestionBuffer> LOCAL = ThreadLocal.withInitial(SuggestionBuffer::new);
+
+    private final View view = new View();
+    private String[] suggestions = new String[16];
+    private int size;
+    private int limit;
+    private boolean acquired;
+
+    private SuggestionBuffer() {
+    }
+
+    /**
+     * Acquires the {@link SuggestionBuffer} of the current thread, emptied and bounded by the given limit. If that
+     * buffer is already being filled further up the call stack, such as by a suggester delegating to another one, a
+     * new buffer is created instead.
+     *
+     * @param limit the maximum number of suggestions to be held.
+     * @return the acquired {@code SuggestionBuffer}.
+     */
+    public static SuggestionBuffer acquire(final int limit) {
+        final SuggestionBuffer local = LOCAL.get();
+        final SuggestionBuffer buffer = local.acquired ? new SuggestionBuffer() : local;
+
+        Arrays.fill(buffer.suggestions, 0, buffer.size, null);
+        buffer.size = 0;
+        buffer.limit = Math.max(0, limit);
+        buffer.acquired = true;
+        return buffer;
+    }
+
+    /**
+     * Marks the {@link SuggestionBuffer} as no longer being filled, leaving its contents untouched until it is acquired
+     * again.
+     */
+    public void release() {
+        acquired = false;
+    }
+
+    /**
+     * Adds the given suggestion in its sorted position, if the {@code SuggestionBuffer} does not already hold it and it
+     * fits within the limit.
+     *
+     * @param suggestion the suggestion to be added.
+     * @return {@code true} if the suggestion was added, otherwise {@code false}.
+     */
+    public boolean add(final @NotNull String suggestion) {
+        int low = 0;
+        int high = size - 1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int comparison = compare(suggestions[mid], suggestion);
+
+            if (comparison < 0) low = mid + 1;
+            else if (comparison > 0) high = mid - 1;
+            else return false;
+        }
+
+        if (low >= limit) return false;
+
+        if (size == limit) size--;
+        else if (size == suggestions.length)
+            suggestions = Arrays.copyOf(suggestions, Math.min(Math.max(size * 2, 16), limit));
+
+        System.arraycopy(suggestions, low, suggestions, low + 1, size - low);
+        suggestions[low] = suggestion;
+        size++;
+        return true;
+    }
+
+    /**
+     * Adds the given suggestion if it starts with the given prefix, ignoring case.
+     *
+     * @param suggestion the suggestion to be added.
+     * @param prefix     the prefix in question.
+     * @return {@code true} if the suggestion was added, otherwise {@code false}.
+     * @see #add(String)
+     */
+    public boolean addIfStartsWith(final @NotNull String suggestion, final @NotNull String prefix) {
+        return suggestion.regionMatches(true, 0, prefix, 0, prefix.length()) && add(suggestion);
+    }
+
+    /**
+     * Adds every suggestion from the given {@code Collection} starting with the given prefix, ignoring case.
+     *
+     * @param suggestions the suggestions to be added.
+     * @param prefix      the prefix in question.
+     */
+    public void addAllStartingWith(final @NotNull Collection<String> suggestions, final @NotNull String prefix) {
+        for (final String suggestion : suggestions)
+            addIfStartsWith(suggestion, prefix);
+    }
+
+    /**
+     * Retrieves the number of suggestions held by the {@code SuggestionBuffer}.
+     *
+     * @return the suggestion amount.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Determines if the {@code SuggestionBuffer} holds as many suggestions as its limit allows.
+     *
+     * @return {@code true} if the buffer is full, otherwise {@code false}.
+     */
+    public boolean isFull() {
+        return size >= limit;
+    }
+
+    /**
+     * Retrieves an unmodifiable view of the held suggestions, which changes along with the {@code SuggestionBuffer}.
+     *
+     * @return the suggestions view.
+     */
+    public List<String> asList() {
+        return view;
+    }
+
+    /**
+     * Creates an immutable copy of the held suggestions, which can safely be handed to the server.
+     *
+     * @return the suggestions copy.
+     */
+    public List<String> toList() {
+        return ImmutableList.copyOf(view);
+    }
+
+    private static int compare(final String first, final String second) {
+        final int comparison = String.CASE_INSENSITIVE_ORDER.compare(first, second);
+        return comparison != 0 ? comparison : first.compareTo(second);
+    }
+
+    private final class View extends AbstractList<String> implements RandomAccess {
+
+        @Override
+        public String get(final int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+
+            return suggestions[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,311 @@
+package io.github.disbatch.command.parameter;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.parameter.exception.ParameterException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * An immutable, sorted dictionary of suggestions, meant for suggestion sets too large to be handed to tab completion
+ * as a whole, such as item, region or warp names. Entries are kept front-coded in a single {@code char} array, where
+ * each entry only stores the part it does not share with the entry before it, and are sorted case-insensitively so
+ * that every entry starting with a given prefix forms one contiguous range.
+ * <br>
+ * <br>
+ * Looking up that range is a binary search over the first entry of each block of entries followed by a scan of a
+ * single block, neither of which allocates. The range is returned as a view, which decodes entries only once they are
+ * accessed.
+ *
+ * @see Suggesters#of(SuggestionDictionary)
+ *
+ * @since 1.0.0
+ */
+public final class SuggestionDictionary {
+    private static final int BLOCK_SIZE = 16;
+    private static final Comparator<String> ORDER = (first, second) -> {
+        final int limit = Math.min(first.length(), second.length());
+
+        for (int i = 0; i < limit; i++) {
+            final int difference = fold(first.charAt(i)) - fold(second.charAt(i));
+            if (difference != 0) return difference;
+        }
+
+        return first.length() != second.length()
+                ? first.length() - second.length()
+                : first.compareTo(second);
+    };
+
+    private final char[] data;
+    private final int[] blockOffsets;
+    private final int size;
+    private final int maxLength;
+
+    private SuggestionDictionary(final char[] data, final int[] blockOffsets, final int size, final int maxLength) {
+        this.data = data;
+        this.blockOffsets = blockOffsets;
+        this.size = size;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Creates a new {@link SuggestionDictionary} from the given entries, ignoring any duplicates.
+     *
+     * @param entries the entries to be suggested.
+     * @return the created {@code SuggestionDictionary}.
+     * @throws ParameterException if an entry is longer than {@value Character#MAX_VALUE} characters.
+     */
+    public static SuggestionDictionary of(final @NotNull Collection<String> entries) {
+        final String[] sorted = entries.stream().distinct().sorted(ORDER).toArray(String[]::new);
+        final int[] blockOffsets = new int[(sorted.length + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        char[] data = new char[Math.max(16, sorted.length * 4)];
+        int position = 0;
+        int maxLength = 0;
+
+        for (int i = 0; i < sorted.length; i++) {
+            final String entry = sorted[i];
+            final int length = entry.length();
+
+            if (length > Character.MAX_VALUE)
+                throw new ParameterException("Suggestion exceeds " + (int) Character.MAX_VALUE + " characters: " + entry.substring(0, 32) + "...");
+
+            final int shared = i % BLOCK_SIZE == 0 ? 0 : sharedLength(sorted[i - 1], entry);
+
+            if (position + length + 2 > data.length)
+                data = Arrays.copyOf(data, Math.max(data.length * 2, position + length + 2));
+
+            if (shared == 0 && i % BLOCK_SIZE == 0) {
+                blockOffsets[i / BLOCK_SIZE] = position;
+                data[position++] = (char) length;
+            } else {
+                data[position++] = (char) shared;
+                data[position++] = (char) (length - shared);
+            }
+
+            entry.getChars(shared, length, data, position);
+            position += length - shared;
+            maxLength = Math.max(maxLength, length);
+        }
+
+        return new SuggestionDictionary(Arrays.copyOf(data, position), blockOffsets, sorted.length, maxLength);
+    }
+
+    private static int sharedLength(final String first, final String second) {
+        final int limit = Math.min(Math.min(first.length(), second.length()), Character.MAX_VALUE);
+        int i = 0;
+
+        while (i < limit && first.charAt(i) == second.charAt(i))
+            i++;
+
+        return i;
+    }
+
+    /**
+     * Retrieves the number of entries in the {@code SuggestionDictionary}.
+     *
+     * @return the entry amount.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retrieves every entry starting with the given prefix, ignoring case.
+     *
+     * @param prefix the prefix in question.
+     * @return a view of the matching entries, sorted case-insensitively.
+     */
+    public List<String> withPrefix(final @NotNull CharSequence prefix) {
+        return withPrefix(prefix, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Retrieves at most {@code limit} entries starting with the given prefix, ignoring case.
+     *
+     * @param prefix the prefix in question.
+     * @param limit  the maximum number of entries to be retrieved.
+     * @return a view of the first matching entries, sorted case-insensitively.
+     */
+    public List<String> withPrefix(final @NotNull CharSequence prefix, final int limit) {
+        final int from = search(prefix, 0);
+        final int to = search(prefix, 1);
+
+        return from == to
+                ? ImmutableList.of()
+                : new Range(from, from + Math.min(to - from, limit));
+    }
+
+    /**
+     * Finds the index of the first entry ranked at least {@code target} against the prefix, where an entry ranks
+     * {@code -1} if it sorts before the prefix, {@code 0} if it starts with it and {@code 1} if it sorts after it.
+     */
+    private int search(final CharSequence prefix, final int target) {
+        int low = 0;
+        int high = blockOffsets.length - 1;
+        int block = -1;
+
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            final int offset = blockOffsets[mid];
+            final int length = data[offset];
+            final int matched = match(offset + 1, 0, length, prefix, 0);
+
+            if (rank(matched, length, offset + 1 + matched, prefix) < target) {
+                block = mid;
+                low = mid + 1;
+            } else
+                high = mid - 1;
+        }
+
+        if (block < 0) return 0;
+
+        int index = block * BLOCK_SIZE;
+        final int end = Math.min(index + BLOCK_SIZE, size);
+        int offset = blockOffsets[block];
+        int length = data[offset];
+        int matched = match(offset + 1, 0, length, prefix, 0);
+        int rank = rank(matched, length, offset + 1 + matched, prefix);
+        offset += 1 + length;
+
+        while (++index < end) {
+            final int shared = data[offset];
+            final int suffixStart = offset + 2;
+            length = shared + data[offset + 1];
+
+            // an entry sharing more than the matched part with the previous entry ranks the same as it does
+            if (shared <= matched) {
+                matched = match(suffixStart - shared, shared, length, prefix, shared);
+                rank = rank(matched, length, suffixStart - shared + matched, prefix);
+            }
+
+            if (rank >= target) return index;
+
+            offset = suffixStart + length - shared;
+        }
+
+        return end;
+    }
+
+    /**
+     * Counts the characters, starting from {@code from}, that an entry whose characters would start at {@code base}
+     * shares with the prefix, ignoring case.
+     */
+    private int match(final int base, final int from, final int length, final CharSequence prefix, final int matched) {
+        final int limit = Math.min(length, prefix.length());
+        int i = Math.max(from, matched);
+
+        while (i < limit && fold(data[base + i]) == fold(prefix.charAt(i)))
+            i++;
+
+        return i;
+    }
+
+    private int rank(final int matched, final int length, final int mismatchOffset, final CharSequence prefix) {
+        if (matched == prefix.length()) return 0;
+        if (matched == length) return -1;
+
+        return fold(data[mismatchOffset]) < fold(prefix.charAt(matched)) ? -1 : 1;
+    }
+
+    private static char fold(final char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[size=" + size + "]";
+    }
+
+    private final class Range extends AbstractList<String> implements RandomAccess {
+        private final int from;
+        private final int to;
+
+        private Range(final int from, final int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public String get(final int index) {
+            if (index < 0 || index >= to - from)
+                throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+
+            final Decoder decoder = new Decoder(from + index);
+            return decoder.next();
+        }
+
+        @Override
+        public Iterator<String> iterator() {
+            return new Iterator<String>() {
+                private final Decoder decoder = new Decoder(from);
+                private int index = from;
+
+                @Override
+                public boolean hasNext() {
+                    return index < to;
+                }
+
+                @Override
+                public String next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+
+                    index++;
+                    return decoder.next();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+    }
+
+    /**
+     * Sequentially decodes entries into a single buffer, starting from a given index.
+     */
+    private final class Decoder {
+        private final char[] buffer = new char[maxLength];
+        private int index;
+        private int offset;
+
+        private Decoder(final int index) {
+            final int block = index / BLOCK_SIZE;
+            this.index = block * BLOCK_SIZE;
+            offset = blockOffsets[block];
+
+            while (this.index < index)
+                decode();
+        }
+
+        private String next() {
+            return new String(buffer, 0, decode());
+        }
+
+        private int decode() {
+            final int length;
+
+            if (index % BLOCK_SIZE == 0) {
+                length = data[offset++];
+                System.arraycopy(data, offset, buffer, 0, length);
+                offset += length;
+            } else {
+                final int shared = data[offset++];
+                final int suffixLength = data[offset++];
+                System.arraycopy(data, offset, buffer, shared, suffixLength);
+                offset += suffixLength;
+                length = shared + suffixLength;
+            }
+
+            index++;
+            return length;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package io.github.disbatch.command.parameter.decorator;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.exception.InvalidParameterException;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Remembers what a pure {@link Parameter} parsed the most recently used arguments into, so that arguments passed over
+ * and over again, such as by a repeating command block, are parsed only once. Arguments that could not be parsed are
+ * remembered as well.
+ * <br>
+ * <br>
+ * Only up to a maximum number of results are remembered, forgetting the least recently used ones first, and results
+ * are otherwise only forgotten once {@link #invalidate(String...)} or {@link #invalidateAll()} is called.
+ *
+ * @param <S> {@inheritDoc}
+ * @param <V> {@inheritDoc}
+ * @see Parameter#isPure()
+ *
+ * @since 1.0.0
+ */
+public final class CachingParameter<S extends CommandSender, V> implements Parameter<S, V> {
+    private static final Object UNPARSABLE = new Object();
+
+    private final Parameter<S, V> innerParameter;
+    private final Map<List<String>, Object> results;
+
+    /**
+     * Creates a new {@link CachingParameter} handing out the remembered results as they are, which a pure
+     * {@code Parameter} guarantees cannot be modified.
+     *
+     * @param innerParameter the pure {@code Parameter} whose results are remembered.
+     * @param maxSize        the maximum number of results to be remembered.
+     * @throws InvalidParameterException if the inner {@code Parameter} is not pure or the maximum size is not positive.
+     */
+    public CachingParameter(final @NotNull Parameter<S, V> innerParameter, final int maxSize) {
+        if (!innerParameter.isPure()) throw new InvalidParameterException("Only pure parameters can be cached");
+        if (maxSize <= 0) throw new InvalidParameterException("Maximum size must be greater than 0");
+
+        this.innerParameter = innerParameter;
+
+        results = new LinkedHashMap<List<String>, Object>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<List<String>, Object> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public @Nullable V parse(final S sender, final CommandInput input) {
+        final String[] arguments = input.getArguments();
+        Object result;
+
+        synchronized (results) {
+            result = results.get(Arrays.asList(arguments));
+        }
+
+        if (result == null) {
+            final V parsed = innerParameter.parse(sender, input);
+            result = parsed == null ? UNPARSABLE : parsed;
+
+            synchronized (results) {
+                results.put(Arrays.asList(arguments.clone()), result);
+            }
+        }
+
+        return result == UNPARSABLE ? null : (V) result;
+    }
+
+    /**
+     * Forgets the result the given arguments were parsed into.
+     *
+     * @param arguments the arguments in question.
+     * @return {@code true} if a result was forgotten, otherwise {@code false}.
+     */
+    public boolean invalidate(final @NotNull String... arguments) {
+        synchronized (results) {
+            return results.remove(Arrays.asList(arguments)) != null;
+        }
+    }
+
+    /**
+     * Forgets every remembered result.
+     */
+    public void invalidateAll() {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+
+    /**
+     * Retrieves the number of remembered results.
+     *
+     * @return the result amount.
+     */
+    public int size() {
+        synchronized (results) {
+            return results.size();
+        }
+    }
+
+    @Override
+    public Collection<String> getSuggestions(final S sender, final CommandInput input) {
+        return innerParameter.getSuggestions(sender, input);
+    }
+
+    @Override
+    public int getMinimumUsage() {
+        return innerParameter.getMinimumUsage();
+    }
+
+    @Override
+    public int getMaximumUsage() {
+        return innerParameter.getMaximumUsage();
+    }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("innerParameter=" + innerParameter)
+                .add("size=" + size())
+                .toString();
+    }
+}
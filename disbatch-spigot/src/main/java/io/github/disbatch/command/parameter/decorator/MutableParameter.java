@@ -15,6 +15,10 @@ import java.util.StringJoiner;
 /**
  * Serves as a way of switching to any {@link Parameter} at any time. This is especially useful if you want
  * different {@code Object} creation behaviors to reflect various settings during the server's runtime, for instance.
+ * <br>
+ * <br>
+ * The underlying {@code Parameter} can be switched from any thread, and is seen by every thread parsing or suggesting
+ * afterward.
  *
  * @param <S> {@inheritDoc}
  * @param <V> {@inheritDoc}
@@ -25,7 +29,7 @@ public final class MutableParameter<S extends CommandSender, V> implements Param
     private static final Parameter<?, ?> EMPTY = new EmptyParameter();
 
     @SuppressWarnings("unchecked")
-    private Parameter<S, V> underlyingParameter = (Parameter<S, V>) EMPTY;
+    private volatile Parameter<S, V> underlyingParameter = (Parameter<S, V>) EMPTY;
 
     /**
      * @param underlyingParameter
@@ -54,6 +58,11 @@ public final class MutableParameter<S extends CommandSender, V> implements Param
         return underlyingParameter.getMaximumUsage();
     }
 
+    @Override
+    public boolean isPure() {
+        return underlyingParameter.isPure();
+    }
+
     @Override
     public String toString() {
         return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
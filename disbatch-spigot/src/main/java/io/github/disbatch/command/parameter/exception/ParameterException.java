@@ -13,4 +13,8 @@ public class ParameterException extends CommandException {
     public ParameterException(final Exception cause) {
         super(cause);
     }
+
+    public ParameterException(final String message, final Throwable cause) {
+        super(message, cause);
+    }
 }
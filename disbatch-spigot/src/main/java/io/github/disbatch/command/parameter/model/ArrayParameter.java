@@ -1,16 +1,26 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
-import io.github.disbatch.command.exception.ArgumentIndexOutOfBoundsException;
+import io.github.disbatch.command.CommandInputs;
+import io.github.disbatch.command.TokenizedCommandInput;
 import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.exception.InvalidParameterException;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.StringJoiner;
+import java.util.function.IntFunction;
 
 /**
  * Parses a {@link Parameter} array based on parsable, passed arguments.
+ * <br>
+ * <br>
+ * Every element is parsed from the same number of arguments, that being the maximum usage of the inner
+ * {@code Parameter}. Elements are parsed one after another from views of the passed arguments, so no arguments are
+ * copied or joined, and parsing stops at the first element that cannot be parsed. The resulting array is sized to the
+ * number of elements actually passed.
  *
  * @param <S> {@inheritDoc}
  * @param <V> {@inheritDoc}
@@ -18,107 +28,130 @@ import java.util.Collection;
  * @since 1.0.0
  */
 public final class ArrayParameter<S extends CommandSender, V> implements Parameter<S, V[]> {
-    private static final String WHITESPACE = " ";
-
     private final Parameter<S, V> innerParameter;
+    private final IntFunction<V[]> generator;
     private final int minUsageMultiple;
     private final int maxUsageMultiple;
-
+    private final int width;
+
+    /**
+     * Creates a new {@link ArrayParameter} producing {@code Object} arrays, accepting at least one element.
+     *
+     * @param innerParameter the {@code Parameter} parsing every element.
+     * @deprecated the produced arrays are {@code Object} arrays whatever {@code V} is, so assigning one to any other
+     *             array type, such as {@code String[]}, throws a {@link ClassCastException}. Use
+     *             {@link #ArrayParameter(Parameter, IntFunction)} instead.
+     */
+    @Deprecated
     public ArrayParameter(final @NotNull Parameter<S, V> innerParameter) {
         this(innerParameter, 1, Integer.MAX_VALUE);
     }
 
+    /**
+     * Creates a new {@link ArrayParameter} producing {@code Object} arrays.
+     *
+     * @param innerParameter   the {@code Parameter} parsing every element.
+     * @param minUsageMultiple the minimum number of elements, which must be at least {@code 1}.
+     * @param maxUsageMultiple the maximum number of elements.
+     * @throws InvalidParameterException if the inner {@code Parameter} uses no arguments, or the element bounds are
+     *                                   invalid.
+     * @deprecated the produced arrays are {@code Object} arrays whatever {@code V} is, so assigning one to any other
+     *             array type, such as {@code String[]}, throws a {@link ClassCastException}. Use
+     *             {@link #ArrayParameter(Parameter, IntFunction, int, int)} instead.
+     */
+    @Deprecated
+    @SuppressWarnings("unchecked")
     public ArrayParameter(final @NotNull Parameter<S, V> innerParameter, final int minUsageMultiple, final int maxUsageMultiple) {
+        this(innerParameter, length -> (V[]) new Object[length], minUsageMultiple, maxUsageMultiple);
+    }
+
+    /**
+     * Creates a new {@link ArrayParameter} producing arrays of the given type (e.g., {@code Player[]::new}), accepting
+     * at least one element.
+     *
+     * @param innerParameter the {@code Parameter} parsing every element.
+     * @param generator      the function creating an array of the given length.
+     */
+    public ArrayParameter(final @NotNull Parameter<S, V> innerParameter, final @NotNull IntFunction<V[]> generator) {
+        this(innerParameter, generator, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@link ArrayParameter} producing arrays of the given type (e.g., {@code Player[]::new}).
+     *
+     * @param innerParameter   the {@code Parameter} parsing every element.
+     * @param generator        the function creating an array of the given length.
+     * @param minUsageMultiple the minimum number of elements, which must be at least {@code 1}.
+     * @param maxUsageMultiple the maximum number of elements.
+     * @throws InvalidParameterException if the inner {@code Parameter} uses no arguments, or the element bounds are
+     *                                   invalid.
+     */
+    public ArrayParameter(final @NotNull Parameter<S, V> innerParameter, final @NotNull IntFunction<V[]> generator,
+                          final int minUsageMultiple, final int maxUsageMultiple) {
+        if (innerParameter.getMaximumUsage() <= 0)
+            throw new InvalidParameterException("Array elements must use at least one argument");
+
+        if (minUsageMultiple < 1)
+            throw new InvalidParameterException("Arrays must accept at least one element");
+
+        if (maxUsageMultiple < minUsageMultiple)
+            throw new InvalidParameterException("Invalid element bounds: " + minUsageMultiple + " to " + maxUsageMultiple);
+
         this.innerParameter = innerParameter;
+        this.generator = generator;
         this.minUsageMultiple = minUsageMultiple;
         this.maxUsageMultiple = maxUsageMultiple;
+        width = innerParameter.getMaximumUsage();
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public @Nullable V[] parse(final S sender, final CommandInput input) {
-        final int maxUsageBound = getMaximumUsage() - 1;
-        final V[] objArguments = (V[]) new Object[maxUsageMultiple];
+        final int argLength = input.getArgumentLength();
+        final int elementLength = argLength / width;
+
+        if (argLength % width != 0 || elementLength < minUsageMultiple || elementLength > maxUsageMultiple)
+            return null;
 
-        for (int i = 0, j = maxUsageBound; i < maxUsageMultiple; i++, j += maxUsageBound) {
-            final String selectedArgLine = input.getArgumentLine().substring(j, j + maxUsageBound);
-            final String[] selectedArgs = selectedArgLine.split(WHITESPACE);
+        final TokenizedCommandInput tokenizedInput = TokenizedCommandInput.from(input);
+        final V[] elements = generator.apply(elementLength);
 
-            final V result = innerParameter.parse(sender, new SelectedArgumentsInput(input, selectedArgs));
-            if (result == null) return null;
-            objArguments[i] = result;
+        for (int i = 0, from = 0; i < elementLength; i++, from += width) {
+            final V element = innerParameter.parse(sender, tokenizedInput.slice(from, from + width));
+            if (element == null) return null;
+            elements[i] = element;
         }
 
-        return objArguments;
+        return elements;
     }
 
     @Override
     public Collection<String> getSuggestions(final S sender, final CommandInput input) {
         final int argLength = input.getArgumentLength();
-        final int remainder = argLength % innerParameter.getMaximumUsage();
-        final int beginIndex = (argLength - remainder) - 1;
-        final String selectedArgLine = input.getArgumentLine().substring(beginIndex, argLength - 1);
-        final String[] selectedArgs = selectedArgLine.split(WHITESPACE);
+        if (argLength <= width) return innerParameter.getSuggestions(sender, input);
 
-        return innerParameter.getSuggestions(sender, new SelectedArgumentsInput(input, selectedArgs));
+        return innerParameter.getSuggestions(sender, CommandInputs.slice(input, (argLength - 1) / width * width, argLength));
     }
 
     @Override
     public int getMinimumUsage() {
-        return minUsageMultiple;
+        return saturatedMultiply(width, minUsageMultiple);
     }
 
     @Override
     public int getMaximumUsage() {
-        return Math.min(innerParameter.getMaximumUsage() * maxUsageMultiple, Integer.MAX_VALUE);
+        return saturatedMultiply(width, maxUsageMultiple);
     }
 
-    static class SelectedArgumentsInput implements CommandInput {
-        private final CommandInput original;
-        private final String[] selectedArgs;
-        private String argumentLine;
-        private String commandLine;
-
-        SelectedArgumentsInput(final CommandInput original, final String[] selectedArgs) {
-            this.original = original;
-            this.selectedArgs = selectedArgs;
-        }
-
-        @Override
-        public int getArgumentLength() {
-            return selectedArgs.length;
-        }
-
-        @Override
-        public String getArgumentLine() {
-            return argumentLine == null
-                    ? (argumentLine = String.join(" "))
-                    : argumentLine;
-        }
-
-        @Override
-        public String getArgument(final int index) {
-            if (index < 0 || index >= selectedArgs.length)
-                throw new ArgumentIndexOutOfBoundsException(index);
-
-            return selectedArgs[index];
-        }
-
-        @Override
-        public String[] getArguments() {
-            return selectedArgs;
-        }
-
-        @Override
-        public String getCommandLabel() {
-            return original.getCommandLabel();
-        }
+    private static int saturatedMultiply(final int width, final int multiple) {
+        return (int) Math.min((long) width * multiple, Integer.MAX_VALUE);
+    }
 
-        @Override
-        public String getCommandLine() {
-            return commandLine == null
-                    ? (commandLine = original.getCommandLabel() + " " + getArgumentLine())
-                    : commandLine;
-        }
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("innerParameter=" + innerParameter)
+                .add("minUsageMultiple=" + minUsageMultiple)
+                .add("maxUsageMultiple=" + maxUsageMultiple)
+                .toString();
     }
 }
@@ -22,6 +22,11 @@ public final class BooleanParameter extends SenderIndependentParameter<Boolean>
         return 1;
     }
 
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
     @Override
     protected Boolean parse(final CommandInput input) {
         final String argument = input.getArgument(0);
@@ -1,6 +1,7 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.Nullable;
 
@@ -13,12 +14,31 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.0.0
  */
 public final class DoubleParameter extends NumericParameter<CommandSender, Double> {
-    
+    private final double min;
+    private final double max;
+
+    /**
+     * Creates a new {@link DoubleParameter} accepting any decimal number.
+     */
+    public DoubleParameter() {
+        this(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Creates a new {@link DoubleParameter} accepting decimal numbers within a range.
+     *
+     * @param min the minimum value, inclusive.
+     * @param max the maximum value, inclusive.
+     */
+    public DoubleParameter(final double min, final double max) {
+        this.min = min;
+        this.max = max;
+    }
+
     @Override
     public @Nullable Double parse(final CommandSender sender, final CommandInput input) {
-        return isDoubleParsable(input)
-                ? parseDouble(input.getArgument(0))
-                : null;
+        final double value = NumberScanner.scanDouble(input.getArgument(0), min, max);
+        return Double.isNaN(value) ? null : value;
     }
 
     @Override
@@ -30,4 +50,9 @@ public final class DoubleParameter extends NumericParameter<CommandSender, Doubl
     public int getMaximumUsage() {
         return 1;
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
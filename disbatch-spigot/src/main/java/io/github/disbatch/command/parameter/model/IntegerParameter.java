@@ -1,6 +1,7 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.Nullable;
 
@@ -13,12 +14,31 @@ import org.jetbrains.annotations.Nullable;
  * @since 1.0.0
  */
 public final class IntegerParameter extends NumericParameter<CommandSender, Integer> {
-    
+    private final int min;
+    private final int max;
+
+    /**
+     * Creates a new {@link IntegerParameter} accepting any {@code int}.
+     */
+    public IntegerParameter() {
+        this(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@link IntegerParameter} accepting whole numbers within a range.
+     *
+     * @param min the minimum value, inclusive.
+     * @param max the maximum value, inclusive.
+     */
+    public IntegerParameter(final int min, final int max) {
+        this.min = min;
+        this.max = max;
+    }
+
     @Override
     public @Nullable Integer parse(final CommandSender sender, final CommandInput input) {
-        return isIntegerParsable(input)
-                ? parseInt(input.getArgument(0))
-                : null;
+        final long value = NumberScanner.scanInt(input.getArgument(0), min, max);
+        return value == NumberScanner.INVALID ? null : (int) value;
     }
 
     @Override
@@ -30,4 +50,9 @@ public final class IntegerParameter extends NumericParameter<CommandSender, Inte
     public int getMaximumUsage() {
         return 1;
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
@@ -1,6 +1,7 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.command.BlockCommandSender;
@@ -18,12 +19,13 @@ public final class LocationByBlockParameter extends NumericParameter<BlockComman
 
     @Override
     public @Nullable Location parse(final BlockCommandSender sender, final CommandInput input) {
-        return isDoubleParsable(input)
-                ? new Location(sender.getBlock().getWorld(),
-                parseDouble(input.getArgument(0)),
-                parseDouble(input.getArgument(1)),
-                parseDouble(input.getArgument(2)))
-                : null;
+        final double x = NumberScanner.scanDouble(input.getArgument(0));
+        final double y = NumberScanner.scanDouble(input.getArgument(1));
+        final double z = NumberScanner.scanDouble(input.getArgument(2));
+
+        return Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z)
+                ? null
+                : new Location(sender.getBlock().getWorld(), x, y, z);
     }
 
     @Override
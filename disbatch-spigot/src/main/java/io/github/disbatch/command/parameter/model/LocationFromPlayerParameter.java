@@ -1,6 +1,7 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -20,14 +21,14 @@ public final class LocationFromPlayerParameter extends NumericParameter<CommandS
 
     @Override
     public @Nullable Location parse(final CommandSender sender, final CommandInput input) {
-        final Player player = Bukkit.getPlayer(input.getArgument(0));
+        final double x = NumberScanner.scanDouble(input.getArgument(1));
+        final double y = NumberScanner.scanDouble(input.getArgument(2));
+        final double z = NumberScanner.scanDouble(input.getArgument(3));
+
+        if (Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z)) return null;
 
-        return isDoubleParsable(input, 1) && player != null
-                ? new Location(player.getWorld(),
-                parseDouble(input.getArgument(1)),
-                parseDouble(input.getArgument(2)),
-                parseDouble(input.getArgument(3)))
-                : null;
+        final Player player = Bukkit.getPlayer(input.getArgument(0));
+        return player == null ? null : new Location(player.getWorld(), x, y, z);
     }
 
     @Override
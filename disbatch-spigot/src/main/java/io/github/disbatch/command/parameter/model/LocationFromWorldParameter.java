@@ -1,6 +1,7 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
@@ -19,14 +20,14 @@ public final class LocationFromWorldParameter extends NumericParameter<CommandSe
 
     @Override
     public @Nullable Location parse(final CommandSender sender, final CommandInput input) {
-        final World world = Bukkit.getWorld(input.getArgument(0));
+        final double x = NumberScanner.scanDouble(input.getArgument(1));
+        final double y = NumberScanner.scanDouble(input.getArgument(2));
+        final double z = NumberScanner.scanDouble(input.getArgument(3));
+
+        if (Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z)) return null;
 
-        return world != null && isDoubleParsable(input, 1)
-                ? new Location(world,
-                parseDouble(input.getArgument(1)),
-                parseDouble(input.getArgument(2)),
-                parseDouble(input.getArgument(3)))
-                : null;
+        final World world = Bukkit.getWorld(input.getArgument(0));
+        return world == null ? null : new Location(world, x, y, z);
     }
 
     @Override
@@ -3,12 +3,14 @@ package io.github.disbatch.command.parameter.model;
 import io.github.disbatch.command.CommandInput;
 import io.github.disbatch.command.exception.ArgumentIndexOutOfBoundsException;
 import io.github.disbatch.command.parameter.AbstractParameter;
+import io.github.disbatch.command.parameter.NumberScanner;
 import io.github.disbatch.command.parameter.ParameterizedCommand;
 import org.bukkit.command.CommandSender;
 
 /**
  * A {@code Parameter} abstraction holding the functionalities necessary to create or retrieve an {@code Object}
- * relating to numeric use-cases based on parsable, passed arguments.
+ * relating to numeric use-cases based on parsable, passed arguments. Subclasses parsing arguments should prefer
+ * scanning them with a {@link NumberScanner} directly, which validates and converts each argument at once.
  *
  * @param <S> {@inheritDoc}
  * @param <V> {@inheritDoc}
@@ -16,9 +18,6 @@ import org.bukkit.command.CommandSender;
  * @since 1.0.0
  */
 public abstract class NumericParameter<S extends CommandSender, V> extends AbstractParameter<S, V> {
-    private static final String NUMBER_REGEX = "-?\\d+(\\.\\d+)?";
-    private static final String DECIMAL = ".";
-
     protected NumericParameter() {
     }
 
@@ -46,7 +45,7 @@ public abstract class NumericParameter<S extends CommandSender, V> extends Abstr
             throw new ArgumentIndexOutOfBoundsException(startingIndex);
 
         for (int i = startingIndex; i < input.getArgumentLength(); i++)
-            if (!input.getArgument(i).matches(NUMBER_REGEX))
+            if (Double.isNaN(NumberScanner.scanDouble(input.getArgument(i))))
                 return false;
 
         return true;
@@ -75,12 +74,9 @@ public abstract class NumericParameter<S extends CommandSender, V> extends Abstr
         if (startingIndex >= input.getArgumentLength())
             throw new ArgumentIndexOutOfBoundsException(startingIndex);
 
-        for (int i = startingIndex; i < input.getArgumentLength(); i++) {
-            final String argument = input.getArgument(i);
-
-            if (argument.contains(DECIMAL) || !argument.matches(NUMBER_REGEX))
+        for (int i = startingIndex; i < input.getArgumentLength(); i++)
+            if (NumberScanner.scanInt(input.getArgument(i)) == NumberScanner.INVALID)
                 return false;
-        }
 
         return true;
     }
@@ -90,9 +86,14 @@ public abstract class NumericParameter<S extends CommandSender, V> extends Abstr
      *
      * @param arg the given argument.
      * @return the integer value represented by the argument.
+     * @throws NumberFormatException if the argument is not a valid {@code int}.
+     * @see NumberScanner#scanInt(CharSequence)
      */
     protected final int parseInt(final String arg) {
-        return Integer.parseInt(arg);
+        final long value = NumberScanner.scanInt(arg);
+        if (value == NumberScanner.INVALID) throw new NumberFormatException("For input string: \"" + arg + "\"");
+
+        return (int) value;
     }
 
     /**
@@ -100,8 +101,13 @@ public abstract class NumericParameter<S extends CommandSender, V> extends Abstr
      *
      * @param arg the given argument.
      * @return the double value represented by the argument.
+     * @throws NumberFormatException if the argument is not a valid decimal.
+     * @see NumberScanner#scanDouble(CharSequence)
      */
     protected final double parseDouble(final String arg) {
-        return Double.parseDouble(arg.contains(DECIMAL) ? arg : arg + DECIMAL);
+        final double value = NumberScanner.scanDouble(arg);
+        if (Double.isNaN(value)) throw new NumberFormatException("For input string: \"" + arg + "\"");
+
+        return value;
     }
 }
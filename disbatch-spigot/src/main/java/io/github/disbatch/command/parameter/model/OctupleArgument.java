@@ -0,0 +1,32 @@
+package io.github.disbatch.command.parameter.model;
+
+/**
+ * A {@link TupleArgument} holding the {@code Object} arguments created from eight {@code Parameter}s, each retrieved
+ * with its own type.
+ *
+ * @param <A> type of the first {@code Object} argument
+ * @param <B> type of the second {@code Object} argument
+ * @param <C> type of the third {@code Object} argument
+ * @param <D> type of the fourth {@code Object} argument
+ * @param <E> type of the fifth {@code Object} argument
+ * @param <F> type of the sixth {@code Object} argument
+ * @param <G> type of the seventh {@code Object} argument
+ * @param <H> type of the eighth {@code Object} argument
+ * @see TupleParameter
+ *
+ * @since 1.0.0
+ */
+public class OctupleArgument<A, B, C, D, E, F, G, H> extends SeptupleArgument<A, B, C, D, E, F, G> {
+    OctupleArgument(final Object[] values, final long[] primitives, final byte[] kinds) {
+        super(values, primitives, kinds);
+    }
+
+    /**
+     * Retrieves the eighth {@code Object} argument.
+     *
+     * @return the eighth {@code Object} argument
+     */
+    public final H getEighth() {
+        return get(7);
+    }
+}
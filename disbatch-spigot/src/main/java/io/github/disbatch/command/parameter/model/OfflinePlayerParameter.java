@@ -20,11 +20,8 @@ public final class OfflinePlayerParameter extends UUIDOrientedParameter<CommandS
     
     @Override
     public @Nullable OfflinePlayer parse(final CommandSender sender, final CommandInput input) {
-        final String arg = input.getArgument(0);
-
-        return isUniqueId(arg)
-                ? Bukkit.getOfflinePlayer(UUID.fromString(arg))
-                : null;
+        final UUID uniqueId = toUniqueId(input.getArgument(0));
+        return uniqueId != null ? Bukkit.getOfflinePlayer(uniqueId) : null;
     }
 
     @Override
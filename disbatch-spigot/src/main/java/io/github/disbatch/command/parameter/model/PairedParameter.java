@@ -1,7 +1,8 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
-import io.github.disbatch.command.exception.ArgumentIndexOutOfBoundsException;
+import io.github.disbatch.command.CommandInputs;
+import io.github.disbatch.command.TokenizedCommandInput;
 import io.github.disbatch.command.parameter.Parameter;
 import io.github.disbatch.command.parameter.ParameterizedCommand;
 import org.bukkit.command.CommandSender;
@@ -37,8 +38,11 @@ public final class PairedParameter<S extends CommandSender, F, L> implements Par
 
     @Override
     public @Nullable PairedArgument<F, L> parse(final S sender, final CommandInput input) {
-        final F firstResult = first.parse(sender, input);
-        final L lastResult = last.parse(sender, new ReducedArgumentsInput(first, input));
+        final TokenizedCommandInput tokenizedInput = TokenizedCommandInput.from(input);
+        final int argLength = tokenizedInput.getArgumentLength();
+        final int split = Math.min(argLength, first.getMaximumUsage());
+        final F firstResult = first.parse(sender, tokenizedInput.slice(0, split));
+        final L lastResult = last.parse(sender, tokenizedInput.slice(split, argLength));
 
         if (firstResult == null || lastResult == null)
             return null;
@@ -48,9 +52,11 @@ public final class PairedParameter<S extends CommandSender, F, L> implements Par
 
     @Override
     public Collection<String> getSuggestions(final S sender, final CommandInput input) {
-        return input.getArgumentLength() < first.getMaximumUsage()
+        final int argLength = input.getArgumentLength();
+
+        return argLength <= first.getMaximumUsage()
                 ? first.getSuggestions(sender, input)
-                : last.getSuggestions(sender, new ReducedArgumentsInput(first, input));
+                : last.getSuggestions(sender, CommandInputs.slice(input, first.getMaximumUsage(), argLength));
     }
 
     @Override
@@ -63,52 +69,8 @@ public final class PairedParameter<S extends CommandSender, F, L> implements Par
         return Math.min(first.getMaximumUsage() + last.getMaximumUsage(), Integer.MAX_VALUE);
     }
 
-    static class ReducedArgumentsInput implements CommandInput {
-        private final Parameter<?, ?> first;
-        private final CommandInput original;
-        private String[] arguments;
-
-        ReducedArgumentsInput(final Parameter<?, ?> first, final CommandInput original) {
-            this.first = first;
-            this.original = original;
-        }
-
-        @Override
-        public int getArgumentLength() {
-            return original.getArgumentLength() - first.getMaximumUsage();
-        }
-
-        @Override
-        public String getArgumentLine() {
-            return original.getArgumentLine();
-        }
-
-        @Override
-        public String getArgument(final int index) {
-            if (index < 0 || index >= getArgumentLength())
-                throw new ArgumentIndexOutOfBoundsException(index);
-
-            return getArguments()[index];
-        }
-
-        @Override
-        public String[] getArguments() {
-            if (arguments == null) {
-                final String[] arguments = (this.arguments = new String[0]);
-                System.arraycopy(original.getArguments(), first.getMaximumUsage() - 1, arguments, 0, getArgumentLength());
-            }
-
-            return arguments;
-        }
-
-        @Override
-        public String getCommandLabel() {
-            return original.getCommandLabel();
-        }
-
-        @Override
-        public String getCommandLine() {
-            return original.getCommandLine();
-        }
+    @Override
+    public boolean isPure() {
+        return first.isPure() && last.isPure();
     }
 }
@@ -1,12 +1,17 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.model.player.OnlinePlayerIndex;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Parses an online {@link Player} by their name based on a parsable, passed argument.
+ * Parses an online {@link Player} by their name, or the start of it, based on a parsable, passed argument.
+ * <br>
+ * <br>
+ * {@code Player}s are resolved through the installed {@link OnlinePlayerIndex}, if any, or otherwise through
+ * {@link Bukkit#getPlayer(String)}, which scans every online {@code Player}.
  * <br>
  * <br>
  * <b>Argument Syntax:</b> [player name]
@@ -17,7 +22,10 @@ public final class PlayerFromNameParameter extends SenderIndependentParameter<Pl
     
     @Override
     protected @Nullable Player parse(final CommandInput input) {
-        return Bukkit.getPlayer(input.getArgument(0));
+        final String arg = input.getArgument(0);
+        final OnlinePlayerIndex index = OnlinePlayerIndex.getInstalled();
+
+        return index != null ? index.getPlayerByPrefix(arg) : Bukkit.getPlayer(arg);
     }
 
     @Override
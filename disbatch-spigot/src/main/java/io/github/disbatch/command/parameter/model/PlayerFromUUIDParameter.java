@@ -20,11 +20,8 @@ public final class PlayerFromUUIDParameter extends UUIDOrientedParameter<Command
     
     @Override
     public @Nullable Player parse(final CommandSender sender, final CommandInput input) {
-        final String arg = input.getArgument(0);
-
-        return isUniqueId(arg)
-                ? Bukkit.getPlayer(UUID.fromString(arg))
-                : null;
+        final UUID uniqueId = toUniqueId(input.getArgument(0));
+        return uniqueId != null ? Bukkit.getPlayer(uniqueId) : null;
     }
 
     @Override
@@ -0,0 +1,28 @@
+package io.github.disbatch.command.parameter.model;
+
+/**
+ * A {@link TupleArgument} holding the {@code Object} arguments created from four {@code Parameter}s, each retrieved
+ * with its own type.
+ *
+ * @param <A> type of the first {@code Object} argument
+ * @param <B> type of the second {@code Object} argument
+ * @param <C> type of the third {@code Object} argument
+ * @param <D> type of the fourth {@code Object} argument
+ * @see TupleParameter
+ *
+ * @since 1.0.0
+ */
+public class QuadrupleArgument<A, B, C, D> extends TripleArgument<A, B, C> {
+    QuadrupleArgument(final Object[] values, final long[] primitives, final byte[] kinds) {
+        super(values, primitives, kinds);
+    }
+
+    /**
+     * Retrieves the fourth {@code Object} argument.
+     *
+     * @return the fourth {@code Object} argument
+     */
+    public final D getFourth() {
+        return get(3);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.disbatch.command.parameter.model;
+
+/**
+ * A {@link TupleArgument} holding the {@code Object} arguments created from five {@code Parameter}s, each retrieved
+ * with its own type.
+ *
+ * @param <A> type of the first {@code Object} argument
+ * @param <B> type of the second {@code Object} argument
+ * @param <C> type of the third {@code Object} argument
+ * @param <D> type of the fourth {@code Object} argument
+ * @param <E> type of the fifth {@code Object} argument
+ * @see TupleParameter
+ *
+ * @since 1.0.0
+ */
+public class QuintupleArgument<A, B, C, D, E> extends QuadrupleArgument<A, B, C, D> {
+    QuintupleArgument(final Object[] values, final long[] primitives, final byte[] kinds) {
+        super(values, primitives, kinds);
+    }
+
+    /**
+     * Retrieves the fifth {@code Object} argument.
+     *
+     * @return the fifth {@code Object} argument
+     */
+    public final E getFifth() {
+        return get(4);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.disbatch.command.parameter.model;
+
+/**
+ * A {@link TupleArgument} holding the {@code Object} arguments created from six {@code Parameter}s, each retrieved
+ * with its own type.
+ *
+ * @param <A> type of the first {@code Object} argument
+ * @param <B> type of the second {@code Object} argument
+ * @param <C> type of the third {@code Object} argument
+ * @param <D> type of the fourth {@code Object} argument
+ * @param <E> type of the fifth {@code Object} argument
+ * @param <F> type of the sixth {@code Object} argument
+ * @see TupleParameter
+ *
+ * @since 1.0.0
+ */
+public class SextupleArgument<A, B, C, D, E, F> extends QuintupleArgument<A, B, C, D, E> {
+    SextupleArgument(final Object[] values, final long[] primitives, final byte[] kinds) {
+        super(values, primitives, kinds);
+    }
+
+    /**
+     * Retrieves the sixth {@code Object} argument.
+     *
+     * @return the sixth {@code Object} argument
+     */
+    public final F getSixth() {
+        return get(5);
+    }
+}
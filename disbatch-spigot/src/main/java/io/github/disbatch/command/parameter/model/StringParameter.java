@@ -37,4 +37,9 @@ public final class StringParameter extends SenderIndependentParameter<String> {
     public int getMaximumUsage() {
         return maxUsage;
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
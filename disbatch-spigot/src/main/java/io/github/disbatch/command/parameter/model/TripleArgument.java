@@ -0,0 +1,45 @@
+package io.github.disbatch.command.parameter.model;
+
+/**
+ * A {@link TupleArgument} holding the {@code Object} arguments created from three {@code Parameter}s, each retrieved
+ * with its own type.
+ *
+ * @param <A> type of the first {@code Object} argument
+ * @param <B> type of the second {@code Object} argument
+ * @param <C> type of the third {@code Object} argument
+ * @see TupleParameter
+ *
+ * @since 1.0.0
+ */
+public class TripleArgument<A, B, C> extends TupleArgument {
+    TripleArgument(final Object[] values, final long[] primitives, final byte[] kinds) {
+        super(values, primitives, kinds);
+    }
+
+    /**
+     * Retrieves the first {@code Object} argument.
+     *
+     * @return the first {@code Object} argument
+     */
+    public final A getFirst() {
+        return get(0);
+    }
+
+    /**
+     * Retrieves the second {@code Object} argument.
+     *
+     * @return the second {@code Object} argument
+     */
+    public final B getSecond() {
+        return get(1);
+    }
+
+    /**
+     * Retrieves the third {@code Object} argument.
+     *
+     * @return the third {@code Object} argument
+     */
+    public final C getThird() {
+        return get(2);
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.disbatch.command.parameter.model;
+
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+
+import java.util.StringJoiner;
+
+/**
+ * Acts as a holder of the {@code Object} arguments created from every {@code Parameter} of a {@link TupleParameter}
+ * when a {@link ParameterizedCommand} is executed, in the order of the {@code Parameter}s.
+ * <br>
+ * <br>
+ * Arguments created from primitive-specialized {@code Parameter}s, such as a
+ * {@link io.github.disbatch.command.parameter.primitive.PrimitiveIntParameter}, are held unboxed and can be retrieved as
+ * such through {@link #getInt(int)}, {@link #getLong(int)} and {@link #getDouble(int)}. They are only boxed when
+ * retrieved as an {@code Object}.
+ *
+ * @see TripleArgument
+ *
+ * @since 1.0.0
+ */
+public class TupleArgument {
+    static final byte OBJECT = 0;
+    static final byte INT = 1;
+    static final byte LONG = 2;
+    static final byte DOUBLE = 3;
+
+    private final Object[] values;
+    private final long[] primitives;
+    private final byte[] kinds;
+
+    TupleArgument(final Object[] values, final long[] primitives, final byte[] kinds) {
+        this.values = values;
+        this.primitives = primitives;
+        this.kinds = kinds;
+    }
+
+    /**
+     * Retrieves the number of {@code Object} arguments held.
+     *
+     * @return the argument amount.
+     */
+    public final int size() {
+        return values.length;
+    }
+
+    /**
+     * Retrieves the {@code Object} argument at the specified index.
+     *
+     * @param index the index of the {@code Parameter} the argument was created from.
+     * @param <T>   type of the {@code Object} argument.
+     * @return the {@code Object} argument.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     */
+    @SuppressWarnings("unchecked")
+    public final <T> T get(final int index) {
+        switch (kinds[index]) {
+            case INT:
+                return (T) Integer.valueOf((int) primitives[index]);
+            case LONG:
+                return (T) Long.valueOf(primitives[index]);
+            case DOUBLE:
+                return (T) Double.valueOf(Double.longBitsToDouble(primitives[index]));
+            default:
+                return (T) values[index];
+        }
+    }
+
+    /**
+     * Retrieves the numeric argument at the specified index as an {@code int}, without boxing it if it was created
+     * from a {@link io.github.disbatch.command.parameter.primitive.PrimitiveIntParameter}.
+     *
+     * @param index the index of the {@code Parameter} the argument was created from.
+     * @return the {@code int} argument.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws ClassCastException        if the argument is not a {@link Number}.
+     */
+    public final int getInt(final int index) {
+        return kinds[index] == INT ? (int) primitives[index] : this.<Number>get(index).intValue();
+    }
+
+    /**
+     * Retrieves the numeric argument at the specified index as a {@code long}, without boxing it if it was created
+     * from a {@link io.github.disbatch.command.parameter.primitive.PrimitiveIntParameter} or a
+     * {@link io.github.disbatch.command.parameter.primitive.PrimitiveLongParameter}.
+     *
+     * @param index the index of the {@code Parameter} the argument was created from.
+     * @return the {@code long} argument.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws ClassCastException        if the argument is not a {@link Number}.
+     */
+    public final long getLong(final int index) {
+        final byte kind = kinds[index];
+        return kind == INT || kind == LONG ? primitives[index] : this.<Number>get(index).longValue();
+    }
+
+    /**
+     * Retrieves the numeric argument at the specified index as a {@code double}, without boxing it if it was created
+     * from an {@link io.github.disbatch.command.parameter.primitive.PrimitiveDoubleParameter}.
+     *
+     * @param index the index of the {@code Parameter} the argument was created from.
+     * @return the {@code double} argument.
+     * @throws IndexOutOfBoundsException if the index is out of range.
+     * @throws ClassCastException        if the argument is not a {@link Number}.
+     */
+    public final double getDouble(final int index) {
+        switch (kinds[index]) {
+            case INT:
+            case LONG:
+                return primitives[index];
+            case DOUBLE:
+                return Double.longBitsToDouble(primitives[index]);
+            default:
+                return this.<Number>get(index).doubleValue();
+        }
+    }
+
+    @Override
+    public final String toString() {
+        final StringJoiner joiner = new StringJoiner(", ", getClass().getSimpleName() + "[", "]");
+
+        for (int i = 0; i < values.length; i++)
+            joiner.add(String.valueOf((Object) get(i)));
+
+        return joiner.toString();
+    }
+}
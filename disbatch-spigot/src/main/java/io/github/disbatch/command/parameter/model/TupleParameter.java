@@ -0,0 +1,375 @@
+package io.github.disbatch.command.parameter.model;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.CommandInputs;
+import io.github.disbatch.command.TokenizedCommandInput;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.NumberScanner;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+import io.github.disbatch.command.parameter.exception.InvalidParameterException;
+import io.github.disbatch.command.parameter.primitive.PrimitiveDoubleParameter;
+import io.github.disbatch.command.parameter.primitive.PrimitiveIntParameter;
+import io.github.disbatch.command.parameter.primitive.PrimitiveLongParameter;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.StringJoiner;
+
+/**
+ * Allows the creation or retrieval of any number of {@code Object}s, stored in a {@link TupleArgument}, to be used in
+ * the execution phase of a {@link ParameterizedCommand}. For three to eight {@link Parameter}s, the {@code Object}s are
+ * stored in a typed {@code TupleArgument}, such as a {@link TripleArgument}.
+ * <br>
+ * <br>
+ * Each {@code Parameter} is passed a window of the arguments, computed from the minimum and maximum usages of all of
+ * them once, upon creation. At most one {@code Parameter} can use a variable number of arguments, and it is passed
+ * whatever remains between the windows of the {@code Parameter}s before and after it, whose windows are therefore
+ * measured from the end of the input. During tab completion, the argument being typed is routed to the
+ * {@code Parameter} whose window holds it, with the windows computed as though the input ended with that argument, or
+ * had at least the minimum usage of arguments: through a binary search over the window boundaries before the
+ * {@code Parameter} using a variable number of arguments, and through its offset from the end of the input after it.
+ * That {@code Parameter} is thus passed the argument being typed until its minimum usage has been met, after which
+ * the {@code Parameter}s after it are.
+ * <br>
+ * <br>
+ * Primitive-specialized {@code Parameter}s, such as a {@link PrimitiveIntParameter}, are parsed without boxing, and
+ * their arguments are held unboxed in the {@code TupleArgument} until retrieved as an {@code Object}.
+ *
+ * @param <S> {@inheritDoc}
+ * @param <T> type of the {@code TupleArgument} holding the {@code Object}s
+ *
+ * @since 1.0.0
+ */
+public final class TupleParameter<S extends CommandSender, T extends TupleArgument> implements Parameter<S, T> {
+    private static final int NONE = -1;
+
+    private final Factory<T> factory;
+    private final Parameter<? super S, ?>[] elements;
+    private final byte[] kinds;
+    private final boolean primitive;
+    private final int[] boundaries;
+    private final int variableIndex;
+    private final int minUsage;
+    private final int maxUsage;
+
+    @SafeVarargs
+    private TupleParameter(final Factory<T> factory, final Parameter<? super S, ?>... elements) {
+        if (elements.length == 0) throw new InvalidParameterException("A tuple requires at least one parameter");
+
+        this.factory = factory;
+        this.elements = elements;
+        kinds = new byte[elements.length];
+
+        for (int i = 0; i < elements.length; i++)
+            kinds[i] = kindOf(elements[i]);
+
+        primitive = !Arrays.equals(kinds, new byte[elements.length]);
+        variableIndex = findVariableIndex(elements);
+        boundaries = new int[elements.length + 1];
+
+        final int headLength = variableIndex == NONE ? elements.length : variableIndex;
+        long minUsage = 0;
+        long maxUsage = 0;
+
+        for (int i = 0; i < headLength; i++)
+            boundaries[i + 1] = boundaries[i] + elements[i].getMaximumUsage();
+
+        for (int i = elements.length - 1; i > variableIndex && variableIndex != NONE; i--)
+            boundaries[i] = boundaries[i + 1] + elements[i].getMaximumUsage();
+
+        for (final Parameter<? super S, ?> element : elements) {
+            minUsage += element.getMinimumUsage();
+            maxUsage += element.getMaximumUsage();
+        }
+
+        this.minUsage = (int) Math.min(minUsage, Integer.MAX_VALUE);
+        this.maxUsage = (int) Math.min(maxUsage, Integer.MAX_VALUE);
+    }
+
+    private static byte kindOf(final Parameter<?, ?> element) {
+        if (element instanceof PrimitiveIntParameter) return TupleArgument.INT;
+        if (element instanceof PrimitiveLongParameter) return TupleArgument.LONG;
+        if (element instanceof PrimitiveDoubleParameter) return TupleArgument.DOUBLE;
+        return TupleArgument.OBJECT;
+    }
+
+    private static int findVariableIndex(final Parameter<?, ?>[] elements) {
+        int variableIndex = NONE;
+
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i].getMinimumUsage() == elements[i].getMaximumUsage()) continue;
+
+            if (variableIndex != NONE)
+                throw new InvalidParameterException("Only one tuple parameter can use a variable number of arguments");
+
+            variableIndex = i;
+        }
+
+        return variableIndex;
+    }
+
+    /**
+     * Creates a new {@link TupleParameter} combining any number of {@link Parameter}s into a {@link TupleArgument},
+     * whose {@code Object} arguments are retrieved by index.
+     *
+     * @param elements the {@code Parameter}s creating the {@code Object} arguments, in order.
+     * @return the created {@code TupleParameter}.
+     * @throws InvalidParameterException if no {@code Parameter}s are given, or more than one of them uses a variable
+     *                                   number of arguments.
+     */
+    @SafeVarargs
+    public static <S extends CommandSender> TupleParameter<S, TupleArgument> of(final @NotNull Parameter<? super S, ?>... elements) {
+        return new TupleParameter<>(TupleArgument::new, elements.clone());
+    }
+
+    /**
+     * Creates a new {@link TupleParameter} combining three {@link Parameter}s into a {@link TripleArgument}.
+     *
+     * @param first   the {@code Parameter} creating the first {@code Object} argument.
+     * @param second  the {@code Parameter} creating the second {@code Object} argument.
+     * @param third   the {@code Parameter} creating the third {@code Object} argument.
+     * @return the created {@code TupleParameter}.
+     * @throws InvalidParameterException if more than one {@code Parameter} uses a variable number of arguments.
+     */
+    public static <S extends CommandSender, A, B, C> TupleParameter<S, TripleArgument<A, B, C>> of(
+            final @NotNull Parameter<? super S, A> first,
+            final @NotNull Parameter<? super S, B> second,
+            final @NotNull Parameter<? super S, C> third) {
+        return new TupleParameter<>(TripleArgument::new, first, second, third);
+    }
+
+    /**
+     * Creates a new {@link TupleParameter} combining four {@link Parameter}s into a {@link QuadrupleArgument}.
+     *
+     * @param first   the {@code Parameter} creating the first {@code Object} argument.
+     * @param second  the {@code Parameter} creating the second {@code Object} argument.
+     * @param third   the {@code Parameter} creating the third {@code Object} argument.
+     * @param fourth  the {@code Parameter} creating the fourth {@code Object} argument.
+     * @return the created {@code TupleParameter}.
+     * @throws InvalidParameterException if more than one {@code Parameter} uses a variable number of arguments.
+     */
+    public static <S extends CommandSender, A, B, C, D> TupleParameter<S, QuadrupleArgument<A, B, C, D>> of(
+            final @NotNull Parameter<? super S, A> first,
+            final @NotNull Parameter<? super S, B> second,
+            final @NotNull Parameter<? super S, C> third,
+            final @NotNull Parameter<? super S, D> fourth) {
+        return new TupleParameter<>(QuadrupleArgument::new, first, second, third, fourth);
+    }
+
+    /**
+     * Creates a new {@link TupleParameter} combining five {@link Parameter}s into a {@link QuintupleArgument}.
+     *
+     * @param first   the {@code Parameter} creating the first {@code Object} argument.
+     * @param second  the {@code Parameter} creating the second {@code Object} argument.
+     * @param third   the {@code Parameter} creating the third {@code Object} argument.
+     * @param fourth  the {@code Parameter} creating the fourth {@code Object} argument.
+     * @param fifth   the {@code Parameter} creating the fifth {@code Object} argument.
+     * @return the created {@code TupleParameter}.
+     * @throws InvalidParameterException if more than one {@code Parameter} uses a variable number of arguments.
+     */
+    public static <S extends CommandSender, A, B, C, D, E> TupleParameter<S, QuintupleArgument<A, B, C, D, E>> of(
+            final @NotNull Parameter<? super S, A> first,
+            final @NotNull Parameter<? super S, B> second,
+            final @NotNull Parameter<? super S, C> third,
+            final @NotNull Parameter<? super S, D> fourth,
+            final @NotNull Parameter<? super S, E> fifth) {
+        return new TupleParameter<>(QuintupleArgument::new, first, second, third, fourth, fifth);
+    }
+
+    /**
+     * Creates a new {@link TupleParameter} combining six {@link Parameter}s into a {@link SextupleArgument}.
+     *
+     * @param first   the {@code Parameter} creating the first {@code Object} argument.
+     * @param second  the {@code Parameter} creating the second {@code Object} argument.
+     * @param third   the {@code Parameter} creating the third {@code Object} argument.
+     * @param fourth  the {@code Parameter} creating the fourth {@code Object} argument.
+     * @param fifth   the {@code Parameter} creating the fifth {@code Object} argument.
+     * @param sixth   the {@code Parameter} creating the sixth {@code Object} argument.
+     * @return the created {@code TupleParameter}.
+     * @throws InvalidParameterException if more than one {@code Parameter} uses a variable number of arguments.
+     */
+    public static <S extends CommandSender, A, B, C, D, E, F> TupleParameter<S, SextupleArgument<A, B, C, D, E, F>> of(
+            final @NotNull Parameter<? super S, A> first,
+            final @NotNull Parameter<? super S, B> second,
+            final @NotNull Parameter<? super S, C> third,
+            final @NotNull Parameter<? super S, D> fourth,
+            final @NotNull Parameter<? super S, E> fifth,
+            final @NotNull Parameter<? super S, F> sixth) {
+        return new TupleParameter<>(SextupleArgument::new, first, second, third, fourth, fifth, sixth);
+    }
+
+    /**
+     * Creates a new {@link TupleParameter} combining seven {@link Parameter}s into a {@link SeptupleArgument}.
+     *
+     * @param first   the {@code Parameter} creating the first {@code Object} argument.
+     * @param second  the {@code Parameter} creating the second {@code Object} argument.
+     * @param third   the {@code Parameter} creating the third {@code Object} argument.
+     * @param fourth  the {@code Parameter} creating the fourth {@code Object} argument.
+     * @param fifth   the {@code Parameter} creating the fifth {@code Object} argument.
+     * @param sixth   the {@code Parameter} creating the sixth {@code Object} argument.
+     * @param seventh the {@code Parameter} creating the seventh {@code Object} argument.
+     * @return the created {@code TupleParameter}.
+     * @throws InvalidParameterException if more than one {@code Parameter} uses a variable number of arguments.
+     */
+    public static <S extends CommandSender, A, B, C, D, E, F, G> TupleParameter<S, SeptupleArgument<A, B, C, D, E, F, G>> of(
+            final @NotNull Parameter<? super S, A> first,
+            final @NotNull Parameter<? super S, B> second,
+            final @NotNull Parameter<? super S, C> third,
+            final @NotNull Parameter<? super S, D> fourth,
+            final @NotNull Parameter<? super S, E> fifth,
+            final @NotNull Parameter<? super S, F> sixth,
+            final @NotNull Parameter<? super S, G> seventh) {
+        return new TupleParameter<>(SeptupleArgument::new, first, second, third, fourth, fifth, sixth, seventh);
+    }
+
+    /**
+     * Creates a new {@link TupleParameter} combining eight {@link Parameter}s into a {@link OctupleArgument}.
+     *
+     * @param first   the {@code Parameter} creating the first {@code Object} argument.
+     * @param second  the {@code Parameter} creating the second {@code Object} argument.
+     * @param third   the {@code Parameter} creating the third {@code Object} argument.
+     * @param fourth  the {@code Parameter} creating the fourth {@code Object} argument.
+     * @param fifth   the {@code Parameter} creating the fifth {@code Object} argument.
+     * @param sixth   the {@code Parameter} creating the sixth {@code Object} argument.
+     * @param seventh the {@code Parameter} creating the seventh {@code Object} argument.
+     * @param eighth  the {@code Parameter} creating the eighth {@code Object} argument.
+     * @return the created {@code TupleParameter}.
+     * @throws InvalidParameterException if more than one {@code Parameter} uses a variable number of arguments.
+     */
+    public static <S extends CommandSender, A, B, C, D, E, F, G, H> TupleParameter<S, OctupleArgument<A, B, C, D, E, F, G, H>> of(
+            final @NotNull Parameter<? super S, A> first,
+            final @NotNull Parameter<? super S, B> second,
+            final @NotNull Parameter<? super S, C> third,
+            final @NotNull Parameter<? super S, D> fourth,
+            final @NotNull Parameter<? super S, E> fifth,
+            final @NotNull Parameter<? super S, F> sixth,
+            final @NotNull Parameter<? super S, G> seventh,
+            final @NotNull Parameter<? super S, H> eighth) {
+        return new TupleParameter<>(OctupleArgument::new, first, second, third, fourth, fifth, sixth, seventh, eighth);
+    }
+
+    @Override
+    public @Nullable T parse(final S sender, final CommandInput input) {
+        final int argLength = input.getArgumentLength();
+        if (argLength < minUsage || argLength > maxUsage) return null;
+
+        final TokenizedCommandInput tokenizedInput = TokenizedCommandInput.from(input);
+        final Object[] values = new Object[elements.length];
+        final long[] primitives = primitive ? new long[elements.length] : null;
+
+        for (int i = 0, from = 0; i < elements.length; i++) {
+            final int to = boundary(i + 1, argLength);
+            final CommandInput elementInput = tokenizedInput.slice(from, to);
+
+            if (kinds[i] == TupleArgument.OBJECT) {
+                final Object value = elements[i].parse(sender, elementInput);
+                if (value == null) return null;
+                values[i] = value;
+            } else if (!parsePrimitive(i, sender, elementInput, primitives)) {
+                return null;
+            }
+
+            from = to;
+        }
+
+        return factory.create(values, primitives, kinds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private boolean parsePrimitive(final int index, final S sender, final CommandInput input, final long[] primitives) {
+        switch (kinds[index]) {
+            case TupleArgument.INT:
+            case TupleArgument.LONG: {
+                final long value = kinds[index] == TupleArgument.INT
+                        ? ((PrimitiveIntParameter<? super S>) elements[index]).parseInt(sender, input)
+                        : ((PrimitiveLongParameter<? super S>) elements[index]).parseLong(sender, input);
+
+                primitives[index] = value;
+                return value != NumberScanner.INVALID;
+            }
+            default: {
+                final double value = ((PrimitiveDoubleParameter<? super S>) elements[index]).parseDouble(sender, input);
+
+                primitives[index] = Double.doubleToRawLongBits(value);
+                return !Double.isNaN(value);
+            }
+        }
+    }
+
+    private int boundary(final int index, final int argLength) {
+        return variableIndex != NONE && index > variableIndex
+                ? argLength - boundaries[index]
+                : boundaries[index];
+    }
+
+    @Override
+    public Collection<String> getSuggestions(final S sender, final CommandInput input) {
+        final int argLength = input.getArgumentLength();
+        if (argLength == 0) return elements[0].getSuggestions(sender, input);
+
+        final int length = Math.max(argLength, minUsage);
+        final int index = indexOf(argLength - 1, length);
+
+        if (index == elements.length) return ImmutableList.of();
+
+        return elements[index].getSuggestions(sender, CommandInputs.slice(input, boundary(index, length), argLength));
+    }
+
+    /**
+     * Finds the index of the element whose window holds an argument, given the number of arguments the windows are
+     * computed for, or the number of elements if the argument lies past every window.
+     */
+    private int indexOf(final int argIndex, final int length) {
+        final int headLength = variableIndex == NONE ? elements.length : variableIndex;
+
+        if (argIndex >= boundaries[headLength]) {
+            if (variableIndex == NONE) return elements.length;
+
+            // Windows after the variable element end at offsets from the end of the input, decreasing to 0
+            final int offset = length - argIndex;
+            int index = elements.length - 1;
+
+            while (index > variableIndex && offset > boundaries[index])
+                index--;
+
+            return index;
+        }
+
+        final int searchIndex = Arrays.binarySearch(boundaries, 0, headLength + 1, argIndex);
+        return searchIndex >= 0 ? searchIndex : -searchIndex - 2;
+    }
+
+    @Override
+    public int getMinimumUsage() {
+        return minUsage;
+    }
+
+    @Override
+    public int getMaximumUsage() {
+        return maxUsage;
+    }
+
+    @Override
+    public boolean isPure() {
+        for (final Parameter<? super S, ?> element : elements)
+            if (!element.isPure()) return false;
+
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("elements=" + Arrays.toString(elements))
+                .toString();
+    }
+
+    @FunctionalInterface
+    private interface Factory<T extends TupleArgument> {
+        T create(Object[] values, long[] primitives, byte[] kinds);
+    }
+}
@@ -2,12 +2,18 @@ package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.parameter.AbstractParameter;
 import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.UUID;
 
 /**
  * A {@code Parameter} abstraction holding the functionalities necessary to create or retrieve a {@link UUID} based on a parsable,
  * passed argument.
+ * <br>
+ * <br>
+ * Arguments are validated and decoded by hand in a single pass, accepting the canonical, hyphenated form of version 3
+ * (name-based, used by offline-mode servers) and version 4 (random, used by Mojang) {@code UUID}s.
  *
  * @param <S> {@inheritDoc}
  * @param <V> {@inheritDoc}
@@ -15,16 +21,62 @@ import java.util.UUID;
  * @since 1.0.0
  */
 public abstract class UUIDOrientedParameter<S extends CommandSender, V> extends AbstractParameter<S, V> {
-    private static final String UUID_REGEX = "[\\da-fA-F]{8}-[\\da-fA-F]{4}-[34][\\da-fA-F]{3}-[89ab][\\da-fA-F]{3}-[\\da-fA-F]{12}";
+    private static final int CANONICAL_LENGTH = 36;
+    private static final int LEAST_SIGNIFICANT_START = 19;
 
     protected UUIDOrientedParameter() {
     }
 
     /**
-     * @param argument
-     * @return
+     * Determines whether an argument is a {@link UUID} in its canonical form.
+     *
+     * @param argument the argument to be checked.
+     * @return {@code true} if the argument is a {@code UUID}, otherwise {@code false}.
      */
-    protected final boolean isUniqueId(final String argument) {
-        return argument.matches(UUID_REGEX);
+    protected final boolean isUniqueId(final @NotNull CharSequence argument) {
+        return toUniqueId(argument) != null;
+    }
+
+    /**
+     * Decodes an argument as a {@link UUID} in its canonical form, without the regular expression and repeated
+     * splitting of {@link UUID#fromString(String)}.
+     *
+     * @param argument the argument to be decoded.
+     * @return the decoded {@code UUID}, or {@code null} if the argument is not a {@code UUID}.
+     */
+    protected final @Nullable UUID toUniqueId(final @NotNull CharSequence argument) {
+        if (argument.length() != CANONICAL_LENGTH) return null;
+
+        long mostSigBits = 0;
+        long leastSigBits = 0;
+
+        for (int i = 0; i < CANONICAL_LENGTH; i++) {
+            final char c = argument.charAt(i);
+
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') return null;
+                continue;
+            }
+
+            final int digit = hexDigit(c);
+            if (digit < 0) return null;
+
+            if (i < LEAST_SIGNIFICANT_START)
+                mostSigBits = mostSigBits << 4 | digit;
+            else
+                leastSigBits = leastSigBits << 4 | digit;
+        }
+
+        final long version = mostSigBits >>> 12 & 0xF;
+        final long variant = leastSigBits >>> 62;
+
+        return (version == 3 || version == 4) && variant == 2 ? new UUID(mostSigBits, leastSigBits) : null;
+    }
+
+    private static int hexDigit(final char c) {
+        if (c >= '0' && c <= '9') return c - '0';
+
+        final char lowerCase = (char) (c | 0x20);
+        return lowerCase >= 'a' && lowerCase <= 'f' ? lowerCase - 'a' + 10 : -1;
     }
 }
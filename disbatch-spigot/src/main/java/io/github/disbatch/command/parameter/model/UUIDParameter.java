@@ -18,8 +18,7 @@ public final class UUIDParameter extends UUIDOrientedParameter<CommandSender, UU
     
     @Override
     public @Nullable UUID parse(final CommandSender sender, final CommandInput input) {
-        final String arg = input.getArgument(0);
-        return isUniqueId(arg) ? UUID.fromString(arg) : null;
+        return toUniqueId(input.getArgument(0));
     }
 
     @Override
@@ -31,4 +30,9 @@ public final class UUIDParameter extends UUIDOrientedParameter<CommandSender, UU
     public int getMaximumUsage() {
         return 1;
     }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
 }
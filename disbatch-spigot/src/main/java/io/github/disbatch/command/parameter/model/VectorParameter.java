@@ -1,6 +1,7 @@
 package io.github.disbatch.command.parameter.model;
 
 import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
 import org.bukkit.command.CommandSender;
 import org.bukkit.util.Vector;
 import org.jetbrains.annotations.Nullable;
@@ -17,12 +18,13 @@ public final class VectorParameter extends NumericParameter<CommandSender, Vecto
     
     @Override
     public @Nullable Vector parse(final CommandSender sender, final CommandInput input) {
-        return isDoubleParsable(input)
-                ? new Vector(
-                parseDouble(input.getArgument(0)),
-                parseDouble(input.getArgument(1)),
-                parseDouble(input.getArgument(2)))
-                : null;
+        final double x = NumberScanner.scanDouble(input.getArgument(0));
+        final double y = NumberScanner.scanDouble(input.getArgument(1));
+        final double z = NumberScanner.scanDouble(input.getArgument(2));
+
+        return Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z)
+                ? null
+                : new Vector(x, y, z);
     }
 
     @Override
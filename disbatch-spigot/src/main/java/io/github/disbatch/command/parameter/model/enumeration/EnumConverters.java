@@ -4,13 +4,14 @@ import java.util.Locale;
 
 /**
  * A namespace for {@link EnumConverter} convenience and utility methods.
+ * <br>
+ * <br>
+ * Given an {@link IndexedEnumRepository}, the case-insensitive {@code EnumConverter}s look constants up without
+ * converting the case of the argument.
  *
  * @since 1.0.0
  */
 public final class EnumConverters {
-    private static EnumConverter<?> LOWERCASE_INSENSITIVE;
-    private static EnumConverter<?> UPPERCASE_INSENSITIVE;
-    private static EnumConverter<?> CASE_SENSITIVE;
 
     private EnumConverters() {
         throw new AssertionError();
@@ -22,11 +23,8 @@ public final class EnumConverters {
      * @param <E> the enum type subclass.
      * @return the retrieved {@link EnumConverter}.
      */
-    @SuppressWarnings("unchecked")
     public static <E extends Enum<E>> EnumConverter<E> lowerCaseInsensitive() {
-        return LOWERCASE_INSENSITIVE == null
-                ? (EnumConverter<E>) (LOWERCASE_INSENSITIVE = (EnumConverter<E>) (nameArgument, directory) -> directory.get(nameArgument.toLowerCase(Locale.ROOT)))
-                : (EnumConverter<E>) LOWERCASE_INSENSITIVE;
+        return EnumConverters::convertLowerCased;
     }
 
     /**
@@ -35,11 +33,8 @@ public final class EnumConverters {
      * @param <E> the enum type subclass.
      * @return the retrieved {@link EnumConverter}.
      */
-    @SuppressWarnings("unchecked")
     public static <E extends Enum<E>> EnumConverter<E> upperCaseInsensitive() {
-        return UPPERCASE_INSENSITIVE == null
-                ? (EnumConverter<E>) (UPPERCASE_INSENSITIVE = (EnumConverter<E>) (nameArgument, directory) -> directory.get(nameArgument.toUpperCase(Locale.ROOT)))
-                : (EnumConverter<E>) UPPERCASE_INSENSITIVE;
+        return EnumConverters::convertUpperCased;
     }
 
     /**
@@ -49,10 +44,19 @@ public final class EnumConverters {
      * @param <E> the enum type subclass.
      * @return the retrieved {@link EnumConverter}.
      */
-    @SuppressWarnings("unchecked")
     public static <E extends Enum<E>> EnumConverter<E> caseSensitive() {
-        return CASE_SENSITIVE == null
-                ? (EnumConverter<E>) (CASE_SENSITIVE = (EnumConverter<E>) (nameArgument, directory) -> directory.get(nameArgument))
-                : (EnumConverter<E>) CASE_SENSITIVE;
+        return (nameArgument, directory) -> directory.get(nameArgument);
+    }
+
+    private static <E extends Enum<E>> E convertLowerCased(final String nameArgument, final EnumRepository<E> directory) {
+        return directory instanceof IndexedEnumRepository
+                ? ((IndexedEnumRepository<E>) directory).getLowerCased(nameArgument)
+                : directory.get(nameArgument.toLowerCase(Locale.ROOT));
+    }
+
+    private static <E extends Enum<E>> E convertUpperCased(final String nameArgument, final EnumRepository<E> directory) {
+        return directory instanceof IndexedEnumRepository
+                ? ((IndexedEnumRepository<E>) directory).getUpperCased(nameArgument)
+                : directory.get(nameArgument.toUpperCase(Locale.ROOT));
     }
 }
@@ -6,11 +6,12 @@ import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashMap;
-import java.util.Map;
-
 /**
  * Parses an enum based on a parsable, passed argument.
+ * <br>
+ * <br>
+ * Constants are looked up through the {@link IndexedEnumRepository} shared by every {@code EnumParameter} of the same
+ * enum type.
  *
  * @param <S> {@inheritDoc}
  * @param <E> {@inheritDoc}
@@ -18,8 +19,6 @@ import java.util.Map;
  * @since 1.0.0
  */
 public final class EnumParameter<S extends CommandSender, E extends Enum<E>> extends AbstractParameter<S, E> {
-    private static final Map<Class<Enum<?>>, EnumRepository<?>> ENUM_REPOSITORY_CACHE = new HashMap<>();
-
     private final EnumRepository<E> repository;
     private final EnumConverter<E> converter;
 
@@ -34,12 +33,9 @@ public final class EnumParameter<S extends CommandSender, E extends Enum<E>> ext
      * @param type
      * @param converter
      */
-    @SuppressWarnings("unchecked")
     public EnumParameter(final @NotNull Class<E> type, final @NotNull EnumConverter<E> converter) {
         this.converter = converter;
-
-        repository = (EnumRepository<E>) ENUM_REPOSITORY_CACHE.computeIfAbsent((Class<Enum<?>>) type,
-                enumClass -> new MapBasedEnumRepository(type));
+        repository = IndexedEnumRepository.of(type);
     }
 
     @Override
@@ -57,17 +53,8 @@ public final class EnumParameter<S extends CommandSender, E extends Enum<E>> ext
         return 1;
     }
 
-    private class MapBasedEnumRepository implements EnumRepository<E> {
-        private final Map<String, E> enumConstants = new HashMap<>();
-
-        private MapBasedEnumRepository(final Class<E> type) {
-            for (final E enumConstant : type.getEnumConstants())
-                enumConstants.put(enumConstant.name(), enumConstant);
-        }
-
-        @Override
-        public @Nullable E get(final String nameArgument) {
-            return enumConstants.get(nameArgument);
-        }
+    @Override
+    public boolean isPure() {
+        return true;
     }
-}
\ No newline at end of file
+}
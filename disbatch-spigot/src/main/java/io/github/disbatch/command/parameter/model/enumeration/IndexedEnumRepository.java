@@ -0,0 +1,213 @@
+package io.github.disbatch.command.parameter.model.enumeration;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.parameter.SuggestionDictionary;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * An {@link EnumRepository} shared by every user of the same enum type, looking up constants by name, with or without
+ * case, without allocating.
+ * <br>
+ * <br>
+ * Names are indexed in an open-addressing table by a case-folded hash, computed for arguments character by character
+ * rather than from a folded copy of them, so a single probe sequence finds a constant whether its case is expected to
+ * match or not.
+ * <br>
+ * <br>
+ * The repository of an enum type is shared for as long as anything uses it, and is safe to retrieve from any thread.
+ * Repositories are held weakly, keyed weakly by their enum type, in a map belonging to this class rather than to the
+ * enum type, so that server enums such as {@link org.bukkit.Material} never keep this class, or the classloader of
+ * the plugin shading it, reachable, and repositories of enums defined by other plugins do not keep those reachable
+ * either.
+ *
+ * @param <E> the enum type subclass.
+ * @see EnumParameter
+ *
+ * @since 1.0.0
+ */
+public final class IndexedEnumRepository<E extends Enum<E>> implements EnumRepository<E> {
+    private static final byte MIXED_CASE = 0;
+    private static final byte UPPER_CASE = 1;
+    private static final byte LOWER_CASE = 2;
+
+    private static final Map<Class<?>, WeakReference<IndexedEnumRepository<?>>> REPOSITORIES = new WeakHashMap<>();
+
+    private final E[] constants;
+    private final byte[] cases;
+    private final int[] table;
+    private final int mask;
+    private final List<String> names;
+    private final List<String> lowerCaseNames;
+    private volatile SuggestionDictionary suggestions;
+
+    private IndexedEnumRepository(final Class<E> type) {
+        constants = type.getEnumConstants();
+        cases = new byte[constants.length];
+        table = new int[Integer.highestOneBit(Math.max(constants.length, 1) * 2) * 2];
+        mask = table.length - 1;
+
+        final ImmutableList.Builder<String> names = ImmutableList.builder();
+        final ImmutableList.Builder<String> lowerCaseNames = ImmutableList.builder();
+
+        for (int i = 0; i < constants.length; i++) {
+            final String name = constants[i].name();
+            final String lowerCaseName = name.toLowerCase(Locale.ROOT);
+            int slot = foldedHash(name) & mask;
+
+            while (table[slot] != 0)
+                slot = slot + 1 & mask;
+
+            table[slot] = i + 1;
+            cases[i] = (byte) ((name.equals(name.toUpperCase(Locale.ROOT)) ? UPPER_CASE : MIXED_CASE)
+                    | (name.equals(lowerCaseName) ? LOWER_CASE : MIXED_CASE));
+            names.add(name);
+            lowerCaseNames.add(lowerCaseName);
+        }
+
+        this.names = names.build();
+        this.lowerCaseNames = lowerCaseNames.build();
+    }
+
+    /**
+     * Retrieves the {@link IndexedEnumRepository} of an enum type, creating it upon first use.
+     *
+     * @param type the enum type subclass.
+     * @param <E>  the enum type subclass.
+     * @return the {@code IndexedEnumRepository} of the enum type.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> IndexedEnumRepository<E> of(final @NotNull Class<E> type) {
+        synchronized (REPOSITORIES) {
+            final WeakReference<IndexedEnumRepository<?>> reference = REPOSITORIES.get(type);
+            IndexedEnumRepository<E> repository = reference == null ? null : (IndexedEnumRepository<E>) reference.get();
+
+            if (repository == null)
+                REPOSITORIES.put(type, new WeakReference<>(repository = new IndexedEnumRepository<>(type)));
+
+            return repository;
+        }
+    }
+
+    @Override
+    public @Nullable E get(final String nameArgument) {
+        return find(nameArgument, false, MIXED_CASE);
+    }
+
+    /**
+     * Retrieves an enum from the given argument representing the name of the constant, ignoring case.
+     *
+     * @param nameArgument the given argument.
+     * @return the retrieved enum, or {@code null} if no constant has the name.
+     */
+    public @Nullable E getIgnoreCase(final @NotNull String nameArgument) {
+        return find(nameArgument, true, MIXED_CASE);
+    }
+
+    /**
+     * Retrieves an enum whose name is the given argument in upper case, the same way as
+     * {@code get(nameArgument.toUpperCase(Locale.ROOT))} but without converting the argument.
+     *
+     * @param nameArgument the given argument.
+     * @return the retrieved enum, or {@code null} if no constant has the upper-cased name.
+     */
+    public @Nullable E getUpperCased(final @NotNull String nameArgument) {
+        return find(nameArgument, true, UPPER_CASE);
+    }
+
+    /**
+     * Retrieves an enum whose name is the given argument in lower case, the same way as
+     * {@code get(nameArgument.toLowerCase(Locale.ROOT))} but without converting the argument.
+     *
+     * @param nameArgument the given argument.
+     * @return the retrieved enum, or {@code null} if no constant has the lower-cased name.
+     */
+    public @Nullable E getLowerCased(final @NotNull String nameArgument) {
+        return find(nameArgument, true, LOWER_CASE);
+    }
+
+    private E find(final String nameArgument, final boolean ignoreCase, final byte requiredCase) {
+        final int length = nameArgument.length();
+
+        for (int slot = foldedHash(nameArgument) & mask; table[slot] != 0; slot = slot + 1 & mask) {
+            final int index = table[slot] - 1;
+            final String name = constants[index].name();
+
+            if (name.length() != length || (cases[index] & requiredCase) != requiredCase) continue;
+
+            if (ignoreCase ? name.regionMatches(true, 0, nameArgument, 0, length) : name.equals(nameArgument))
+                return constants[index];
+        }
+
+        return null;
+    }
+
+    /**
+     * Retrieves the names of every constant, in declaration order.
+     *
+     * @return the immutable names.
+     */
+    public List<String> getNames() {
+        return names;
+    }
+
+    /**
+     * Retrieves the lower-cased names of every constant, in declaration order.
+     *
+     * @return the immutable lower-cased names.
+     */
+    public List<String> getLowerCaseNames() {
+        return lowerCaseNames;
+    }
+
+    /**
+     * Retrieves a {@link SuggestionDictionary} of the names of every constant, created upon first use and shared by
+     * every user of the enum type, which is meant for enums too large to suggest as a whole, such as
+     * {@link org.bukkit.Material}.
+     *
+     * @return the {@code SuggestionDictionary} of the names.
+     */
+    public SuggestionDictionary getSuggestions() {
+        SuggestionDictionary suggestions = this.suggestions;
+
+        if (suggestions == null)
+            this.suggestions = suggestions = SuggestionDictionary.of(names);
+
+        return suggestions;
+    }
+
+    /**
+     * Determines whether the given constants are every constant of the enum type, in declaration order.
+     *
+     * @param values the constants to be checked.
+     * @return {@code true} if the constants are every constant, otherwise {@code false}.
+     */
+    public boolean isEveryConstant(final @NotNull E[] values) {
+        if (values.length != constants.length) return false;
+
+        for (int i = 0; i < values.length; i++)
+            if (values[i] != constants[i]) return false;
+
+        return true;
+    }
+
+    private static int foldedHash(final String name) {
+        int hash = 0;
+
+        for (int i = 0; i < name.length(); i++)
+            hash = 31 * hash + fold(name.charAt(i));
+
+        return hash ^ hash >>> 16;
+    }
+
+    private static char fold(final char c) {
+        if (c < 128) return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+}
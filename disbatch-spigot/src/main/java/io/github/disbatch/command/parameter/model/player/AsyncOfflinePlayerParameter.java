@@ -0,0 +1,70 @@
+package io.github.disbatch.command.parameter.model.player;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.async.DeferredParameter;
+import io.github.disbatch.command.async.DeferredParameterizedCommand;
+import io.github.disbatch.command.parameter.model.UUIDOrientedParameter;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Parses an {@link OfflinePlayer} by either their {@link UUID} or exact, case-insensitive name based on a parsable,
+ * passed argument, without blocking the thread executing the command.
+ * <br>
+ * <br>
+ * Online {@link Player}s are resolved right away through the installed {@link OnlinePlayerIndex}, if any. Every other
+ * profile is resolved through a {@link ProfileCache}, which looks profiles that are not remembered up off the main
+ * thread, so a {@link DeferredParameterizedCommand} defers its execution until they are available.
+ * <br>
+ * <br>
+ * <b>Argument Syntax:</b> [uuid | player name]
+ *
+ * @since 1.0.0
+ */
+public final class AsyncOfflinePlayerParameter extends UUIDOrientedParameter<CommandSender, OfflinePlayer>
+        implements DeferredParameter<CommandSender, OfflinePlayer> {
+    private final ProfileCache cache;
+
+    /**
+     * Creates a new {@link AsyncOfflinePlayerParameter}.
+     *
+     * @param cache the {@link ProfileCache} resolving the profiles of {@code OfflinePlayer}s.
+     */
+    public AsyncOfflinePlayerParameter(final @NotNull ProfileCache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public CompletableFuture<OfflinePlayer> parseDeferred(final CommandSender sender, final CommandInput input) {
+        final String arg = input.getArgument(0);
+        final OnlinePlayerIndex index = OnlinePlayerIndex.getInstalled();
+
+        if (arg.length() > PlayerParameter.MAX_NAME_LENGTH) {
+            final UUID uniqueId = toUniqueId(arg);
+            if (uniqueId == null) return CompletableFuture.completedFuture(null);
+
+            final Player online = index != null ? index.getPlayer(uniqueId) : null;
+            return online != null ? CompletableFuture.completedFuture(online) : cache.get(uniqueId);
+        }
+
+        if (!PlayerParameter.isName(arg)) return CompletableFuture.completedFuture(null);
+
+        final Player online = index != null ? index.getPlayer(arg) : null;
+        return online != null ? CompletableFuture.completedFuture(online) : cache.get(arg);
+    }
+
+    @Override
+    public int getMinimumUsage() {
+        return 1;
+    }
+
+    @Override
+    public int getMaximumUsage() {
+        return 1;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.disbatch.command.parameter.model.player;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+final class BukkitProfileSource implements ProfileSource {
+    static final ProfileSource INSTANCE = new BukkitProfileSource();
+
+    private BukkitProfileSource() {
+    }
+
+    @Override
+    public @Nullable OfflinePlayer lookUp(final UUID uniqueId) {
+        return Bukkit.getOfflinePlayer(uniqueId);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public @Nullable OfflinePlayer lookUp(final String name) {
+        final OfflinePlayer player = Bukkit.getOfflinePlayer(name);
+        return player != null && (player.isOnline() || player.hasPlayedBefore()) ? player : null;
+    }
+}
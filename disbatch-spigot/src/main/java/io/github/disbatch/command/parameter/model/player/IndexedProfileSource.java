@@ -0,0 +1,31 @@
+package io.github.disbatch.command.parameter.model.player;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+final class IndexedProfileSource implements ProfileSource {
+    private final MappedNameIndex index;
+
+    IndexedProfileSource(final MappedNameIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public @Nullable OfflinePlayer lookUp(final UUID uniqueId) {
+        return Bukkit.getOfflinePlayer(uniqueId);
+    }
+
+    @Override
+    public @Nullable OfflinePlayer lookUp(final String name) {
+        final UUID uniqueId = index.getUniqueId(name);
+        return uniqueId != null ? Bukkit.getOfflinePlayer(uniqueId) : null;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "[index=" + index + "]";
+    }
+}
@@ -0,0 +1,720 @@
+package io.github.disbatch.command.parameter.model.player;
+
+import io.github.disbatch.command.RadixTrie;
+import io.github.disbatch.command.async.AsyncScheduler;
+import io.github.disbatch.command.parameter.SuggestionBuffer;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
+
+/**
+ * A persistent index of every name players have been seen with and their {@link UUID}s, so that offline players can
+ * be resolved by current or past names, and their names suggested, without parsing {@code usercache.json} or scanning
+ * {@link Bukkit#getOfflinePlayers()}.
+ * <br>
+ * <br>
+ * Names are stored in a file, mapped into memory when the index is opened, as a dictionary sorted by case-insensitive
+ * name and front-coded in blocks of {@value #BLOCK_SIZE}: the first name of a block is stored whole, and every other
+ * one as the length of the prefix it shares with the name before it followed by the rest of it, each along with its
+ * 16-byte {@code UUID}. Exact lookups binary search the first names of the blocks and decode a single block, and prefix
+ * scans only decode the blocks holding names starting with the prefix. A second table, sorted by {@code UUID}, holds
+ * the latest name of every {@code UUID}.
+ * <br>
+ * <br>
+ * Names recorded after the index is opened, such as those of joining players, are appended to a journal next to the
+ * file and held in memory until {@link #compact()} merges them into a new file. Opening an index therefore costs a
+ * single mapping of the file, along with replaying the journal, which is empty once compacted. A new index can be
+ * seeded by recording the names of {@link Bukkit#getOfflinePlayers()} once.
+ * <br>
+ * <br>
+ * As a mapped file can neither be replaced nor deleted on every platform, every compaction writes the dictionary to a
+ * file of its own, named after the given file with an increasing generation number as extension (e.g.,
+ * {@code names.idx.2}), and only the latest one is mapped when the index is opened.
+ *
+ * @see ProfileSource#indexed(MappedNameIndex)
+ * @see io.github.disbatch.command.parameter.Suggesters#ofKnownPlayers(MappedNameIndex)
+ *
+ * @since 1.0.0
+ */
+public final class MappedNameIndex implements Listener, Closeable {
+    private static final int MAGIC = 0x44424E49;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 28;
+    private static final int BLOCK_SIZE = 16;
+    private static final int UUID_SIZE = 16;
+    private static final int REVERSE_ENTRY_SIZE = UUID_SIZE + 1 + PlayerParameter.MAX_NAME_LENGTH;
+
+    private final Path file;
+    private final FileChannel journal;
+    private final Map<UUID, String> recentNames = new ConcurrentHashMap<>();
+    private volatile RadixTrie<UUID> recentUniqueIds = RadixTrie.empty();
+    private volatile Dictionary dictionary;
+    private volatile Plugin plugin;
+    private volatile Executor executor;
+    private long generation;
+
+    private MappedNameIndex(final Path file, final FileChannel journal, final Dictionary dictionary, final long generation) {
+        this.file = file;
+        this.journal = journal;
+        this.dictionary = dictionary;
+        this.generation = generation;
+    }
+
+    /**
+     * Opens the {@link MappedNameIndex} stored under a file name, which is empty if no file was written under it yet,
+     * along with its journal, named after the file with a {@code .journal} extension. The files left behind by past
+     * compactions are deleted.
+     *
+     * @param file the file in question.
+     * @return the opened {@code MappedNameIndex}.
+     * @throws IOException if the file is not a {@code MappedNameIndex}, or reading the file or journal fails.
+     */
+    public static @NotNull MappedNameIndex open(final @NotNull Path file) throws IOException {
+        final Path absoluteFile = file.toAbsolutePath();
+        Files.createDirectories(absoluteFile.getParent());
+
+        final List<Long> generations = generationsOf(absoluteFile);
+        final long generation = generations.isEmpty() ? 0 : generations.get(generations.size() - 1);
+        final Dictionary dictionary = generation == 0 ? Dictionary.EMPTY : Dictionary.map(generationOf(absoluteFile, generation));
+        final FileChannel journal = FileChannel.open(journalOf(absoluteFile), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            final MappedNameIndex index = new MappedNameIndex(absoluteFile, journal, dictionary, generation);
+            index.replayJournal();
+
+            for (final long previous : generations.subList(0, Math.max(generations.size() - 1, 0)))
+                tryDelete(generationOf(absoluteFile, previous));
+
+            return index;
+        } catch (final IOException | RuntimeException e) {
+            journal.close();
+            throw e;
+        }
+    }
+
+    private static Path journalOf(final Path file) {
+        return file.resolveSibling(file.getFileName() + ".journal");
+    }
+
+    private static Path generationOf(final Path file, final long generation) {
+        return file.resolveSibling(file.getFileName() + "." + generation);
+    }
+
+    /**
+     * Lists the generations of the dictionary files written under a file name, from oldest to newest.
+     */
+    private static List<Long> generationsOf(final Path file) throws IOException {
+        final String prefix = file.getFileName() + ".";
+        final List<Long> generations = new ArrayList<>();
+
+        try (DirectoryStream<Path> siblings = Files.newDirectoryStream(file.getParent())) {
+            for (final Path sibling : siblings) {
+                final String name = sibling.getFileName().toString();
+                if (!name.startsWith(prefix)) continue;
+
+                final String extension = name.substring(prefix.length());
+
+                if (!extension.isEmpty() && extension.length() <= 18 && extension.chars().allMatch(c -> c >= '0' && c <= '9'))
+                    generations.add(Long.parseLong(extension));
+            }
+        }
+
+        Collections.sort(generations);
+        return generations;
+    }
+
+    /**
+     * Deletes the file of a dictionary no longer in use, which fails on platforms refusing to delete a file that is
+     * still mapped, until the buffers mapping it are collected. Such a file is deleted the next time the index is
+     * opened instead.
+     */
+    private static void tryDelete(final Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (final IOException ignored) {
+        }
+    }
+
+    private void replayJournal() throws IOException {
+        final ByteBuffer entries = ByteBuffer.allocate((int) journal.size());
+
+        while (entries.hasRemaining())
+            if (journal.read(entries, entries.position()) < 0) break;
+
+        ((Buffer) entries).flip();
+
+        final byte[] name = new byte[PlayerParameter.MAX_NAME_LENGTH];
+        int end = 0;
+
+        while (entries.remaining() > 0) {
+            final int length = entries.get();
+
+            if (length <= 0 || length > name.length || entries.remaining() < length + UUID_SIZE) break;
+
+            entries.get(name, 0, length);
+            remember(new String(name, 0, length, StandardCharsets.US_ASCII), new UUID(entries.getLong(), entries.getLong()));
+            end = entries.position();
+        }
+
+        // A partially written entry is left behind by a crash while appending, and is discarded
+        journal.truncate(end);
+        journal.position(end);
+    }
+
+    /**
+     * Keeps the {@link MappedNameIndex} up to date with the names of joining {@link Player}s, as well as those already
+     * online, for as long as the given plugin is enabled. Their names are appended to the journal through
+     * {@link AsyncScheduler#getAsyncExecutor()}, away from the main thread. Once the plugin is disabled, the journal is
+     * compacted and the {@code MappedNameIndex} is closed.
+     *
+     * @param plugin the plugin to register the listener of the {@code MappedNameIndex} to, which logs any failure.
+     * @return this {@code MappedNameIndex}.
+     */
+    public @NotNull MappedNameIndex listen(final @NotNull Plugin plugin) {
+        this.plugin = plugin;
+        executor = AsyncScheduler.of(plugin).getAsyncExecutor();
+        Bukkit.getPluginManager().registerEvents(this, plugin);
+
+        for (final Player player : Bukkit.getOnlinePlayers())
+            recordLater(player);
+
+        return this;
+    }
+
+    /**
+     * Records that a player has been seen with a name, replacing the {@link UUID} of any other player last seen with
+     * the same name, ignoring case. Names that are not valid player names are ignored.
+     *
+     * @param name     the name in question.
+     * @param uniqueId the {@code UUID} of the player.
+     * @return {@code true} if the record changed the {@code MappedNameIndex}, otherwise {@code false}.
+     * @throws IOException if appending to the journal fails.
+     */
+    public synchronized boolean record(final @NotNull String name, final @NotNull UUID uniqueId) throws IOException {
+        if (name.length() > PlayerParameter.MAX_NAME_LENGTH || !PlayerParameter.isName(name)) return false;
+        if (name.equals(getName(uniqueId)) && uniqueId.equals(getUniqueId(name))) return false;
+
+        final ByteBuffer entry = ByteBuffer.allocate(1 + name.length() + UUID_SIZE);
+
+        entry.put((byte) name.length())
+                .put(name.getBytes(StandardCharsets.US_ASCII))
+                .putLong(uniqueId.getMostSignificantBits())
+                .putLong(uniqueId.getLeastSignificantBits());
+
+        ((Buffer) entry).flip();
+
+        while (entry.hasRemaining())
+            journal.write(entry);
+
+        remember(name, uniqueId);
+        return true;
+    }
+
+    private void remember(final String name, final UUID uniqueId) {
+        recentUniqueIds = recentUniqueIds.with(name, uniqueId);
+        recentNames.put(uniqueId, name);
+    }
+
+    /**
+     * Retrieves the {@link UUID} of the player last seen with a name, ignoring case.
+     *
+     * @param name the name in question.
+     * @return the {@code UUID}, or {@code null} if no player has been seen with the name.
+     */
+    public @Nullable UUID getUniqueId(final @NotNull String name) {
+        if (name.length() > PlayerParameter.MAX_NAME_LENGTH || !PlayerParameter.isName(name)) return null;
+
+        final UUID recent = recentUniqueIds.get(name);
+        return recent != null ? recent : dictionary.getUniqueId(name);
+    }
+
+    /**
+     * Retrieves the name a player has last been seen with.
+     *
+     * @param uniqueId the {@link UUID} of the player.
+     * @return the name, or {@code null} if the player has never been seen.
+     */
+    public @Nullable String getName(final @NotNull UUID uniqueId) {
+        final String recent = recentNames.get(uniqueId);
+        return recent != null ? recent : dictionary.getName(uniqueId);
+    }
+
+    /**
+     * Adds every name players have been seen with starting with the given prefix, ignoring case, to a
+     * {@link SuggestionBuffer}, stopping as soon as no further name fits within its limit.
+     *
+     * @param prefix the prefix in question.
+     * @param buffer the {@code SuggestionBuffer} to add the names to.
+     */
+    public void suggest(final @NotNull CharSequence prefix, final @NotNull SuggestionBuffer buffer) {
+        final RadixTrie<UUID> recent = recentUniqueIds;
+
+        recent.forEachWithPrefix(prefix, (name, uniqueId) -> buffer.add(name));
+        dictionary.suggest(prefix, recent, buffer);
+    }
+
+    /**
+     * Merges the names recorded since the {@link MappedNameIndex} was opened or last compacted into the file of the
+     * next generation, maps it in place of the current one, and empties the journal. The file of the current
+     * generation is deleted where a mapped file can be, and otherwise the next time the index is opened.
+     *
+     * @throws IOException if writing the file or emptying the journal fails.
+     */
+    public synchronized void compact() throws IOException {
+        if (journal.size() == 0) return;
+
+        final Path previousFile = generationOf(file, generation);
+        final Path nextFile = generationOf(file, generation + 1);
+        final Path temporaryFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+
+        try {
+            write(temporaryFile);
+
+            try {
+                Files.move(temporaryFile, nextFile, StandardCopyOption.ATOMIC_MOVE);
+            } catch (final AtomicMoveNotSupportedException e) {
+                Files.move(temporaryFile, nextFile);
+            }
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+
+        // Lookups racing the swap find the same names in either, so the dictionary is replaced before they are forgotten
+        dictionary = Dictionary.map(nextFile);
+        recentUniqueIds = RadixTrie.empty();
+        recentNames.clear();
+        generation++;
+
+        journal.truncate(0);
+        tryDelete(previousFile);
+    }
+
+    private void write(final Path temporaryFile) throws IOException {
+        final Dictionary dictionary = this.dictionary;
+        final RadixTrie<UUID> recentUniqueIds = this.recentUniqueIds;
+        final List<String> recentNames = recentUniqueIds.keysWithPrefix("");
+        final Map<UUID, String> recentNamesByUniqueId = new TreeMap<>(MappedNameIndex::compare);
+        final DictionaryWriter writer;
+
+        recentNamesByUniqueId.putAll(this.recentNames);
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporaryFile)))) {
+            writer = new DictionaryWriter(out);
+            final Dictionary.Cursor cursor = dictionary.new Cursor();
+            boolean remaining = cursor.next();
+            int next = 0;
+
+            while (remaining || next < recentNames.size()) {
+                final int comparison = !remaining ? 1 : next == recentNames.size() ? -1 : cursor.compareTo(recentNames.get(next));
+
+                if (comparison < 0) {
+                    writer.writeEntry(cursor.name, cursor.length, cursor.mostSigBits, cursor.leastSigBits);
+                    remaining = cursor.next();
+                    continue;
+                }
+
+                final String name = recentNames.get(next++);
+                final UUID uniqueId = recentUniqueIds.get(name);
+
+                writer.writeEntry(name.getBytes(StandardCharsets.US_ASCII), name.length(),
+                        uniqueId.getMostSignificantBits(), uniqueId.getLeastSignificantBits());
+
+                if (comparison == 0) remaining = cursor.next();
+            }
+
+            writer.writeBlockOffsets();
+
+            final Iterator<Map.Entry<UUID, String>> recent = recentNamesByUniqueId.entrySet().iterator();
+            Map.Entry<UUID, String> nextRecent = recent.hasNext() ? recent.next() : null;
+
+            for (int i = 0; i < dictionary.reverseCount; i++) {
+                final UUID uniqueId = dictionary.getReverseUniqueId(i);
+                if (recentNamesByUniqueId.containsKey(uniqueId)) continue;
+
+                for (; nextRecent != null && compare(nextRecent.getKey(), uniqueId) < 0; nextRecent = recent.hasNext() ? recent.next() : null)
+                    writer.writeReverseEntry(nextRecent.getKey(), nextRecent.getValue());
+
+                writer.writeReverseEntry(uniqueId, dictionary.getReverseName(i));
+            }
+
+            for (; nextRecent != null; nextRecent = recent.hasNext() ? recent.next() : null)
+                writer.writeReverseEntry(nextRecent.getKey(), nextRecent.getValue());
+        }
+
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE)) {
+            final ByteBuffer header = writer.header();
+
+            while (header.hasRemaining())
+                channel.write(header, header.position());
+
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Closes the journal of the {@link MappedNameIndex}, after which names can no longer be recorded. The mapped file
+     * is released once the {@code MappedNameIndex} is no longer reachable.
+     *
+     * @throws IOException if closing the journal fails.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        journal.close();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        recordLater(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(final PluginDisableEvent event) {
+        if (event.getPlugin() != plugin) return;
+
+        try {
+            compact();
+            close();
+        } catch (final IOException e) {
+            plugin.getLogger().log(Level.WARNING, "Could not compact the name index " + file, e);
+        }
+    }
+
+    private void recordLater(final Player player) {
+        final String name = player.getName();
+        final UUID uniqueId = player.getUniqueId();
+
+        executor.execute(() -> {
+            try {
+                record(name, uniqueId);
+            } catch (final ClosedChannelException ignored) {
+                // The plugin was disabled before the name was recorded, which is then left to the next join
+            } catch (final IOException e) {
+                plugin.getLogger().log(Level.WARNING, "Could not record " + name + " in the name index " + file, e);
+            }
+        });
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("file=" + file)
+                .add("generation=" + generation)
+                .add("names=" + dictionary.count)
+                .add("recentNames=" + recentUniqueIds.size())
+                .toString();
+    }
+
+    private static int compare(final UUID first, final UUID second) {
+        final int comparison = Long.compare(first.getMostSignificantBits(), second.getMostSignificantBits());
+        return comparison != 0 ? comparison : Long.compare(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    }
+
+    private static int fold(final int c) {
+        return c >= 'A' && c <= 'Z' ? c + ('a' - 'A') : c;
+    }
+
+    private static final class Dictionary {
+        private static final Dictionary EMPTY = new Dictionary(ByteBuffer.allocate(0), 0, 0, 0, 0, 0);
+
+        private final ByteBuffer buffer;
+        private final int count;
+        private final int blockCount;
+        private final int blockOffsetsPosition;
+        private final int reverseCount;
+        private final int reversePosition;
+
+        private Dictionary(final ByteBuffer buffer, final int count, final int blockCount, final int blockOffsetsPosition,
+                           final int reverseCount, final int reversePosition) {
+            this.buffer = buffer;
+            this.count = count;
+            this.blockCount = blockCount;
+            this.blockOffsetsPosition = blockOffsetsPosition;
+            this.reverseCount = reverseCount;
+            this.reversePosition = reversePosition;
+        }
+
+        private static Dictionary map(final Path file) throws IOException {
+            final ByteBuffer buffer;
+
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC)
+                throw new IOException(file + " is not a name index");
+
+            if (buffer.getInt(4) != VERSION)
+                throw new IOException(file + " is a name index of unsupported version " + buffer.getInt(4));
+
+            return new Dictionary(buffer, buffer.getInt(8), buffer.getInt(12), buffer.getInt(16), buffer.getInt(20), buffer.getInt(24));
+        }
+
+        private UUID getUniqueId(final String name) {
+            if (count == 0) return null;
+
+            final Cursor cursor = new Cursor();
+            cursor.seek(findBlock(cursor, name));
+
+            for (int i = 0; i < BLOCK_SIZE && cursor.next(); i++) {
+                final int comparison = cursor.compareTo(name);
+
+                if (comparison == 0) return new UUID(cursor.mostSigBits, cursor.leastSigBits);
+                if (comparison > 0) return null;
+            }
+
+            return null;
+        }
+
+        private void suggest(final CharSequence prefix, final RadixTrie<UUID> recent, final SuggestionBuffer buffer) {
+            if (count == 0) return;
+
+            final Cursor cursor = new Cursor();
+            cursor.seek(findBlock(cursor, prefix));
+
+            while (cursor.next()) {
+                if (!cursor.startsWith(prefix)) {
+                    if (cursor.compareTo(prefix) > 0) return;
+                    continue;
+                }
+
+                final String name = new String(cursor.name, 0, cursor.length, StandardCharsets.US_ASCII);
+
+                // Names recorded since, possibly in another case, are already suggested
+                if (recent.get(name) == null && !buffer.add(name) && buffer.isFull()) return;
+            }
+        }
+
+        /**
+         * Binary searches the last block whose first name is not after the given one, in which the name, or the first
+         * name starting with it, is if any is.
+         */
+        private int findBlock(final Cursor cursor, final CharSequence name) {
+            int low = 0;
+            int high = blockCount - 1;
+
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+
+                cursor.seek(mid);
+                cursor.next();
+
+                final int comparison = cursor.compareTo(name);
+
+                if (comparison < 0) low = mid + 1;
+                else if (comparison > 0) high = mid - 1;
+                else return mid;
+            }
+
+            return Math.max(high, 0);
+        }
+
+        private String getName(final UUID uniqueId) {
+            int low = 0;
+            int high = reverseCount - 1;
+
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int comparison = compare(getReverseUniqueId(mid), uniqueId);
+
+                if (comparison < 0) low = mid + 1;
+                else if (comparison > 0) high = mid - 1;
+                else return getReverseName(mid);
+            }
+
+            return null;
+        }
+
+        private UUID getReverseUniqueId(final int index) {
+            final int position = reversePosition + index * REVERSE_ENTRY_SIZE;
+            return new UUID(buffer.getLong(position), buffer.getLong(position + 8));
+        }
+
+        private String getReverseName(final int index) {
+            final int position = reversePosition + index * REVERSE_ENTRY_SIZE + UUID_SIZE;
+            final byte[] name = new byte[buffer.get(position)];
+
+            for (int i = 0; i < name.length; i++)
+                name[i] = buffer.get(position + 1 + i);
+
+            return new String(name, StandardCharsets.US_ASCII);
+        }
+
+        /**
+         * Decodes the names of the dictionary one after the other, reading the mapped file through absolute positions
+         * only, so that any number of threads can decode it at once.
+         */
+        private final class Cursor {
+            private final byte[] name = new byte[PlayerParameter.MAX_NAME_LENGTH];
+            private int length;
+            private long mostSigBits;
+            private long leastSigBits;
+            private int index;
+            private int position = HEADER_SIZE;
+
+            private void seek(final int block) {
+                index = block * BLOCK_SIZE;
+                position = buffer.getInt(blockOffsetsPosition + block * 4);
+            }
+
+            private boolean next() {
+                if (index == count) return false;
+
+                final int shared = index++ % BLOCK_SIZE == 0 ? 0 : buffer.get(position++);
+                final int suffixLength = buffer.get(position++);
+
+                for (int i = 0; i < suffixLength; i++)
+                    name[shared + i] = buffer.get(position++);
+
+                length = shared + suffixLength;
+                mostSigBits = buffer.getLong(position);
+                leastSigBits = buffer.getLong(position + 8);
+                position += UUID_SIZE;
+                return true;
+            }
+
+            private int compareTo(final CharSequence other) {
+                final int limit = Math.min(length, other.length());
+
+                for (int i = 0; i < limit; i++) {
+                    final int comparison = fold(name[i]) - fold(other.charAt(i));
+                    if (comparison != 0) return comparison;
+                }
+
+                return length - other.length();
+            }
+
+            private boolean startsWith(final CharSequence prefix) {
+                if (length < prefix.length()) return false;
+
+                for (int i = 0; i < prefix.length(); i++)
+                    if (fold(name[i]) != fold(prefix.charAt(i))) return false;
+
+                return true;
+            }
+        }
+    }
+
+    private static final class DictionaryWriter {
+        private final DataOutputStream out;
+        private final byte[] previous = new byte[PlayerParameter.MAX_NAME_LENGTH];
+        private int[] blockOffsets = new int[64];
+        private int previousLength;
+        private int count;
+        private int blockOffsetsPosition;
+        private int reverseCount;
+        private int reversePosition;
+
+        private DictionaryWriter(final DataOutputStream out) throws IOException {
+            this.out = out;
+            out.write(new byte[HEADER_SIZE]);
+        }
+
+        private void writeEntry(final byte[] name, final int length, final long mostSigBits, final long leastSigBits) throws IOException {
+            if (count % BLOCK_SIZE == 0) {
+                final int block = count / BLOCK_SIZE;
+
+                if (block == blockOffsets.length)
+                    blockOffsets = Arrays.copyOf(blockOffsets, block * 2);
+
+                blockOffsets[block] = position();
+                out.writeByte(length);
+                out.write(name, 0, length);
+            } else {
+                int shared = 0;
+
+                while (shared < Math.min(length, previousLength) && name[shared] == previous[shared])
+                    shared++;
+
+                out.writeByte(shared);
+                out.writeByte(length - shared);
+                out.write(name, shared, length - shared);
+            }
+
+            out.writeLong(mostSigBits);
+            out.writeLong(leastSigBits);
+
+            System.arraycopy(name, 0, previous, 0, length);
+            previousLength = length;
+            count++;
+        }
+
+        private void writeBlockOffsets() throws IOException {
+            blockOffsetsPosition = position();
+
+            for (int block = 0; block * BLOCK_SIZE < count; block++)
+                out.writeInt(blockOffsets[block]);
+
+            reversePosition = position();
+        }
+
+        private void writeReverseEntry(final UUID uniqueId, final String name) throws IOException {
+            out.writeLong(uniqueId.getMostSignificantBits());
+            out.writeLong(uniqueId.getLeastSignificantBits());
+            out.writeByte(name.length());
+            out.write(Arrays.copyOf(name.getBytes(StandardCharsets.US_ASCII), PlayerParameter.MAX_NAME_LENGTH));
+            reverseCount++;
+        }
+
+        /**
+         * Retrieves the number of bytes written so far, which must remain addressable by the {@code int} positions of
+         * a mapped file, as {@link DataOutputStream#size()} stops counting at {@link Integer#MAX_VALUE}.
+         */
+        private int position() throws IOException {
+            if (out.size() == Integer.MAX_VALUE) throw new IOException("Name index exceeds the size of a mapped file");
+            return out.size();
+        }
+
+        private ByteBuffer header() throws IOException {
+            position();
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                    .putInt(MAGIC)
+                    .putInt(VERSION)
+                    .putInt(count)
+                    .putInt((count + BLOCK_SIZE - 1) / BLOCK_SIZE)
+                    .putInt(blockOffsetsPosition)
+                    .putInt(reverseCount)
+                    .putInt(reversePosition);
+
+            // Called through Buffer, as ByteBuffer only overrides flip() from Java 9 on
+            ((Buffer) header).flip();
+            return header;
+        }
+    }
+}
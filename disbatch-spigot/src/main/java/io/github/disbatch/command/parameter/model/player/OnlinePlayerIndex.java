@@ -0,0 +1,213 @@
+package io.github.disbatch.command.parameter.model.player;
+
+import io.github.disbatch.command.RadixTrie;
+import io.github.disbatch.command.parameter.SuggestionBuffer;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Indexes online {@link Player}s by their {@link UUID} and case-insensitive name, so they can be resolved in constant
+ * time rather than by scanning every online {@code Player}, as {@link Bukkit#getPlayer(String)} and
+ * {@link Bukkit#getPlayerExact(String)} do. Names are also indexed in a {@link RadixTrie}, so resolving a
+ * {@code Player} by the start of their name and suggesting names only walk the {@code Player}s starting with it.
+ * <br>
+ * <br>
+ * An {@code OnlinePlayerIndex} installed through {@link #install(Plugin)} is kept up to date by listening to
+ * {@code Player}s joining and quitting, until the installing plugin is disabled. {@code Player}s are indexed before any
+ * other listener is notified of them joining, and unindexed after every other listener is notified of them quitting.
+ * Lookups are safe from any thread, and prefix lookups read an immutable snapshot of the {@code RadixTrie} that is
+ * replaced whenever a {@code Player} is indexed or unindexed.
+ *
+ * @see PlayerParameter
+ *
+ * @since 1.0.0
+ */
+public final class OnlinePlayerIndex implements Listener {
+    private static volatile OnlinePlayerIndex installed;
+
+    private final Map<UUID, Player> playersByUniqueId = new ConcurrentHashMap<>();
+    private final Map<String, Player> playersByName = new ConcurrentHashMap<>();
+    private final Plugin plugin;
+    private volatile RadixTrie<Player> playersByPrefix = RadixTrie.empty();
+
+    /**
+     * Creates a new, empty {@link OnlinePlayerIndex} that is only updated through {@link #add(Player)} and
+     * {@link #remove(Player)}.
+     */
+    public OnlinePlayerIndex() {
+        this(null);
+    }
+
+    private OnlinePlayerIndex(final Plugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Installs an {@link OnlinePlayerIndex} of every online {@link Player}, kept up to date for as long as the given
+     * plugin is enabled. Installing while an {@code OnlinePlayerIndex} is already installed has no effect.
+     *
+     * @param plugin the plugin to register the listener of the {@code OnlinePlayerIndex} to.
+     * @return the installed {@code OnlinePlayerIndex}.
+     */
+    public static synchronized @NotNull OnlinePlayerIndex install(final @NotNull Plugin plugin) {
+        if (installed != null) return installed;
+
+        final OnlinePlayerIndex index = new OnlinePlayerIndex(plugin);
+
+        Bukkit.getPluginManager().registerEvents(index, plugin);
+
+        for (final Player player : Bukkit.getOnlinePlayers())
+            index.add(player);
+
+        return installed = index;
+    }
+
+    /**
+     * Retrieves the {@link OnlinePlayerIndex} installed through {@link #install(Plugin)}, if any.
+     *
+     * @return the installed {@code OnlinePlayerIndex}, or {@code null} if none is installed.
+     */
+    public static @Nullable OnlinePlayerIndex getInstalled() {
+        return installed;
+    }
+
+    /**
+     * Indexes a {@link Player}.
+     *
+     * @param player the {@code Player} to be indexed.
+     */
+    public synchronized void add(final @NotNull Player player) {
+        playersByUniqueId.put(player.getUniqueId(), player);
+        playersByName.put(player.getName().toLowerCase(Locale.ROOT), player);
+        playersByPrefix = playersByPrefix.with(player.getName(), player);
+    }
+
+    /**
+     * Unindexes a {@link Player}.
+     *
+     * @param player the {@code Player} to be unindexed.
+     */
+    public synchronized void remove(final @NotNull Player player) {
+        playersByUniqueId.remove(player.getUniqueId(), player);
+        playersByName.remove(player.getName().toLowerCase(Locale.ROOT), player);
+
+        if (playersByPrefix.get(player.getName()) == player)
+            playersByPrefix = playersByPrefix.without(player.getName());
+    }
+
+    /**
+     * Retrieves an indexed {@link Player} by their {@link UUID}.
+     *
+     * @param uniqueId the {@code UUID} of the {@code Player}.
+     * @return the {@code Player}, or {@code null} if none is indexed with the {@code UUID}.
+     */
+    public @Nullable Player getPlayer(final @NotNull UUID uniqueId) {
+        return playersByUniqueId.get(uniqueId);
+    }
+
+    /**
+     * Retrieves an indexed {@link Player} by their exact, case-insensitive name.
+     *
+     * @param name the name of the {@code Player}.
+     * @return the {@code Player}, or {@code null} if none is indexed with the name.
+     */
+    public @Nullable Player getPlayer(final @NotNull String name) {
+        return playersByName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Retrieves an indexed {@link Player} the same way as {@link Bukkit#getPlayer(String)}: by their exact,
+     * case-insensitive name, or otherwise the {@code Player} with the shortest name starting with the given one.
+     *
+     * @param name the name, or start of the name, of the {@code Player}.
+     * @return the {@code Player}, or {@code null} if no indexed {@code Player}'s name starts with the given one.
+     */
+    public @Nullable Player getPlayerByPrefix(final @NotNull String name) {
+        final Player exact = getPlayer(name);
+        if (exact != null) return exact;
+
+        final Player[] shortest = new Player[1];
+
+        playersByPrefix.forEachWithPrefix(name, (playerName, player) -> {
+            if (shortest[0] == null || playerName.length() < shortest[0].getName().length())
+                shortest[0] = player;
+        });
+
+        return shortest[0];
+    }
+
+    /**
+     * Adds the names of every indexed {@link Player} starting with the given prefix, ignoring case, and visible to
+     * the given {@link CommandSender} to a {@link SuggestionBuffer}.
+     *
+     * @param sender the {@code CommandSender} requesting suggestions.
+     * @param prefix the prefix in question.
+     * @param buffer the {@code SuggestionBuffer} to add the names to.
+     */
+    public void suggest(final @NotNull CommandSender sender, final @NotNull CharSequence prefix, final @NotNull SuggestionBuffer buffer) {
+        playersByPrefix.forEachWithPrefix(prefix, (name, player) -> {
+            if (canSee(sender, player)) buffer.add(name);
+        });
+    }
+
+    /**
+     * Determines whether a {@link CommandSender} can see a {@link Player}, which any sender other than a
+     * {@code Player} can.
+     *
+     * @param sender the {@code CommandSender} in question.
+     * @param player the {@code Player} in question.
+     * @return {@code true} if the {@code Player} is visible to the {@code CommandSender}, otherwise {@code false}.
+     */
+    public static boolean canSee(final @NotNull CommandSender sender, final @NotNull Player player) {
+        return !(sender instanceof Player) || ((Player) sender).canSee(player);
+    }
+
+    /**
+     * Retrieves the number of indexed {@link Player}s.
+     *
+     * @return the indexed {@code Player} amount.
+     */
+    public int size() {
+        return playersByUniqueId.size();
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        add(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        remove(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(final PluginDisableEvent event) {
+        if (event.getPlugin() != plugin) return;
+
+        synchronized (OnlinePlayerIndex.class) {
+            if (installed == this) installed = null;
+        }
+
+        synchronized (this) {
+            playersByUniqueId.clear();
+            playersByName.clear();
+            playersByPrefix = RadixTrie.empty();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.disbatch.command.parameter.model.player;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.model.UUIDOrientedParameter;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Parses an online {@link Player} by either their {@link UUID} or exact, case-insensitive name based on a parsable,
+ * passed argument.
+ * <br>
+ * <br>
+ * Whether the argument is a {@code UUID} or a name is told by its shape, since names are at most sixteen
+ * characters long. {@code Player}s are resolved through the given {@link OnlinePlayerIndex}, or the installed one if
+ * none is given, in constant time. Without any {@code OnlinePlayerIndex}, they are resolved through {@link Bukkit}.
+ * <br>
+ * <br>
+ * <b>Argument Syntax:</b> [uuid | player name]
+ *
+ * @since 1.0.0
+ */
+public final class PlayerParameter extends UUIDOrientedParameter<CommandSender, Player> {
+    static final int MAX_NAME_LENGTH = 16;
+
+    private final OnlinePlayerIndex index;
+
+    /**
+     * Creates a new {@link PlayerParameter} resolving {@link Player}s through the installed {@link OnlinePlayerIndex}.
+     *
+     * @see OnlinePlayerIndex#install(org.bukkit.plugin.Plugin)
+     */
+    public PlayerParameter() {
+        this(null);
+    }
+
+    /**
+     * Creates a new {@link PlayerParameter} resolving {@link Player}s through the given {@link OnlinePlayerIndex}.
+     *
+     * @param index the {@code OnlinePlayerIndex} to resolve {@code Player}s through, or {@code null} to use the
+     *              installed one.
+     */
+    public PlayerParameter(final @Nullable OnlinePlayerIndex index) {
+        this.index = index;
+    }
+
+    @Override
+    public @Nullable Player parse(final CommandSender sender, final CommandInput input) {
+        final String arg = input.getArgument(0);
+        final OnlinePlayerIndex index = this.index != null ? this.index : OnlinePlayerIndex.getInstalled();
+
+        if (arg.length() > MAX_NAME_LENGTH) {
+            final UUID uniqueId = toUniqueId(arg);
+
+            if (uniqueId == null) return null;
+
+            return index != null ? index.getPlayer(uniqueId) : Bukkit.getPlayer(uniqueId);
+        }
+
+        if (!isName(arg)) return null;
+
+        return index != null ? index.getPlayer(arg) : Bukkit.getPlayerExact(arg);
+    }
+
+    static boolean isName(final String arg) {
+        if (arg.isEmpty()) return false;
+
+        for (int i = 0; i < arg.length(); i++) {
+            final char c = arg.charAt(i);
+
+            if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && (c < '0' || c > '9') && c != '_')
+                return false;
+        }
+
+        return true;
+    }
+
+    @Override
+    public int getMinimumUsage() {
+        return 1;
+    }
+
+    @Override
+    public int getMaximumUsage() {
+        return 1;
+    }
+}
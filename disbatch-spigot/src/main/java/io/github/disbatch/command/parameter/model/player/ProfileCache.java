@@ -0,0 +1,307 @@
+package io.github.disbatch.command.parameter.model.player;
+
+import io.github.disbatch.command.parameter.exception.InvalidParameterException;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the {@link OfflinePlayer} profiles looked up by {@link UUID} or name through a {@link ProfileSource}, so
+ * that resolving a profile only blocks, off the server's main thread, the first time it is requested. Requests for a
+ * profile that is already being looked up share the same lookup, and profiles that could not be found are remembered
+ * as well. Every request is handed its own future, so that cancelling or completing it affects no other request.
+ * <br>
+ * <br>
+ * Lookups still running when a profile is invalidated complete their requests, but their profiles are not
+ * remembered, so that invalidating is never undone by a lookup that started before it.
+ * <br>
+ * <br>
+ * Only up to a maximum number of profiles are remembered, forgetting the least recently used ones first, and each
+ * profile is forgotten once its time to live has passed since it was looked up, so that renamed players are
+ * eventually resolved by their new name.
+ *
+ * @see AsyncOfflinePlayerParameter
+ *
+ * @since 1.0.0
+ */
+public final class ProfileCache {
+    private final ProfileSource source;
+    private final Executor executor;
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+    private final Map<Object, CachedProfile> entries;
+    private final Map<Object, CompletableFuture<OfflinePlayer>> lookups = new HashMap<>();
+    private long invalidations;
+
+    private ProfileCache(final ProfileSource source, final Executor executor, final int maximumSize, final long timeToLiveNanos,
+                         final LongSupplier ticker) {
+        this.source = source;
+        this.executor = executor;
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.ticker = ticker;
+
+        entries = new LinkedHashMap<Object, CachedProfile>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Object, CachedProfile> eldest) {
+                return size() > maximumSize;
+            }
+        };
+    }
+
+    /**
+     * Resolves the profile of a {@link UUID}.
+     *
+     * @param uniqueId the {@code UUID} in question.
+     * @return a future completed with the {@link OfflinePlayer}, or {@code null} if there is none, which is already
+     *         completed if the profile is remembered.
+     */
+    public CompletableFuture<OfflinePlayer> get(final @NotNull UUID uniqueId) {
+        return get(uniqueId, () -> source.lookUp(uniqueId));
+    }
+
+    /**
+     * Resolves the profile of an exact, case-insensitive name, without the blocking name lookup on the calling thread.
+     *
+     * @param name the name in question.
+     * @return a future completed with the {@link OfflinePlayer}, or {@code null} if there is none, which is already
+     *         completed if the profile is remembered.
+     */
+    public CompletableFuture<OfflinePlayer> get(final @NotNull String name) {
+        return get(name.toLowerCase(Locale.ROOT), () -> source.lookUp(name));
+    }
+
+    private CompletableFuture<OfflinePlayer> get(final Object key, final Supplier<OfflinePlayer> lookUp) {
+        final CompletableFuture<OfflinePlayer> lookup;
+        final long invalidations;
+
+        synchronized (entries) {
+            final CachedProfile entry = entries.get(key);
+
+            if (entry != null) {
+                if (ticker.getAsLong() - entry.expiresAt < 0) return CompletableFuture.completedFuture(entry.profile);
+                entries.remove(key);
+            }
+
+            final CompletableFuture<OfflinePlayer> pending = lookups.get(key);
+            if (pending != null) return pending.thenApply(Function.identity());
+
+            lookups.put(key, lookup = new CompletableFuture<>());
+            invalidations = this.invalidations;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    complete(key, lookup, lookUp.get(), invalidations);
+                } catch (final Throwable cause) {
+                    fail(key, lookup, cause);
+                }
+            });
+        } catch (final RuntimeException cause) {
+            fail(key, lookup, cause);
+        }
+
+        return lookup.thenApply(Function.identity());
+    }
+
+    private void complete(final Object key, final CompletableFuture<OfflinePlayer> lookup, final OfflinePlayer profile, final long invalidations) {
+        final CachedProfile entry = new CachedProfile(profile, ticker.getAsLong() + timeToLiveNanos);
+
+        synchronized (entries) {
+            lookups.remove(key, lookup);
+
+            // A lookup started before invalidating may have found a stale profile, which is handed out but not remembered
+            if (invalidations == this.invalidations) {
+                entries.put(key, entry);
+
+                if (profile != null) {
+                    entries.put(profile.getUniqueId(), entry);
+                    if (profile.getName() != null) entries.put(profile.getName().toLowerCase(Locale.ROOT), entry);
+                }
+            }
+        }
+
+        lookup.complete(profile);
+    }
+
+    private void fail(final Object key, final CompletableFuture<OfflinePlayer> lookup, final Throwable cause) {
+        synchronized (entries) {
+            lookups.remove(key, lookup);
+        }
+
+        lookup.completeExceptionally(cause);
+    }
+
+    /**
+     * Forgets the profile of a {@link UUID}.
+     *
+     * @param uniqueId the {@code UUID} in question.
+     */
+    public void invalidate(final @NotNull UUID uniqueId) {
+        synchronized (entries) {
+            entries.remove(uniqueId);
+            lookups.remove(uniqueId);
+            invalidations++;
+        }
+    }
+
+    /**
+     * Forgets the profile of a name.
+     *
+     * @param name the name in question.
+     */
+    public void invalidate(final @NotNull String name) {
+        synchronized (entries) {
+            entries.remove(name.toLowerCase(Locale.ROOT));
+            lookups.remove(name.toLowerCase(Locale.ROOT));
+            invalidations++;
+        }
+    }
+
+    /**
+     * Forgets every remembered profile.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            lookups.clear();
+            invalidations++;
+        }
+    }
+
+    /**
+     * Retrieves the number of remembered {@link UUID}s and names, including those of expired profiles not yet
+     * forgotten.
+     *
+     * @return the remembered amount.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("source=" + source)
+                .add("size=" + size())
+                .toString();
+    }
+
+    /**
+     * Runs the lookups of every {@link ProfileCache} not given an {@link Executor} of its own, on a few daemon threads
+     * dedicated to blocking lookups, so that they neither starve the common pool nor keep the server from stopping.
+     */
+    private static final class LookupExecutor {
+        private static final int THREAD_COUNT = 2;
+        private static final AtomicInteger createdThreads = new AtomicInteger();
+        private static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT, 30L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), task -> {
+                final Thread thread = new Thread(task, "Disbatch Profile Lookup #" + createdThreads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    private static final class CachedProfile {
+        private final OfflinePlayer profile;
+        private final long expiresAt;
+
+        private CachedProfile(final OfflinePlayer profile, final long expiresAt) {
+            this.profile = profile;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Serves as a flexible solution for creating a new {@link ProfileCache}.
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder {
+        private ProfileSource source = ProfileSource.bukkit();
+        private Executor executor;
+        private int maximumSize = 1024;
+        private long timeToLiveNanos = TimeUnit.MINUTES.toNanos(10);
+        private LongSupplier ticker = System::nanoTime;
+
+        /**
+         * Sets the {@link ProfileSource} profiles are looked up through, which is {@link ProfileSource#bukkit()} by
+         * default.
+         */
+        public Builder source(final @NotNull ProfileSource source) {
+            this.source = source;
+            return this;
+        }
+
+        /**
+         * Sets the {@link Executor} running lookups off the main thread (e.g.,
+         * {@link io.github.disbatch.command.async.AsyncScheduler#getAsyncExecutor()}). By default, lookups run on two
+         * daemon threads shared by every {@code ProfileCache} built without one.
+         */
+        public Builder executor(final @NotNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of remembered {@link UUID}s and names, which is {@code 1024} by default.
+         */
+        public Builder maximumSize(final int maximumSize) {
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * Sets how long profiles are remembered after being looked up, which is ten minutes by default.
+         */
+        public Builder expireAfter(final long duration, final @NotNull TimeUnit unit) {
+            timeToLiveNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets the source of the time in nanoseconds profiles expire by, which is {@link System#nanoTime()} by default.
+         */
+        public Builder ticker(final @NotNull LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Creates a new {@link ProfileCache}.
+         *
+         * @return the created {@code ProfileCache}.
+         * @throws InvalidParameterException if the maximum size or time to live is not positive.
+         */
+        public ProfileCache build() {
+            if (maximumSize <= 0) throw new InvalidParameterException("Maximum size must be greater than 0");
+            if (timeToLiveNanos <= 0) throw new InvalidParameterException("Time to live must be greater than 0");
+
+            return new ProfileCache(source, executor != null ? executor : LookupExecutor.INSTANCE, maximumSize, timeToLiveNanos, ticker);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.disbatch.command.parameter.model.player;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.UUID;
+
+/**
+ * Looks up the {@link OfflinePlayer} profiles a {@link ProfileCache} holds. Lookups may block, such as on the disk or
+ * the profile service, since a {@code ProfileCache} only performs them off the server's main thread.
+ *
+ * @see #bukkit()
+ *
+ * @since 1.0.0
+ */
+public interface ProfileSource {
+
+    /**
+     * Retrieves a {@link ProfileSource} looking profiles up through {@link Bukkit}. Looking up a profile by name is
+     * the blocking name lookup of {@link Bukkit#getOfflinePlayer(String)}, and finds no profile for names that never
+     * joined the server.
+     *
+     * @return the {@code ProfileSource}.
+     */
+    static @NotNull ProfileSource bukkit() {
+        return BukkitProfileSource.INSTANCE;
+    }
+
+    /**
+     * Retrieves a {@link ProfileSource} resolving names to {@link UUID}s through a {@link MappedNameIndex}, including
+     * the past names of players, and looking profiles up by {@code UUID} through {@link Bukkit}, so that no lookup
+     * blocks on the profile service.
+     *
+     * @param index the {@code MappedNameIndex} in question.
+     * @return the {@code ProfileSource}.
+     */
+    static @NotNull ProfileSource indexed(final @NotNull MappedNameIndex index) {
+        return new IndexedProfileSource(index);
+    }
+
+    /**
+     * Looks up the profile of a {@link UUID}.
+     *
+     * @param uniqueId the {@code UUID} in question.
+     * @return the {@link OfflinePlayer}, or {@code null} if there is none.
+     */
+    @Nullable OfflinePlayer lookUp(UUID uniqueId);
+
+    /**
+     * Looks up the profile of an exact, case-insensitive name.
+     *
+     * @param name the name in question.
+     * @return the {@link OfflinePlayer}, or {@code null} if there is none.
+     */
+    @Nullable OfflinePlayer lookUp(String name);
+}
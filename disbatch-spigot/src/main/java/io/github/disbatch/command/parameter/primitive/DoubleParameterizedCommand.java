@@ -0,0 +1,108 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.InvalidInputHandler;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ParameterizedCommand} carrying the {@code double} parsed by a {@link PrimitiveDoubleParameter} to its execution
+ * without boxing it, for commands executed at high rates, such as economy or statistic commands.
+ *
+ * @param <S> {@inheritDoc}
+ * @see #execute(CommandSender, double, CommandInput)
+ *
+ * @since 1.0.0
+ */
+public abstract class DoubleParameterizedCommand<S extends CommandSender> extends ParameterizedCommand<S, Double> {
+    private final PrimitiveDoubleParameter<? super S> parameter;
+
+    /**
+     * Constructs a new {@link DoubleParameterizedCommand}.
+     *
+     * @param parameter the {@link PrimitiveDoubleParameter} to use for parsing the {@code double} argument
+     * @param handler   the {@link InvalidInputHandler} to use when the input cannot be parsed
+     */
+    protected DoubleParameterizedCommand(final @NotNull PrimitiveDoubleParameter<? super S> parameter, final @NotNull InvalidInputHandler<? super S> handler) {
+        super(parameter, handler);
+        this.parameter = parameter;
+    }
+
+    @Override
+    protected final boolean parseAndExecute(final S sender, final CommandInput input) {
+        final double value = parameter.parseDouble(sender, input);
+        if (Double.isNaN(value)) return false;
+
+        execute(sender, value, input);
+        return true;
+    }
+
+    /**
+     * Serves the same functionality as {@link io.github.disbatch.command.Command#execute(CommandSender, CommandInput)}
+     * but with an additional {@code double} argument.
+     *
+     * @param sender   the {@link CommandSender} responsible for execution
+     * @param argument the parsed {@code double} argument
+     * @param input    the {@link CommandInput} used to execute the {@code DoubleParameterizedCommand}
+     */
+    protected abstract void execute(final S sender, final double argument, final CommandInput input);
+
+    @Override
+    protected final void execute(final S sender, final Double argument, final CommandInput input) {
+        execute(sender, argument.doubleValue(), input);
+    }
+
+    /**
+     * Serves as a flexible solution for creating a new {@link DoubleParameterizedCommand} without defining an anonymous or
+     * explicit abstraction.
+     *
+     * @param <S> any type extending {@link CommandSender} that can safely execute any built {@link DoubleParameterizedCommand}.
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder<S extends CommandSender> {
+        private PrimitiveDoubleParameter<? super S> parameter;
+        private InvalidInputHandler<? super S> handler;
+        private DoubleParameterizedCommandExecutor<S> executor;
+
+        public Builder<S> parameter(final @NotNull PrimitiveDoubleParameter<? super S> parameter) {
+            this.parameter = parameter;
+            return this;
+        }
+
+        public Builder<S> executor(final @NotNull DoubleParameterizedCommandExecutor<S> executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder<S> invalidInputHandler(final @NotNull InvalidInputHandler<? super S> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        /**
+         * Creates a new {@link DoubleParameterizedCommand}.
+         *
+         * @return the created {@code DoubleParameterizedCommand}.
+         */
+        public DoubleParameterizedCommand<S> build() {
+            return new BuiltCommand<>(parameter, handler, executor);
+        }
+
+        private static class BuiltCommand<S extends CommandSender> extends DoubleParameterizedCommand<S> {
+            private final DoubleParameterizedCommandExecutor<S> executor;
+
+            private BuiltCommand(final PrimitiveDoubleParameter<? super S> parameter, final InvalidInputHandler<? super S> handler,
+                                 final DoubleParameterizedCommandExecutor<S> executor) {
+                super(parameter, handler);
+                this.executor = executor;
+            }
+
+            @Override
+            protected void execute(final S sender, final double argument, final CommandInput input) {
+                executor.execute(sender, argument, input);
+            }
+        }
+    }
+}
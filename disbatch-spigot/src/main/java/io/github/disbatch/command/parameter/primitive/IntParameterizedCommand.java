@@ -0,0 +1,109 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.InvalidInputHandler;
+import io.github.disbatch.command.parameter.NumberScanner;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ParameterizedCommand} carrying the {@code int} parsed by a {@link PrimitiveIntParameter} to its execution
+ * without boxing it, for commands executed at high rates, such as economy or statistic commands.
+ *
+ * @param <S> {@inheritDoc}
+ * @see #execute(CommandSender, int, CommandInput)
+ *
+ * @since 1.0.0
+ */
+public abstract class IntParameterizedCommand<S extends CommandSender> extends ParameterizedCommand<S, Integer> {
+    private final PrimitiveIntParameter<? super S> parameter;
+
+    /**
+     * Constructs a new {@link IntParameterizedCommand}.
+     *
+     * @param parameter the {@link PrimitiveIntParameter} to use for parsing the {@code int} argument
+     * @param handler   the {@link InvalidInputHandler} to use when the input cannot be parsed
+     */
+    protected IntParameterizedCommand(final @NotNull PrimitiveIntParameter<? super S> parameter, final @NotNull InvalidInputHandler<? super S> handler) {
+        super(parameter, handler);
+        this.parameter = parameter;
+    }
+
+    @Override
+    protected final boolean parseAndExecute(final S sender, final CommandInput input) {
+        final long value = parameter.parseInt(sender, input);
+        if (value == NumberScanner.INVALID) return false;
+
+        execute(sender, (int) value, input);
+        return true;
+    }
+
+    /**
+     * Serves the same functionality as {@link io.github.disbatch.command.Command#execute(CommandSender, CommandInput)}
+     * but with an additional {@code int} argument.
+     *
+     * @param sender   the {@link CommandSender} responsible for execution
+     * @param argument the parsed {@code int} argument
+     * @param input    the {@link CommandInput} used to execute the {@code IntParameterizedCommand}
+     */
+    protected abstract void execute(final S sender, final int argument, final CommandInput input);
+
+    @Override
+    protected final void execute(final S sender, final Integer argument, final CommandInput input) {
+        execute(sender, argument.intValue(), input);
+    }
+
+    /**
+     * Serves as a flexible solution for creating a new {@link IntParameterizedCommand} without defining an anonymous or
+     * explicit abstraction.
+     *
+     * @param <S> any type extending {@link CommandSender} that can safely execute any built {@link IntParameterizedCommand}.
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder<S extends CommandSender> {
+        private PrimitiveIntParameter<? super S> parameter;
+        private InvalidInputHandler<? super S> handler;
+        private IntParameterizedCommandExecutor<S> executor;
+
+        public Builder<S> parameter(final @NotNull PrimitiveIntParameter<? super S> parameter) {
+            this.parameter = parameter;
+            return this;
+        }
+
+        public Builder<S> executor(final @NotNull IntParameterizedCommandExecutor<S> executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder<S> invalidInputHandler(final @NotNull InvalidInputHandler<? super S> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        /**
+         * Creates a new {@link IntParameterizedCommand}.
+         *
+         * @return the created {@code IntParameterizedCommand}.
+         */
+        public IntParameterizedCommand<S> build() {
+            return new BuiltCommand<>(parameter, handler, executor);
+        }
+
+        private static class BuiltCommand<S extends CommandSender> extends IntParameterizedCommand<S> {
+            private final IntParameterizedCommandExecutor<S> executor;
+
+            private BuiltCommand(final PrimitiveIntParameter<? super S> parameter, final InvalidInputHandler<? super S> handler,
+                                 final IntParameterizedCommandExecutor<S> executor) {
+                super(parameter, handler);
+                this.executor = executor;
+            }
+
+            @Override
+            protected void execute(final S sender, final int argument, final CommandInput input) {
+                executor.execute(sender, argument, input);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import io.github.disbatch.command.CommandInput;
+import org.bukkit.command.CommandSender;
+
+/**
+ * Responsible for the execution of any {@link IntParameterizedCommand} created from an
+ * {@link IntParameterizedCommand.Builder}.
+ *
+ * @param <S> any type extending {@link CommandSender} that can safely perform execution.
+ * @apiNote Not to be confused with {@link org.bukkit.command.CommandExecutor}.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IntParameterizedCommandExecutor<S extends CommandSender> {
+
+    /**
+     * Executes the relative built {@link IntParameterizedCommand}.
+     *
+     * @param sender   the {@link CommandSender} responsible for execution
+     * @param argument the parsed {@code int} argument
+     * @param input    the {@link CommandInput} used to execute the built {@code IntParameterizedCommand}
+     */
+    void execute(S sender, int argument, CommandInput input);
+}
@@ -0,0 +1,109 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.InvalidInputHandler;
+import io.github.disbatch.command.parameter.NumberScanner;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A {@link ParameterizedCommand} carrying the {@code long} parsed by a {@link PrimitiveLongParameter} to its execution
+ * without boxing it, for commands executed at high rates, such as economy or statistic commands.
+ *
+ * @param <S> {@inheritDoc}
+ * @see #execute(CommandSender, long, CommandInput)
+ *
+ * @since 1.0.0
+ */
+public abstract class LongParameterizedCommand<S extends CommandSender> extends ParameterizedCommand<S, Long> {
+    private final PrimitiveLongParameter<? super S> parameter;
+
+    /**
+     * Constructs a new {@link LongParameterizedCommand}.
+     *
+     * @param parameter the {@link PrimitiveLongParameter} to use for parsing the {@code long} argument
+     * @param handler   the {@link InvalidInputHandler} to use when the input cannot be parsed
+     */
+    protected LongParameterizedCommand(final @NotNull PrimitiveLongParameter<? super S> parameter, final @NotNull InvalidInputHandler<? super S> handler) {
+        super(parameter, handler);
+        this.parameter = parameter;
+    }
+
+    @Override
+    protected final boolean parseAndExecute(final S sender, final CommandInput input) {
+        final long value = parameter.parseLong(sender, input);
+        if (value == NumberScanner.INVALID) return false;
+
+        execute(sender, value, input);
+        return true;
+    }
+
+    /**
+     * Serves the same functionality as {@link io.github.disbatch.command.Command#execute(CommandSender, CommandInput)}
+     * but with an additional {@code long} argument.
+     *
+     * @param sender   the {@link CommandSender} responsible for execution
+     * @param argument the parsed {@code long} argument
+     * @param input    the {@link CommandInput} used to execute the {@code LongParameterizedCommand}
+     */
+    protected abstract void execute(final S sender, final long argument, final CommandInput input);
+
+    @Override
+    protected final void execute(final S sender, final Long argument, final CommandInput input) {
+        execute(sender, argument.longValue(), input);
+    }
+
+    /**
+     * Serves as a flexible solution for creating a new {@link LongParameterizedCommand} without defining an anonymous or
+     * explicit abstraction.
+     *
+     * @param <S> any type extending {@link CommandSender} that can safely execute any built {@link LongParameterizedCommand}.
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder<S extends CommandSender> {
+        private PrimitiveLongParameter<? super S> parameter;
+        private InvalidInputHandler<? super S> handler;
+        private LongParameterizedCommandExecutor<S> executor;
+
+        public Builder<S> parameter(final @NotNull PrimitiveLongParameter<? super S> parameter) {
+            this.parameter = parameter;
+            return this;
+        }
+
+        public Builder<S> executor(final @NotNull LongParameterizedCommandExecutor<S> executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public Builder<S> invalidInputHandler(final @NotNull InvalidInputHandler<? super S> handler) {
+            this.handler = handler;
+            return this;
+        }
+
+        /**
+         * Creates a new {@link LongParameterizedCommand}.
+         *
+         * @return the created {@code LongParameterizedCommand}.
+         */
+        public LongParameterizedCommand<S> build() {
+            return new BuiltCommand<>(parameter, handler, executor);
+        }
+
+        private static class BuiltCommand<S extends CommandSender> extends LongParameterizedCommand<S> {
+            private final LongParameterizedCommandExecutor<S> executor;
+
+            private BuiltCommand(final PrimitiveLongParameter<? super S> parameter, final InvalidInputHandler<? super S> handler,
+                                 final LongParameterizedCommandExecutor<S> executor) {
+                super(parameter, handler);
+                this.executor = executor;
+            }
+
+            @Override
+            protected void execute(final S sender, final long argument, final CommandInput input) {
+                executor.execute(sender, argument, input);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import io.github.disbatch.command.CommandInput;
+import org.bukkit.command.CommandSender;
+
+/**
+ * Responsible for the execution of any {@link LongParameterizedCommand} created from a
+ * {@link LongParameterizedCommand.Builder}.
+ *
+ * @param <S> any type extending {@link CommandSender} that can safely perform execution.
+ * @apiNote Not to be confused with {@link org.bukkit.command.CommandExecutor}.
+ *
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface LongParameterizedCommandExecutor<S extends CommandSender> {
+
+    /**
+     * Executes the relative built {@link LongParameterizedCommand}.
+     *
+     * @param sender   the {@link CommandSender} responsible for execution
+     * @param argument the parsed {@code long} argument
+     * @param input    the {@link CommandInput} used to execute the built {@code LongParameterizedCommand}
+     */
+    void execute(S sender, long argument, CommandInput input);
+}
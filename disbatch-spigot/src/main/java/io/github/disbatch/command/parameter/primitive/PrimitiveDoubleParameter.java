@@ -0,0 +1,56 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.model.TupleParameter;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link Parameter} parsing a {@code double} that can be carried to execution without being boxed, such as by
+ * a {@link DoubleParameterizedCommand} or within a {@link TupleParameter}. Being unable to parse is signaled by
+ * {@code NaN} rather than {@code null}, which is only used when parsed as a regular {@code Parameter}.
+ *
+ * @param <S> {@inheritDoc}
+ *
+ * @since 1.0.0
+ */
+public interface PrimitiveDoubleParameter<S extends CommandSender> extends Parameter<S, Double> {
+
+    /**
+     * Creates a new {@link PrimitiveDoubleParameter} accepting any {@code double}.
+     *
+     * @return the created {@code PrimitiveDoubleParameter}.
+     */
+    static @NotNull PrimitiveDoubleParameter<CommandSender> of() {
+        return new RangedDoubleParameter(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Creates a new {@link PrimitiveDoubleParameter} accepting {@code double}s within a range.
+     *
+     * @param min the minimum value, inclusive.
+     * @param max the maximum value, inclusive.
+     * @return the created {@code PrimitiveDoubleParameter}.
+     */
+    static @NotNull PrimitiveDoubleParameter<CommandSender> of(final double min, final double max) {
+        return new RangedDoubleParameter(min, max);
+    }
+
+    /**
+     * Parses the given {@link CommandInput} into a {@code double}.
+     *
+     * @param sender the {@link CommandSender} required to parse the arguments.
+     * @param input  the {@link CommandInput} passed from a {@link io.github.disbatch.command.parameter.ParameterizedCommand}.
+     * @return the parsed {@code double}, or {@code NaN} if the input cannot be parsed.
+     */
+    double parseDouble(S sender, CommandInput input);
+
+    @Override
+    default @Nullable Double parse(final S sender, final CommandInput input) {
+        final double value = parseDouble(sender, input);
+        return Double.isNaN(value) ? null : value;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.model.TupleParameter;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link Parameter} parsing an {@code int} that can be carried to execution without being boxed, such as by
+ * an {@link IntParameterizedCommand} or within a {@link TupleParameter}. Being unable to parse is signaled by
+ * {@link NumberScanner#INVALID} rather than {@code null}, which is only used when parsed as a regular {@code Parameter}.
+ *
+ * @param <S> {@inheritDoc}
+ *
+ * @since 1.0.0
+ */
+public interface PrimitiveIntParameter<S extends CommandSender> extends Parameter<S, Integer> {
+
+    /**
+     * Creates a new {@link PrimitiveIntParameter} accepting any {@code int}.
+     *
+     * @return the created {@code PrimitiveIntParameter}.
+     */
+    static @NotNull PrimitiveIntParameter<CommandSender> of() {
+        return new RangedIntParameter(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@link PrimitiveIntParameter} accepting {@code int}s within a range.
+     *
+     * @param min the minimum value, inclusive.
+     * @param max the maximum value, inclusive.
+     * @return the created {@code PrimitiveIntParameter}.
+     */
+    static @NotNull PrimitiveIntParameter<CommandSender> of(final int min, final int max) {
+        return new RangedIntParameter(min, max);
+    }
+
+    /**
+     * Parses the given {@link CommandInput} into an {@code int}.
+     *
+     * @param sender the {@link CommandSender} required to parse the arguments.
+     * @param input  the {@link CommandInput} passed from a {@link io.github.disbatch.command.parameter.ParameterizedCommand}.
+     * @return the parsed {@code int}, or {@link NumberScanner#INVALID} if the input cannot be parsed.
+     */
+    long parseInt(S sender, CommandInput input);
+
+    @Override
+    default @Nullable Integer parse(final S sender, final CommandInput input) {
+        final long value = parseInt(sender, input);
+        return value == NumberScanner.INVALID ? null : (int) value;
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.model.TupleParameter;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A {@link Parameter} parsing a {@code long} that can be carried to execution without being boxed, such as by
+ * a {@link LongParameterizedCommand} or within a {@link TupleParameter}. Being unable to parse is signaled by
+ * {@link NumberScanner#INVALID} rather than {@code null}, which is only used when parsed as a regular {@code Parameter}.
+ *
+ * @param <S> {@inheritDoc}
+ *
+ * @since 1.0.0
+ */
+public interface PrimitiveLongParameter<S extends CommandSender> extends Parameter<S, Long> {
+
+    /**
+     * Creates a new {@link PrimitiveLongParameter} accepting any {@code long}.
+     *
+     * @return the created {@code PrimitiveLongParameter}.
+     */
+    static @NotNull PrimitiveLongParameter<CommandSender> of() {
+        return new RangedLongParameter(Long.MIN_VALUE + 1, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new {@link PrimitiveLongParameter} accepting {@code long}s within a range.
+     *
+     * @param min the minimum value, inclusive.
+     * @param max the maximum value, inclusive.
+     * @return the created {@code PrimitiveLongParameter}.
+     */
+    static @NotNull PrimitiveLongParameter<CommandSender> of(final long min, final long max) {
+        return new RangedLongParameter(min, max);
+    }
+
+    /**
+     * Parses the given {@link CommandInput} into a {@code long}.
+     *
+     * @param sender the {@link CommandSender} required to parse the arguments.
+     * @param input  the {@link CommandInput} passed from a {@link io.github.disbatch.command.parameter.ParameterizedCommand}.
+     * @return the parsed {@code long}, or {@link NumberScanner#INVALID} if the input cannot be parsed.
+     */
+    long parseLong(S sender, CommandInput input);
+
+    @Override
+    default @Nullable Long parse(final S sender, final CommandInput input) {
+        final long value = parseLong(sender, input);
+        return value == NumberScanner.INVALID ? null : value;
+    }
+}
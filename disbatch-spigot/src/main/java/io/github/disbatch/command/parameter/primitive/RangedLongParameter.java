@@ -0,0 +1,52 @@
+package io.github.disbatch.command.parameter.primitive;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.parameter.NumberScanner;
+import org.bukkit.command.CommandSender;
+
+import java.util.Collection;
+import java.util.StringJoiner;
+
+final class RangedLongParameter implements PrimitiveLongParameter<CommandSender> {
+    private final long min;
+    private final long max;
+
+    RangedLongParameter(final long min, final long max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    @Override
+    public long parseLong(final CommandSender sender, final CommandInput input) {
+        return NumberScanner.scanLong(input.getArgument(0), min, max);
+    }
+
+    @Override
+    public Collection<String> getSuggestions(final CommandSender sender, final CommandInput input) {
+        return ImmutableList.of();
+    }
+
+    @Override
+    public int getMinimumUsage() {
+        return 1;
+    }
+
+    @Override
+    public int getMaximumUsage() {
+        return 1;
+    }
+
+    @Override
+    public boolean isPure() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("min=" + min)
+                .add("max=" + max)
+                .toString();
+    }
+}
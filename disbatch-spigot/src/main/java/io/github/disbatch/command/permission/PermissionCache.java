@@ -0,0 +1,287 @@
+package io.github.disbatch.command.permission;
+
+import io.github.disbatch.command.parameter.exception.InvalidParameterException;
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.server.PluginDisableEvent;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers whether {@link Player}s have {@link PermissionNode}s, so that commands checking the same permission on
+ * every keystroke of tab completion, or a {@link io.github.disbatch.command.CommandGroup} checking the permission of
+ * each of its commands, do not resolve it through the permission plugin every time.
+ * <br>
+ * <br>
+ * The decisions of each {@code Player} are held in a bitset indexed by {@code PermissionNode}, which a
+ * {@code PermissionCache} installed through {@link #install(Plugin)} fills for every known node as soon as the
+ * {@code Player} joins or changes worlds, so that checking a node is a single bit lookup. Bukkit notifies no one of
+ * permission attachments changing, so decisions are also forgotten once their time to live has passed, and can be
+ * forgotten right away through {@link #invalidate(Player)} by whatever changes them.
+ * <br>
+ * <br>
+ * Decisions are only remembered for {@code Player}s the {@code PermissionCache} knows to be online, from
+ * {@link #precompute(Player)} until they quit, so that a check finishing after a {@code Player} quit, such as an
+ * asynchronous tab completion, leaves nothing behind. Decisions for other senders, such as the console, are never
+ * remembered.
+ *
+ * @see PermissionNode#isGrantedTo(CommandSender)
+ *
+ * @since 1.0.0
+ */
+public final class PermissionCache implements Listener {
+    private static volatile PermissionCache installed;
+
+    private final Map<UUID, Decisions> decisions = new ConcurrentHashMap<>();
+    private final long timeToLiveNanos;
+    private final LongSupplier ticker;
+    private volatile Plugin plugin;
+
+    private PermissionCache(final long timeToLiveNanos, final LongSupplier ticker) {
+        this.timeToLiveNanos = timeToLiveNanos;
+        this.ticker = ticker;
+    }
+
+    /**
+     * Installs a {@link PermissionCache} with the default time to live, kept up to date for as long as the given
+     * plugin is enabled. Installing while a {@code PermissionCache} is already installed has no effect.
+     *
+     * @param plugin the plugin to register the listener of the {@code PermissionCache} to.
+     * @return the installed {@code PermissionCache}.
+     */
+    public static @NotNull PermissionCache install(final @NotNull Plugin plugin) {
+        return install(plugin, new Builder().build());
+    }
+
+    /**
+     * Installs the given {@link PermissionCache}, kept up to date for as long as the given plugin is enabled.
+     * Installing while a {@code PermissionCache} is already installed has no effect.
+     *
+     * @param plugin the plugin to register the listener of the {@code PermissionCache} to.
+     * @param cache  the {@code PermissionCache} to be installed.
+     * @return the installed {@code PermissionCache}.
+     */
+    public static synchronized @NotNull PermissionCache install(final @NotNull Plugin plugin, final @NotNull PermissionCache cache) {
+        if (installed != null) return installed;
+
+        cache.plugin = plugin;
+        Bukkit.getPluginManager().registerEvents(cache, plugin);
+
+        for (final Player player : Bukkit.getOnlinePlayers())
+            cache.precompute(player);
+
+        return installed = cache;
+    }
+
+    /**
+     * Retrieves the {@link PermissionCache} installed through {@link #install(Plugin)}, if any.
+     *
+     * @return the installed {@code PermissionCache}, or {@code null} if none is installed.
+     */
+    public static @Nullable PermissionCache getInstalled() {
+        return installed;
+    }
+
+    /**
+     * Determines whether a {@link CommandSender} has a {@link PermissionNode}, remembering the decision for online
+     * {@link Player}s.
+     *
+     * @param sender the {@code CommandSender} in question.
+     * @param node   the {@code PermissionNode} in question.
+     * @return {@code true} if the {@code CommandSender} has the permission, otherwise {@code false}.
+     */
+    public boolean hasPermission(final @NotNull CommandSender sender, final @NotNull PermissionNode node) {
+        if (!(sender instanceof Player)) return sender.hasPermission(node.getName());
+
+        final UUID uniqueId = ((Player) sender).getUniqueId();
+        final long now = ticker.getAsLong();
+        Decisions decisions = this.decisions.get(uniqueId);
+
+        if (decisions != null && now - decisions.expiresAt >= 0) {
+            final Decisions renewed = new Decisions(new long[0], now + timeToLiveNanos);
+
+            // Only replaced while still present, so that decisions are never renewed for a Player who quit meanwhile
+            decisions = this.decisions.replace(uniqueId, decisions, renewed)
+                    ? renewed
+                    : this.decisions.get(uniqueId);
+        }
+
+        if (decisions == null) return sender.hasPermission(node.getName());
+
+        final long[] words = decisions.words;
+        final int index = node.getIndex();
+        final int word = (index >>> 6) * 2;
+        final long bit = 1L << index;
+
+        if (word < words.length && (words[word] & bit) != 0)
+            return (words[word + 1] & bit) != 0;
+
+        final boolean granted = sender.hasPermission(node.getName());
+        decisions.record(index, granted);
+        return granted;
+    }
+
+    /**
+     * Determines whether a {@link Player} has every {@link PermissionNode} created so far, and remembers the
+     * decisions, replacing any remembered ones, until the {@code Player} quits.
+     *
+     * @param player the {@code Player} in question.
+     */
+    public void precompute(final @NotNull Player player) {
+        final PermissionNode[] nodes = PermissionNode.all();
+        final long[] words = new long[(nodes.length + 63 >>> 6) * 2];
+
+        for (final PermissionNode node : nodes) {
+            final int index = node.getIndex();
+            final int word = (index >>> 6) * 2;
+            final long bit = 1L << index;
+
+            words[word] |= bit;
+            if (player.hasPermission(node.getName())) words[word + 1] |= bit;
+        }
+
+        decisions.put(player.getUniqueId(), new Decisions(words, ticker.getAsLong() + timeToLiveNanos));
+    }
+
+    /**
+     * Forgets the decisions of a {@link Player}, such as after changing their permissions.
+     *
+     * @param player the {@code Player} in question.
+     */
+    public void invalidate(final @NotNull Player player) {
+        invalidate(player.getUniqueId());
+    }
+
+    /**
+     * Forgets the decisions of a {@link Player} by their {@link UUID}.
+     *
+     * @param uniqueId the {@code UUID} of the {@code Player}.
+     */
+    public void invalidate(final @NotNull UUID uniqueId) {
+        decisions.replace(uniqueId, new Decisions(new long[0], ticker.getAsLong() + timeToLiveNanos));
+    }
+
+    /**
+     * Forgets every decision, such as after the permissions of a group have changed.
+     */
+    public void invalidateAll() {
+        final long expiresAt = ticker.getAsLong() + timeToLiveNanos;
+        decisions.replaceAll((uniqueId, current) -> new Decisions(new long[0], expiresAt));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(final PlayerJoinEvent event) {
+        precompute(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(final PlayerChangedWorldEvent event) {
+        precompute(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(final PlayerQuitEvent event) {
+        decisions.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPluginDisable(final PluginDisableEvent event) {
+        if (event.getPlugin() != plugin) return;
+
+        synchronized (PermissionCache.class) {
+            if (installed == this) installed = null;
+        }
+
+        decisions.clear();
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", getClass().getSimpleName() + "[", "]")
+                .add("timeToLiveNanos=" + timeToLiveNanos)
+                .add("players=" + decisions.size())
+                .toString();
+    }
+
+    /**
+     * The decisions of a single {@link Player}, as pairs of words telling which nodes are decided and which of those
+     * are granted. The words are replaced rather than modified, so that both words of a pair are always read from the
+     * same decisions.
+     */
+    private static final class Decisions {
+        private volatile long[] words;
+        private final long expiresAt;
+
+        private Decisions(final long[] words, final long expiresAt) {
+            this.words = words;
+            this.expiresAt = expiresAt;
+        }
+
+        private synchronized void record(final int index, final boolean granted) {
+            final int word = (index >>> 6) * 2;
+            final long bit = 1L << index;
+            final long[] words = Arrays.copyOf(this.words, Math.max(this.words.length, word + 2));
+
+            words[word] |= bit;
+            if (granted) words[word + 1] |= bit;
+
+            this.words = words;
+        }
+    }
+
+    /**
+     * Serves as a flexible solution for creating a new {@link PermissionCache}.
+     *
+     * @since 1.0.0
+     */
+    public static final class Builder {
+        private long timeToLiveNanos = TimeUnit.SECONDS.toNanos(5);
+        private LongSupplier ticker = System::nanoTime;
+
+        /**
+         * Sets how long decisions are remembered, which bounds how long a change to permissions that nothing
+         * invalidates goes unnoticed, and is five seconds by default.
+         */
+        public Builder expireAfter(final long duration, final @NotNull TimeUnit unit) {
+            timeToLiveNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Sets the source of the time in nanoseconds decisions expire by, which is {@link System#nanoTime()} by
+         * default.
+         */
+        public Builder ticker(final @NotNull LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Creates a new {@link PermissionCache}, which is only kept up to date once installed.
+         *
+         * @return the created {@code PermissionCache}.
+         * @throws InvalidParameterException if the time to live is not positive.
+         */
+        public PermissionCache build() {
+            if (timeToLiveNanos <= 0) throw new InvalidParameterException("Time to live must be greater than 0");
+
+            return new PermissionCache(timeToLiveNanos, ticker);
+        }
+    }
+}
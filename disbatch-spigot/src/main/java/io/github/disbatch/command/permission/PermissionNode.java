@@ -0,0 +1,87 @@
+package io.github.disbatch.command.permission;
+
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A permission node checked by commands, such as {@link io.github.disbatch.command.decorator.PermissibleCommand}.
+ * Every distinct node is represented by a single {@code PermissionNode}, numbered in order of creation, so that a
+ * {@link PermissionCache} can hold the decisions of a sender for every node in a bitset.
+ *
+ * @since 1.0.0
+ */
+public final class PermissionNode {
+    private static final Map<String, PermissionNode> NODES = new ConcurrentHashMap<>();
+    private static volatile PermissionNode[] all = new PermissionNode[0];
+
+    private final String name;
+    private final int index;
+
+    private PermissionNode(final String name, final int index) {
+        this.name = name;
+        this.index = index;
+    }
+
+    /**
+     * Retrieves the {@link PermissionNode} of a name, creating it upon first use.
+     *
+     * @param name the name of the permission node.
+     * @return the {@code PermissionNode}.
+     */
+    public static @NotNull PermissionNode of(final @NotNull String name) {
+        final PermissionNode node = NODES.get(name);
+        return node != null ? node : create(name);
+    }
+
+    private static synchronized PermissionNode create(final String name) {
+        return NODES.computeIfAbsent(name, key -> {
+            final PermissionNode[] all = Arrays.copyOf(PermissionNode.all, PermissionNode.all.length + 1);
+            final PermissionNode node = all[all.length - 1] = new PermissionNode(key, all.length - 1);
+
+            PermissionNode.all = all;
+            return node;
+        });
+    }
+
+    /**
+     * Retrieves every {@link PermissionNode} created so far, in order of creation.
+     */
+    static PermissionNode[] all() {
+        return all;
+    }
+
+    /**
+     * Determines whether a {@link CommandSender} has the permission, through the installed {@link PermissionCache},
+     * if any, or otherwise {@link CommandSender#hasPermission(String)}.
+     *
+     * @param sender the {@code CommandSender} in question.
+     * @return {@code true} if the {@code CommandSender} has the permission, otherwise {@code false}.
+     * @see PermissionCache#install(org.bukkit.plugin.Plugin)
+     */
+    public boolean isGrantedTo(final @NotNull CommandSender sender) {
+        final PermissionCache cache = PermissionCache.getInstalled();
+        return cache != null ? cache.hasPermission(sender, this) : sender.hasPermission(name);
+    }
+
+    /**
+     * Retrieves the name of the permission node.
+     *
+     * @return the name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.parameter.exception.InvalidParameterException;
+import io.github.disbatch.command.parameter.model.ArrayParameter;
+import io.github.disbatch.command.parameter.model.IntegerParameter;
+import io.github.disbatch.command.parameter.model.StringParameter;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ArrayParameterTest extends EasyMockSupport {
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+    }
+
+    @Test
+    public void testElementsSplitIntoFixedWidths() {
+        final ArrayParameter<CommandSender, String> parameter = new ArrayParameter<>(new StringParameter(2), String[]::new);
+
+        assertArrayEquals(new String[] {"a b", "c d", "e f"}, parameter.parse(senderMock, new DummyCommandLine("a b c d e f")));
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("a b c")));
+    }
+
+    @Test
+    public void testUnboundedArrayIsSizedToElements() {
+        final ArrayParameter<CommandSender, Integer> parameter = new ArrayParameter<>(new IntegerParameter(), Integer[]::new);
+        final Integer[] result = parameter.parse(senderMock, new DummyCommandLine("4 8 15 16 23 42"));
+
+        assertArrayEquals(new Integer[] {4, 8, 15, 16, 23, 42}, result);
+        assertEquals(Integer.MAX_VALUE, parameter.getMaximumUsage());
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("4 8 fifteen 16")));
+    }
+
+    @Test
+    public void testElementBoundsAreEnforced() {
+        final ArrayParameter<CommandSender, Integer> parameter = new ArrayParameter<>(new IntegerParameter(), Integer[]::new, 2, 3);
+
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("1")));
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("1 2 3 4")));
+        assertEquals(3, parameter.parse(senderMock, new DummyCommandLine("1 2 3")).length);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testEmptyArraysAreRejected() {
+        new ArrayParameter<>(new IntegerParameter(), Integer[]::new, 0, 3);
+    }
+}
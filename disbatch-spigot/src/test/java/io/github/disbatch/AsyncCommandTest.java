@@ -0,0 +1,73 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.async.AsyncParameterizedCommand;
+import io.github.disbatch.command.async.AsyncScheduler;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.ParameterUsages;
+import io.github.disbatch.command.parameter.model.IntegerParameter;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+public class AsyncCommandTest extends EasyMockSupport {
+    private ExecutorService asyncExecutor;
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        asyncExecutor = Executors.newSingleThreadExecutor();
+        senderMock = createMock(CommandSender.class);
+    }
+
+    @After
+    public void teardown() {
+        asyncExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testParsingStaysOnCallingThread() throws Exception {
+        final AtomicReference<Thread> parsingThread = new AtomicReference<>();
+        final AtomicReference<Thread> executionThread = new AtomicReference<>();
+        final CompletableFuture<Integer> executed = new CompletableFuture<>();
+        final IntegerParameter integerParameter = new IntegerParameter();
+
+        final Parameter<CommandSender, Integer> parameter = new Parameter.Builder<CommandSender, Integer>()
+                .parser((sender, input) -> {
+                    parsingThread.set(Thread.currentThread());
+                    return integerParameter.parse(sender, input);
+                })
+                .maximumUsage(1)
+                .build();
+
+        final AsyncParameterizedCommand<CommandSender, Integer> command = new AsyncParameterizedCommand<CommandSender, Integer>(
+                parameter, ParameterUsages.withChevrons("Usage: %usage", "number"), AsyncScheduler.of(asyncExecutor, Runnable::run)) {
+            @Override
+            protected CompletionStage<?> executeAsync(final CommandSender sender, final Integer argument, final CommandInput input) {
+                executionThread.set(Thread.currentThread());
+                executed.complete(argument);
+                return CompletableFuture.completedFuture(null);
+            }
+        };
+
+        command.execute(senderMock, new DummyCommandLine("42"));
+
+        assertEquals(Integer.valueOf(42), executed.get(5, TimeUnit.SECONDS));
+        assertSame(Thread.currentThread(), parsingThread.get());
+        assertNotSame(Thread.currentThread(), executionThread.get());
+    }
+}
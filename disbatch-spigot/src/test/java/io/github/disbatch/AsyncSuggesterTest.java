@@ -0,0 +1,106 @@
+package io.github.disbatch;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.parameter.Suggester;
+import io.github.disbatch.command.parameter.Suggesters;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class AsyncSuggesterTest extends EasyMockSupport {
+    private static final ImmutableList<String> WARPS = ImmutableList.of("arena", "arctic", "spawn");
+
+    private final AtomicReference<CompletableFuture<Collection<String>>> pending = new AtomicReference<>();
+    private ExecutorService tabThread;
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        tabThread = Executors.newSingleThreadExecutor();
+        senderMock = createMock(CommandSender.class);
+    }
+
+    @After
+    public void teardown() {
+        tabThread.shutdownNow();
+    }
+
+    @Test
+    public void testCompletedSuggestionsBeforeDeadline() {
+        final Suggester<CommandSender> suggester = Suggesters.withDeadline((sender, input)
+                -> CompletableFuture.completedFuture(WARPS), 50, TimeUnit.MILLISECONDS);
+
+        assertEquals(WARPS, suggester.getSuggestions(senderMock, new DummyCommandLine("a")));
+    }
+
+    @Test
+    public void testCachedSuggestionsAfterDeadline() {
+        final Suggester<CommandSender> suggester = Suggesters.withDeadline((sender, input) -> {
+            final CompletableFuture<Collection<String>> future = new CompletableFuture<>();
+            pending.set(future);
+            return future;
+        }, 10, TimeUnit.MILLISECONDS);
+
+        assertEquals(ImmutableList.of(), suggester.getSuggestions(senderMock, new DummyCommandLine("a")));
+
+        pending.get().complete(WARPS);
+
+        assertEquals(ImmutableList.of("arena", "arctic"), suggester.getSuggestions(senderMock, new DummyCommandLine("ar")));
+    }
+
+    @Test
+    public void testNewerRequestCancelsOlder() throws Exception {
+        final Suggester<CommandSender> suggester = Suggesters.withDeadline((sender, input) -> {
+            final CompletableFuture<Collection<String>> future = new CompletableFuture<>();
+            pending.set(future);
+            return future;
+        }, 5, TimeUnit.SECONDS);
+
+        final Future<Collection<String>> older = tabThread.submit(() -> suggester.getSuggestions(senderMock, new DummyCommandLine("a")));
+
+        while (pending.get() == null)
+            Thread.yield();
+
+        final CompletableFuture<Collection<String>> olderFuture = pending.get();
+        final Thread newer = new Thread(() -> suggester.getSuggestions(senderMock, new DummyCommandLine("ar")));
+        newer.start();
+
+        assertEquals(ImmutableList.of(), older.get(1, TimeUnit.SECONDS));
+        assertTrue(olderFuture.isCancelled());
+
+        pending.get().complete(WARPS);
+        newer.join();
+    }
+
+    @Test
+    public void testTimedOutRequestIsCancelledByNewerRequest() {
+        final Suggester<CommandSender> suggester = Suggesters.withDeadline((sender, input) -> {
+            final CompletableFuture<Collection<String>> future = new CompletableFuture<>();
+            pending.set(future);
+            return future;
+        }, 10, TimeUnit.MILLISECONDS);
+
+        assertEquals(ImmutableList.of(), suggester.getSuggestions(senderMock, new DummyCommandLine("a")));
+        final CompletableFuture<Collection<String>> olderFuture = pending.get();
+
+        assertEquals(ImmutableList.of(), suggester.getSuggestions(senderMock, new DummyCommandLine("ar")));
+        assertTrue(olderFuture.isCancelled());
+
+        pending.get().complete(WARPS);
+        assertEquals(ImmutableList.of("arctic"), suggester.getSuggestions(senderMock, new DummyCommandLine("arc")));
+    }
+}
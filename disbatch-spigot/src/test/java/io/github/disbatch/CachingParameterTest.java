@@ -0,0 +1,78 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.decorator.CachingParameter;
+import io.github.disbatch.command.parameter.exception.InvalidParameterException;
+import io.github.disbatch.command.parameter.model.IntegerParameter;
+import io.github.disbatch.command.parameter.model.PlayerFromNameParameter;
+import io.github.disbatch.command.parameter.model.VectorParameter;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CachingParameterTest extends EasyMockSupport {
+    private final AtomicInteger parseCount = new AtomicInteger();
+    private CachingParameter<CommandSender, Integer> parameter;
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        final IntegerParameter integerParameter = new IntegerParameter();
+
+        parameter = new CachingParameter<>(new Parameter.Builder<CommandSender, Integer>()
+                .parser((sender, input) -> {
+                    parseCount.incrementAndGet();
+                    return integerParameter.parse(sender, input);
+                })
+                .maximumUsage(1)
+                .pure(true)
+                .build(), 2);
+
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+    }
+
+    @Test
+    public void testRepeatedArgumentsAreParsedOnce() {
+        for (int i = 0; i < 3; i++) {
+            assertEquals(Integer.valueOf(42), parameter.parse(senderMock, new DummyCommandLine("42")));
+            assertNull(parameter.parse(senderMock, new DummyCommandLine("forty-two")));
+        }
+
+        assertEquals(2, parseCount.get());
+        assertTrue(parameter.invalidate("42"));
+        assertEquals(Integer.valueOf(42), parameter.parse(senderMock, new DummyCommandLine("42")));
+        assertEquals(3, parseCount.get());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedResultIsForgotten() {
+        parameter.parse(senderMock, new DummyCommandLine("1"));
+        parameter.parse(senderMock, new DummyCommandLine("2"));
+        parameter.parse(senderMock, new DummyCommandLine("1"));
+        parameter.parse(senderMock, new DummyCommandLine("3"));
+
+        assertEquals(2, parameter.size());
+        assertFalse(parameter.invalidate("2"));
+        assertTrue(parameter.invalidate("1"));
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testImpureParameterIsRejected() {
+        new CachingParameter<>(new PlayerFromNameParameter(), 16);
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testModifiableResultsAreRejected() {
+        new CachingParameter<>(new VectorParameter(), 16);
+    }
+}
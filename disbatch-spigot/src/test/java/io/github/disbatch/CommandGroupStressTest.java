@@ -0,0 +1,158 @@
+package io.github.disbatch;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.CommandGroup;
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.descriptor.CommandDescriptor;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Swaps the commands of a {@link CommandGroup} while other threads dispatch to it, checking that no dispatch ever
+ * observes a partially applied change and that no concurrent change is lost.
+ */
+public class CommandGroupStressTest extends EasyMockSupport {
+    private static final int THREADS = 4;
+    private static final int ITERATIONS = 2000;
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicInteger invalidInputs = new AtomicInteger();
+    private CommandGroup<CommandSender> group;
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+
+        group = new CommandGroup<>((sender, input) -> invalidInputs.incrementAndGet());
+    }
+
+    private Command<CommandSender> countingCommand() {
+        return new Command<CommandSender>() {
+            @Override
+            public void execute(final CommandSender sender, final @NotNull CommandInput input) {
+                executions.incrementAndGet();
+            }
+
+            @Override
+            public List<String> tabComplete(final CommandSender sender, final @NotNull CommandInput input) {
+                return ImmutableList.of();
+            }
+        };
+    }
+
+    private static void runConcurrently(final List<Runnable> tasks) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (final Runnable task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+
+            start.countDown();
+
+            for (final Future<?> future : futures)
+                future.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testConcurrentLinkingLosesNoCommand() throws Exception {
+        final List<Runnable> writers = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            final int writer = thread;
+
+            writers.add(() -> {
+                for (int i = 0; i < ITERATIONS / 10; i++)
+                    group.withCommand(countingCommand(), new CommandDescriptor.Builder()
+                            .label("cmd-" + writer + "-" + i)
+                            .aliases("alias-" + writer + "-" + i)
+                            .build());
+            });
+        }
+
+        runConcurrently(writers);
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            for (int i = 0; i < ITERATIONS / 10; i++) {
+                group.execute(senderMock, new DummyCommandLine("cmd-" + thread + "-" + i));
+                group.execute(senderMock, new DummyCommandLine("alias-" + thread + "-" + i));
+            }
+        }
+
+        assertEquals(0, invalidInputs.get());
+        assertEquals(THREADS * ITERATIONS / 5, executions.get());
+    }
+
+    @Test
+    public void testDispatchIsUnaffectedBySwapping() throws Exception {
+        final AtomicBoolean swapping = new AtomicBoolean(true);
+        final AtomicInteger dispatches = new AtomicInteger();
+        final AtomicInteger incompleteSuggestions = new AtomicInteger();
+        final List<Runnable> tasks = new ArrayList<>();
+
+        group.withCommand(countingCommand(), "stable");
+
+        tasks.add(() -> {
+            for (int i = 0; i < ITERATIONS; i++) {
+                group.withCommand(countingCommand(), new CommandDescriptor.Builder()
+                        .label("swapped")
+                        .aliases("swapped-" + i, "stable-" + i)
+                        .build());
+                group.withoutCommand("swapped-" + i);
+            }
+
+            swapping.set(false);
+        });
+
+        for (int thread = 1; thread < THREADS; thread++) {
+            tasks.add(() -> {
+                do {
+                    group.execute(senderMock, new DummyCommandLine("stable"));
+                    dispatches.incrementAndGet();
+
+                    if (!group.tabComplete(senderMock, new DummyCommandLine("stabl")).contains("stable"))
+                        incompleteSuggestions.incrementAndGet();
+                } while (swapping.get());
+            });
+        }
+
+        runConcurrently(tasks);
+
+        assertEquals(0, invalidInputs.get());
+        assertEquals(0, incompleteSuggestions.get());
+        assertEquals(dispatches.get(), executions.get());
+
+        assertEquals(ImmutableList.of("stable"), group.tabComplete(senderMock, new DummyCommandLine("s")));
+        group.execute(senderMock, new DummyCommandLine("swapped"));
+        assertTrue(invalidInputs.get() > 0);
+    }
+}
@@ -5,6 +5,7 @@ import io.github.disbatch.command.Command;
 import io.github.disbatch.command.CommandGroup;
 import io.github.disbatch.command.CommandInput;
 import io.github.disbatch.command.CommandInputs;
+import io.github.disbatch.command.TokenizedCommandInput;
 import io.github.disbatch.command.parameter.ParameterUsage;
 import io.github.disbatch.mock.DummyCommandLine;
 import org.bukkit.command.CommandSender;
@@ -62,6 +63,6 @@ public class CommandGroupTest extends EasyMockSupport {
 
     @Test
     public void testGroupedCommandInput() {
-        cmdGroup.execute(senderMock, new SingleLabelCommandInput("cmd"));
+        cmdGroup.execute(senderMock, TokenizedCommandInput.of("cmd"));
     }
 }
@@ -0,0 +1,98 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.CommandGroup;
+import io.github.disbatch.command.descriptor.CommandDescriptor;
+import io.github.disbatch.command.instrument.CommandMetrics;
+import io.github.disbatch.command.instrument.CommandStats;
+import io.github.disbatch.command.instrument.LatencyHistogram;
+import io.github.disbatch.command.parameter.InvalidInput;
+import io.github.disbatch.command.parameter.ParameterUsages;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
+import io.github.disbatch.command.parameter.model.IntegerParameter;
+import io.github.disbatch.mock.CommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CommandMetricsTest extends EasyMockSupport {
+    private final CommandMetrics metrics = CommandMetrics.global();
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        metrics.reset();
+        metrics.setEnabled(true);
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+    }
+
+    @After
+    public void teardown() {
+        metrics.setEnabled(false);
+    }
+
+    @Test
+    public void testSubcommandPathsAreRecorded() {
+        final CommandGroup<CommandSender> group = new CommandGroup<CommandSender>(ParameterUsages.withChevrons("Usage: %usage", "set"))
+                .withCommand(new ParameterizedCommand.Builder<CommandSender, Integer>()
+                        .parameter(new IntegerParameter())
+                        .invalidInputHandler((sender, input) -> {})
+                        .executor((sender, argument, input) -> {})
+                        .build(), new CommandDescriptor.Builder().label("set").aliases("s").build());
+        final TypedCommandProxy proxy = new TypedCommandProxy(group, new CommandDescriptor.Builder().label("metrics").aliases("m").build());
+
+        proxy.execute(senderMock, new CommandLine("metrics SET 4"));
+        proxy.execute(senderMock, new CommandLine("m s four"));
+        proxy.execute(senderMock, new CommandLine("M set"));
+
+        final CommandStats root = metrics.find("metrics");
+        final CommandStats set = metrics.find("metrics set");
+
+        assertNotNull(root);
+        assertNotNull(set);
+        assertNull(metrics.find("m"));
+        assertNull(metrics.find("m s"));
+        assertEquals(3, root.getExecutionLatency().snapshot().getCount());
+        assertEquals(3, set.getExecutionLatency().snapshot().getCount());
+        assertEquals(1, set.getParseFailures(InvalidInput.Reason.INSUFFICIENT_ARGUMENTS));
+        assertEquals(1, set.getParseFailures(InvalidInput.Reason.LACKING_ARGUMENTS));
+        assertEquals(0, root.getParseFailures(InvalidInput.Reason.LACKING_ARGUMENTS));
+    }
+
+    @Test
+    public void testNothingIsRecordedWhileDisabled() {
+        metrics.setEnabled(false);
+        new TypedCommandProxy((sender, input) -> {}, CommandSender.class, new CommandDescriptor.Builder().label("disabled").build())
+                .execute(senderMock, new CommandLine("disabled"));
+
+        assertNull(metrics.find("disabled"));
+    }
+
+    @Test
+    public void testHistogramQuantiles() throws Exception {
+        for (int i = 0; i < 99; i++)
+            metrics.recordExecution("quantiles", TimeUnit.MICROSECONDS.toNanos(20));
+
+        metrics.recordExecution("quantiles", TimeUnit.MILLISECONDS.toNanos(40));
+
+        final LatencyHistogram.Snapshot snapshot = metrics.find("quantiles").getExecutionLatency().snapshot();
+        final StringWriter writer = new StringWriter();
+        metrics.writePrometheus(writer);
+
+        assertEquals(100, snapshot.getCount());
+        assertEquals(25, snapshot.getQuantile(0.5, TimeUnit.MICROSECONDS));
+        assertEquals(40, snapshot.getQuantile(1, TimeUnit.MILLISECONDS));
+        assertTrue(writer.toString().contains("disbatch_command_execution_seconds_bucket{command=\"quantiles\",le=\"2.5E-5\"} 99\n"));
+        assertTrue(writer.toString().contains("disbatch_command_execution_seconds_count{command=\"quantiles\"} 100\n"));
+    }
+}
@@ -0,0 +1,120 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.descriptor.CommandDescriptor;
+import io.github.disbatch.command.instrument.CommandWatchdog;
+import io.github.disbatch.mock.CommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class CommandWatchdogTest extends EasyMockSupport {
+    private final CommandWatchdog watchdog = CommandWatchdog.global();
+    private final List<String> reports = new CopyOnWriteArrayList<>();
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        final Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(final LogRecord record) {
+                reports.add(record.getMessage());
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+
+        watchdog.setLogger(logger);
+        watchdog.setBudgetMillis(20);
+        watchdog.setEnabled(true);
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+    }
+
+    @After
+    public void teardown() {
+        watchdog.setEnabled(false);
+        watchdog.setBudgetMillis(50);
+    }
+
+    @Test
+    public void testSlowCommandIsReported() {
+        final Command<CommandSender> slowCommand = new Command.Builder<CommandSender>()
+                .executor((sender, input) -> sleep(200))
+                .build();
+
+        new TypedCommandProxy(slowCommand, new CommandDescriptor.Builder().label("slow").build()).execute(senderMock, new CommandLine("slow 12 home 1.5"));
+
+        assertEquals(1, reports.size());
+        assertTrue(reports.get(0), reports.get(0).startsWith("Command /slow execution took "));
+        assertTrue(reports.get(0), reports.get(0).contains(" with arguments [int:2, word:4, decimal:3]"));
+        assertTrue(reports.get(0), reports.get(0).contains("CommandWatchdogTest.sleep"));
+    }
+
+    @Test
+    public void testFastCommandIsNotReported() {
+        final Command<CommandSender> fastCommand = new Command.Builder<CommandSender>()
+                .executor((sender, input) -> {})
+                .build();
+
+        new TypedCommandProxy(fastCommand, new CommandDescriptor.Builder().label("fast").build()).execute(senderMock, new CommandLine("fast"));
+
+        assertTrue(reports.isEmpty());
+    }
+
+    @Test
+    public void testDisablingStopsSampler() throws InterruptedException {
+        final Command<CommandSender> command = new Command.Builder<CommandSender>()
+                .executor((sender, input) -> {})
+                .build();
+
+        new TypedCommandProxy(command, new CommandDescriptor.Builder().label("fast").build()).execute(senderMock, new CommandLine("fast"));
+        final Thread sampler = findSampler();
+        assertNotNull(sampler);
+
+        watchdog.setEnabled(false);
+        sampler.join(1000);
+        assertFalse(sampler.isAlive());
+
+        new TypedCommandProxy(command, new CommandDescriptor.Builder().label("fast").build()).execute(senderMock, new CommandLine("fast"));
+        assertNull(findSampler());
+    }
+
+    private static Thread findSampler() {
+        for (final Thread thread : Thread.getAllStackTraces().keySet())
+            if (thread.getName().equals("Disbatch Command Watchdog") && thread.isAlive())
+                return thread;
+
+        return null;
+    }
+
+    private static void sleep(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.parameter.model.enumeration.EnumConverters;
+import io.github.disbatch.command.parameter.model.enumeration.EnumParameter;
+import io.github.disbatch.command.parameter.model.enumeration.IndexedEnumRepository;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class IndexedEnumRepositoryTest extends EasyMockSupport {
+    private CommandSender senderMock;
+
+    private enum Rank {
+        GUEST, MEMBER, member, Moderator, ADMIN_2
+    }
+
+    @Before
+    public void setup() {
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+    }
+
+    @Test
+    public void testRepositoryIsSharedPerType() {
+        final IndexedEnumRepository<Rank> repository = IndexedEnumRepository.of(Rank.class);
+
+        assertSame(repository, IndexedEnumRepository.of(Rank.class));
+        assertSame(repository.getNames(), IndexedEnumRepository.of(Rank.class).getNames());
+    }
+
+    @Test
+    public void testCaseFoldedLookups() {
+        final IndexedEnumRepository<Rank> repository = IndexedEnumRepository.of(Rank.class);
+
+        assertSame(Rank.GUEST, repository.get("GUEST"));
+        assertNull(repository.get("guest"));
+        assertSame(Rank.Moderator, repository.getIgnoreCase("MODERATOR"));
+        assertSame(Rank.MEMBER, repository.getUpperCased("Member"));
+        assertSame(Rank.member, repository.getLowerCased("Member"));
+        assertSame(Rank.ADMIN_2, repository.getUpperCased("admin_2"));
+        assertNull(repository.getLowerCased("admin_2"));
+        assertNull(repository.getUpperCased("moderator"));
+        assertNull(repository.getIgnoreCase("MODERATORS"));
+    }
+
+    @Test
+    public void testConvertersMatchPreviousSemantics() {
+        final EnumParameter<CommandSender, Rank> upper = new EnumParameter<>(Rank.class, EnumConverters.upperCaseInsensitive());
+        final EnumParameter<CommandSender, Rank> lower = new EnumParameter<>(Rank.class, EnumConverters.lowerCaseInsensitive());
+
+        assertEquals(Rank.GUEST, upper.parse(senderMock, new DummyCommandLine("gUeSt")));
+        assertEquals(Rank.member, lower.parse(senderMock, new DummyCommandLine("MEMBER")));
+        assertNull(lower.parse(senderMock, new DummyCommandLine("guest")));
+    }
+}
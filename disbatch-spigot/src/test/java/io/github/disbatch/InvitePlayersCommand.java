@@ -9,7 +9,7 @@ import org.bukkit.entity.Player;
 
 public class InvitePlayersCommand extends ParameterizedCommand<Player, Player[]> {
     public InvitePlayersCommand() {
-        super(new ArrayParameter<>(new PlayerFromNameParameter(), 1, 4),
+        super(new ArrayParameter<>(new PlayerFromNameParameter(), Player[]::new, 1, 4),
                 new ParameterUsage.Builder()
                         .baseMessage("Usage: %usage")
                         .usageLabels("players")
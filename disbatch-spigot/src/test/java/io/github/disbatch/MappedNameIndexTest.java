@@ -0,0 +1,135 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.parameter.SuggestionBuffer;
+import io.github.disbatch.command.parameter.model.player.MappedNameIndex;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class MappedNameIndexTest {
+    private Path directory;
+    private Path file;
+
+    @Before
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("names");
+        file = directory.resolve("names.idx");
+    }
+
+    @After
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private static UUID uniqueIdOf(final int player) {
+        return new UUID(0x4000L | (long) player << 16, 0x8000000000000000L | player);
+    }
+
+    @Test
+    public void testLookupsSurviveCompactionAndReopening() throws IOException {
+        try (MappedNameIndex index = MappedNameIndex.open(file)) {
+            for (int i = 0; i < 1000; i++)
+                index.record("Player_" + i, uniqueIdOf(i));
+
+            index.compact();
+
+            assertTrue(index.record("Notch", uniqueIdOf(1000)));
+            assertFalse(index.record("Notch", uniqueIdOf(1000)));
+        }
+
+        try (MappedNameIndex index = MappedNameIndex.open(file)) {
+            assertEquals(uniqueIdOf(500), index.getUniqueId("player_500"));
+            assertEquals(uniqueIdOf(1000), index.getUniqueId("NOTCH"));
+            assertEquals("Player_999", index.getName(uniqueIdOf(999)));
+            assertNull(index.getUniqueId("Player_1000"));
+            assertNull(index.getUniqueId("not a name"));
+
+            index.compact();
+
+            assertEquals("Notch", index.getName(uniqueIdOf(1000)));
+            assertEquals(uniqueIdOf(0), index.getUniqueId("Player_0"));
+        }
+    }
+
+    @Test
+    public void testCompactionWritesNextGeneration() throws IOException {
+        final Path first = directory.resolve("names.idx.1");
+        final Path second = directory.resolve("names.idx.2");
+
+        try (MappedNameIndex index = MappedNameIndex.open(file)) {
+            index.record("Dinnerbone", uniqueIdOf(1));
+            index.compact();
+
+            assertTrue(Files.exists(first));
+
+            index.record("Grumm", uniqueIdOf(2));
+            index.compact();
+
+            assertTrue(Files.exists(second));
+            assertEquals(uniqueIdOf(1), index.getUniqueId("dinnerbone"));
+        }
+
+        try (MappedNameIndex index = MappedNameIndex.open(file)) {
+            assertFalse(Files.exists(first));
+            assertFalse(Files.exists(file));
+            assertEquals("Grumm", index.getName(uniqueIdOf(2)));
+        }
+    }
+
+    @Test
+    public void testRenamedPlayersKeepTheirPastNames() throws IOException {
+        try (MappedNameIndex index = MappedNameIndex.open(file)) {
+            index.record("jeb_", uniqueIdOf(1));
+            index.compact();
+            index.record("Jens", uniqueIdOf(1));
+
+            assertEquals("Jens", index.getName(uniqueIdOf(1)));
+            assertEquals(uniqueIdOf(1), index.getUniqueId("jeb_"));
+
+            index.compact();
+
+            assertEquals("Jens", index.getName(uniqueIdOf(1)));
+            assertEquals(uniqueIdOf(1), index.getUniqueId("jeb_"));
+            assertEquals(uniqueIdOf(1), index.getUniqueId("jens"));
+        }
+    }
+
+    @Test
+    public void testSuggestionsOnlyIncludeMatchingNames() throws IOException {
+        try (MappedNameIndex index = MappedNameIndex.open(file)) {
+            for (int i = 0; i < 200; i++)
+                index.record("Player_" + i, uniqueIdOf(i));
+
+            index.compact();
+            index.record("player_1x", uniqueIdOf(200));
+            index.record("Plain", uniqueIdOf(201));
+
+            final SuggestionBuffer buffer = SuggestionBuffer.acquire(5);
+
+            try {
+                index.suggest("PLAYER_1", buffer);
+            } finally {
+                buffer.release();
+            }
+
+            final List<String> expected = Arrays.asList("Player_1", "Player_10", "Player_100", "Player_101", "Player_102");
+            assertEquals(expected, buffer.asList());
+        }
+    }
+}
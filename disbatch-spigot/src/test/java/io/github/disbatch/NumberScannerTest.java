@@ -0,0 +1,45 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.parameter.NumberScanner;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class NumberScannerTest {
+
+    @Test
+    public void testWholeNumbers() {
+        assertEquals(-2048, NumberScanner.scanInt("-2048"));
+        assertEquals(Integer.MAX_VALUE, NumberScanner.scanInt("2147483647"));
+        assertEquals(NumberScanner.INVALID, NumberScanner.scanInt("2147483648"));
+        assertEquals(Long.MAX_VALUE, NumberScanner.scanLong("9223372036854775807"));
+        assertEquals(NumberScanner.INVALID, NumberScanner.scanLong("9223372036854775808"));
+        assertEquals(NumberScanner.INVALID, NumberScanner.scanInt("12", 0, 10));
+
+        for (final String invalid : new String[] {"", "-", "+1", "1.0", "1e3", "0x10", " 1"})
+            assertEquals(invalid, NumberScanner.INVALID, NumberScanner.scanLong(invalid));
+    }
+
+    @Test
+    public void testDecimalsMatchJdkParsing() {
+        final Random random = new Random(42);
+
+        for (int i = 0; i < 100_000; i++) {
+            final String argument = random.nextInt(20) - 10 + "." + Math.abs(random.nextLong() % 1_000_000_000_000L);
+
+            assertEquals(argument, Double.parseDouble(argument), NumberScanner.scanDouble(argument), 0);
+            assertEquals(argument, Float.parseFloat(argument), NumberScanner.scanFloat(argument), 0);
+        }
+
+        assertEquals(123456789012345678901234.5, NumberScanner.scanDouble("123456789012345678901234.5"), 0);
+        assertEquals(0.1, NumberScanner.scanDouble("0.10000000000000000000000000001"), 0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(NumberScanner.scanDouble("-0")));
+        assertTrue(Double.isNaN(NumberScanner.scanDouble("64", -64, 63)));
+
+        for (final String invalid : new String[] {"", "-", ".5", "5.", "1.2.3", "1e3", "NaN", "Infinity"})
+            assertTrue(invalid, Double.isNaN(NumberScanner.scanDouble(invalid)));
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.parameter.model.IntegerParameter;
+import io.github.disbatch.command.parameter.model.PairedArgument;
+import io.github.disbatch.command.parameter.model.PairedParameter;
+import io.github.disbatch.command.parameter.model.StringParameter;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class PairedParameterTest extends EasyMockSupport {
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+    }
+
+    @Test
+    public void testEachSideParsesOwnArguments() {
+        final PairedParameter<CommandSender, String, Integer> parameter = new PairedParameter<>(new StringParameter(2), new IntegerParameter());
+        final PairedArgument<String, Integer> result = parameter.parse(senderMock, new DummyCommandLine("hello there 7"));
+
+        assertEquals("hello there", result.getFirst());
+        assertEquals(Integer.valueOf(7), result.getLast());
+    }
+}
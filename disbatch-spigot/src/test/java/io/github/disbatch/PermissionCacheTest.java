@@ -0,0 +1,129 @@
+package io.github.disbatch;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.CommandGroup;
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.decorator.PermissibleCommand;
+import io.github.disbatch.command.decorator.RateLimitedCommand;
+import io.github.disbatch.command.parameter.ParameterUsage;
+import io.github.disbatch.command.permission.PermissionCache;
+import io.github.disbatch.command.permission.PermissionNode;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.easymock.EasyMockSupport;
+import org.jetbrains.annotations.NotNull;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PermissionCacheTest extends EasyMockSupport {
+    private static final PermissionNode BAN = PermissionNode.of("disbatch.ban");
+    private static final PermissionNode KICK = PermissionNode.of("disbatch.kick");
+
+    private final AtomicInteger checks = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+    private Player playerMock;
+
+    @Before
+    public void setup() {
+        playerMock = createMock(Player.class);
+
+        expect(playerMock.getUniqueId()).andReturn(UUID.randomUUID()).anyTimes();
+        expect(playerMock.hasPermission(BAN.getName())).andAnswer(() -> checks.incrementAndGet() > 0).anyTimes();
+        expect(playerMock.hasPermission(KICK.getName())).andAnswer(() -> checks.incrementAndGet() < 0).anyTimes();
+
+        replayAll();
+    }
+
+    @Test
+    public void testDecisionsAreRememberedUntilInvalidated() {
+        final PermissionCache cache = new PermissionCache.Builder()
+                .expireAfter(1, TimeUnit.SECONDS)
+                .ticker(time::get)
+                .build();
+
+        cache.precompute(playerMock);
+        cache.invalidate(playerMock);
+        checks.set(0);
+
+        assertTrue(cache.hasPermission(playerMock, BAN));
+        assertFalse(cache.hasPermission(playerMock, KICK));
+        assertTrue(cache.hasPermission(playerMock, BAN));
+        assertFalse(cache.hasPermission(playerMock, KICK));
+        assertEquals(2, checks.get());
+
+        cache.invalidate(playerMock);
+        assertTrue(cache.hasPermission(playerMock, BAN));
+        assertEquals(3, checks.get());
+
+        time.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertTrue(cache.hasPermission(playerMock, BAN));
+        assertEquals(4, checks.get());
+    }
+
+    @Test
+    public void testPrecomputedDecisionsNeedNoFurtherChecks() {
+        final PermissionCache cache = new PermissionCache.Builder().ticker(time::get).build();
+
+        cache.precompute(playerMock);
+        final int precomputed = checks.get();
+
+        assertTrue(cache.hasPermission(playerMock, BAN));
+        assertFalse(cache.hasPermission(playerMock, KICK));
+        assertEquals(precomputed, checks.get());
+    }
+
+    @Test
+    public void testDecisionsAreNotRememberedAfterQuitting() {
+        final PermissionCache cache = new PermissionCache.Builder().ticker(time::get).build();
+
+        cache.precompute(playerMock);
+        cache.onPlayerQuit(new PlayerQuitEvent(playerMock, null));
+        checks.set(0);
+
+        assertTrue(cache.hasPermission(playerMock, BAN));
+        assertTrue(cache.hasPermission(playerMock, BAN));
+        assertEquals(2, checks.get());
+        assertTrue(cache.toString().contains("players=0"));
+    }
+
+    @Test
+    public void testGroupOnlySuggestsPermittedLabels() {
+        final Command<CommandSender> cmd = new Command<CommandSender>() {
+            @Override
+            public void execute(final CommandSender sender, final @NotNull CommandInput input) {
+            }
+
+            @Override
+            public List<String> tabComplete(final CommandSender sender, final @NotNull CommandInput input) {
+                return ImmutableList.of();
+            }
+        };
+
+        final CommandGroup<CommandSender> group = new CommandGroup<CommandSender>(new ParameterUsage.Builder().build())
+                .withCommand(new PermissibleCommand<>(cmd, BAN.getName(), null), "ban")
+                .withCommand(new PermissibleCommand<>(cmd, KICK.getName(), null), "kick")
+                .withCommand(new RateLimitedCommand.Builder<CommandSender>()
+                        .command(new PermissibleCommand<>(cmd, KICK.getName(), null))
+                        .executions(1, 1, TimeUnit.SECONDS)
+                        .build(), "kickall")
+                .withCommand(new PermissibleCommand<>(new PermissibleCommand<>(cmd, KICK.getName(), null), BAN.getName(), null), "banip")
+                .withCommand(cmd, "kill");
+
+        assertEquals(ImmutableList.of("ban"), group.tabComplete(playerMock, new DummyCommandLine("b")));
+        assertEquals(ImmutableList.of("kill"), group.tabComplete(playerMock, new DummyCommandLine("k")));
+    }
+}
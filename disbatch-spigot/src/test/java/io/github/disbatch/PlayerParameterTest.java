@@ -0,0 +1,99 @@
+package io.github.disbatch;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.parameter.SuggestionBuffer;
+import io.github.disbatch.command.parameter.model.UUIDParameter;
+import io.github.disbatch.command.parameter.model.player.OnlinePlayerIndex;
+import io.github.disbatch.command.parameter.model.player.PlayerParameter;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class PlayerParameterTest extends EasyMockSupport {
+    private static final UUID ID = UUID.fromString("2d6f3c1e-8b5a-4f7e-9c3d-1a2b3c4d5e6f");
+
+    private CommandSender senderMock;
+    private Player playerMock;
+    private Player hiddenPlayerMock;
+    private Player viewerMock;
+
+    @Before
+    public void setup() {
+        senderMock = createMock(CommandSender.class);
+        playerMock = createMock(Player.class);
+
+        expect(playerMock.getName()).andReturn("Notch").anyTimes();
+        expect(playerMock.getUniqueId()).andReturn(ID).anyTimes();
+
+        hiddenPlayerMock = createMock(Player.class);
+        expect(hiddenPlayerMock.getName()).andReturn("Notchy").anyTimes();
+        expect(hiddenPlayerMock.getUniqueId()).andReturn(UUID.randomUUID()).anyTimes();
+
+        viewerMock = createMock(Player.class);
+        expect(viewerMock.canSee(playerMock)).andReturn(true).anyTimes();
+        expect(viewerMock.canSee(hiddenPlayerMock)).andReturn(false).anyTimes();
+
+        replayAll();
+    }
+
+    @Test
+    public void testUUIDsAreDecodedByHand() {
+        final UUIDParameter parameter = new UUIDParameter();
+
+        assertEquals(ID, parameter.parse(senderMock, new DummyCommandLine("2D6F3C1E-8B5A-4F7E-9C3D-1A2B3C4D5E6F")));
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("2d6f3c1e-8b5a-1f7e-9c3d-1a2b3c4d5e6f")));
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("2d6f3c1e-8b5a-4f7e-7c3d-1a2b3c4d5e6f")));
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("2d6f3c1e-8b5a-4f7e-9c3d-1a2b3c4d5e6g")));
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("2d6f3c1e8b5a-4f7e-9c3d-1a2b3c4d5e6f0")));
+    }
+
+    @Test
+    public void testPlayersAreResolvedByShape() {
+        final OnlinePlayerIndex index = new OnlinePlayerIndex();
+        final PlayerParameter parameter = new PlayerParameter(index);
+
+        index.add(playerMock);
+
+        assertSame(playerMock, parameter.parse(senderMock, new DummyCommandLine(ID.toString())));
+        assertSame(playerMock, parameter.parse(senderMock, new DummyCommandLine("nOTCH")));
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("Notc")));
+
+        index.remove(playerMock);
+
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("Notch")));
+    }
+
+    @Test
+    public void testPrefixLookupsAndVisibleSuggestions() {
+        final OnlinePlayerIndex index = new OnlinePlayerIndex();
+        final SuggestionBuffer buffer = SuggestionBuffer.acquire(SuggestionBuffer.DEFAULT_LIMIT);
+
+        index.add(hiddenPlayerMock);
+        index.add(playerMock);
+
+        assertSame(playerMock, index.getPlayerByPrefix("no"));
+        assertSame(hiddenPlayerMock, index.getPlayerByPrefix("NOTCHY"));
+        assertNull(index.getPlayerByPrefix("jeb"));
+
+        try {
+            index.suggest(viewerMock, "not", buffer);
+            assertEquals(ImmutableList.of("Notch"), ImmutableList.copyOf(buffer.asList()));
+        } finally {
+            buffer.release();
+        }
+
+        index.remove(playerMock);
+
+        assertSame(hiddenPlayerMock, index.getPlayerByPrefix("notch"));
+    }
+}
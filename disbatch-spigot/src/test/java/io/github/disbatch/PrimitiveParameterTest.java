@@ -0,0 +1,62 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.parameter.InvalidInputHandler;
+import io.github.disbatch.command.parameter.model.StringParameter;
+import io.github.disbatch.command.parameter.model.TripleArgument;
+import io.github.disbatch.command.parameter.model.TupleParameter;
+import io.github.disbatch.command.parameter.primitive.PrimitiveDoubleParameter;
+import io.github.disbatch.command.parameter.primitive.PrimitiveIntParameter;
+import io.github.disbatch.command.parameter.primitive.IntParameterizedCommand;
+import io.github.disbatch.command.parameter.primitive.PrimitiveLongParameter;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class PrimitiveParameterTest extends EasyMockSupport {
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+    }
+
+    @Test
+    public void testIntCommandReceivesUnboxedArgument() {
+        final AtomicInteger executed = new AtomicInteger();
+        final AtomicInteger invalid = new AtomicInteger();
+        final InvalidInputHandler<CommandSender> handler = (sender, input) -> invalid.incrementAndGet();
+        final IntParameterizedCommand<CommandSender> command = new IntParameterizedCommand.Builder<CommandSender>()
+                .parameter(PrimitiveIntParameter.of(1, 64))
+                .executor((sender, amount, input) -> executed.addAndGet(amount))
+                .invalidInputHandler(handler)
+                .build();
+
+        command.execute(senderMock, new DummyCommandLine("32"));
+        command.execute(senderMock, new DummyCommandLine("65"));
+        command.execute(senderMock, new DummyCommandLine("thirty"));
+
+        assertEquals(32, executed.get());
+        assertEquals(2, invalid.get());
+    }
+
+    @Test
+    public void testTupleHoldsPrimitivesUnboxed() {
+        final TupleParameter<CommandSender, TripleArgument<Long, String, Double>> parameter =
+                TupleParameter.of(PrimitiveLongParameter.of(), new StringParameter(), PrimitiveDoubleParameter.of(0, 1));
+        final TripleArgument<Long, String, Double> result = parameter.parse(senderMock, new DummyCommandLine("9000000000 deposit 0.25"));
+
+        assertEquals(9000000000L, result.getLong(0));
+        assertEquals(0.25, result.getDouble(2), 0);
+        assertEquals(Long.valueOf(9000000000L), result.getFirst());
+        assertEquals("deposit", result.getSecond());
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("9000000000 deposit 1.5")));
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.async.AsyncScheduler;
+import io.github.disbatch.command.async.DeferredParameterizedCommand;
+import io.github.disbatch.command.parameter.model.player.AsyncOfflinePlayerParameter;
+import io.github.disbatch.command.parameter.model.player.ProfileCache;
+import io.github.disbatch.command.parameter.model.player.ProfileSource;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.easymock.EasyMock.expect;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class ProfileCacheTest extends EasyMockSupport {
+    private static final UUID ID = UUID.fromString("2d6f3c1e-8b5a-4f7e-9c3d-1a2b3c4d5e6f");
+
+    private final Queue<Runnable> lookups = new ArrayDeque<>();
+    private final AtomicLong time = new AtomicLong();
+    private CommandSender senderMock;
+    private OfflinePlayer profileMock;
+    private InMemoryProfileSource source;
+
+    @Before
+    public void setup() {
+        senderMock = createMock(CommandSender.class);
+        profileMock = createMock(OfflinePlayer.class);
+
+        expect(profileMock.getName()).andReturn("Notch").anyTimes();
+        expect(profileMock.getUniqueId()).andReturn(ID).anyTimes();
+
+        replayAll();
+
+        source = new InMemoryProfileSource(profileMock);
+    }
+
+    private ProfileCache.Builder cacheBuilder() {
+        return new ProfileCache.Builder()
+                .source(source)
+                .executor(lookups::add)
+                .ticker(time::get);
+    }
+
+    @Test
+    public void testLookupsAreSharedAndRemembered() {
+        final ProfileCache cache = cacheBuilder().build();
+
+        final CompletableFuture<OfflinePlayer> first = cache.get("notch");
+        final CompletableFuture<OfflinePlayer> second = cache.get("NOTCH");
+
+        assertFalse(first.isDone());
+        assertNotSame(first, second);
+        assertEquals(1, lookups.size());
+
+        first.cancel(false);
+        lookups.poll().run();
+
+        assertSame(profileMock, second.getNow(null));
+        assertSame(profileMock, cache.get(ID).getNow(null));
+        assertNotSame(cache.get(ID), cache.get(ID));
+        assertEquals(1, source.lookups.get());
+    }
+
+    @Test
+    public void testLookupsFinishingAfterInvalidationAreNotRemembered() {
+        final ProfileCache cache = cacheBuilder().build();
+        final CompletableFuture<OfflinePlayer> profile = cache.get(ID);
+
+        cache.invalidate(ID);
+        lookups.poll().run();
+
+        assertSame(profileMock, profile.getNow(null));
+        assertEquals(0, cache.size());
+        assertFalse(cache.get(ID).isDone());
+    }
+
+    @Test
+    public void testProfilesExpireAndAreEvicted() {
+        final ProfileCache cache = cacheBuilder().expireAfter(1, TimeUnit.SECONDS).maximumSize(2).build();
+
+        cache.get(ID);
+        lookups.poll().run();
+        time.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        assertFalse(cache.get(ID).isDone());
+        lookups.poll().run();
+
+        cache.get("jeb_");
+        lookups.poll().run();
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("jeb_").isDone());
+    }
+
+    @Test
+    public void testExecutionIsDeferredUntilProfileArrives() {
+        final List<Runnable> mainThread = new ArrayList<>();
+        final List<OfflinePlayer> executed = new ArrayList<>();
+        final AtomicInteger invalid = new AtomicInteger();
+        final DeferredParameterizedCommand<CommandSender, OfflinePlayer> command = new DeferredParameterizedCommand<CommandSender, OfflinePlayer>(
+                new AsyncOfflinePlayerParameter(cacheBuilder().build()), (sender, input) -> invalid.incrementAndGet(),
+                AsyncScheduler.of(Runnable::run, mainThread::add)) {
+
+            @Override
+            protected void execute(final CommandSender sender, final OfflinePlayer argument, final CommandInput input) {
+                executed.add(argument);
+            }
+        };
+
+        command.execute(senderMock, new DummyCommandLine("Notch"));
+        command.execute(senderMock, new DummyCommandLine("nobody"));
+
+        assertTrue(executed.isEmpty());
+
+        while (!lookups.isEmpty()) lookups.poll().run();
+        mainThread.forEach(Runnable::run);
+
+        assertEquals(1, executed.size());
+        assertEquals(1, invalid.get());
+
+        command.execute(senderMock, new DummyCommandLine(ID.toString()));
+
+        assertEquals(2, executed.size());
+        assertEquals(2, mainThread.size());
+    }
+
+    @Test
+    public void testExecutionIsSkippedForPlayersWhoLeft() {
+        final Player playerMock = createMock(Player.class);
+        final List<Runnable> mainThread = new ArrayList<>();
+        final AtomicInteger executed = new AtomicInteger();
+        final AtomicInteger invalid = new AtomicInteger();
+        final DeferredParameterizedCommand<Player, OfflinePlayer> command = new DeferredParameterizedCommand<Player, OfflinePlayer>(
+                new AsyncOfflinePlayerParameter(cacheBuilder().build()), (sender, input) -> invalid.incrementAndGet(),
+                AsyncScheduler.of(Runnable::run, mainThread::add)) {
+
+            @Override
+            protected void execute(final Player sender, final OfflinePlayer argument, final CommandInput input) {
+                executed.incrementAndGet();
+            }
+        };
+
+        expect(playerMock.isOnline()).andReturn(false).anyTimes();
+        EasyMock.replay(playerMock);
+
+        command.execute(playerMock, new DummyCommandLine("Notch"));
+        command.execute(playerMock, new DummyCommandLine("nobody"));
+
+        while (!lookups.isEmpty()) lookups.poll().run();
+        mainThread.forEach(Runnable::run);
+        command.execute(playerMock, new DummyCommandLine("Notch"));
+
+        assertEquals(0, executed.get());
+        assertEquals(0, invalid.get());
+    }
+
+    private static final class InMemoryProfileSource implements ProfileSource {
+        private final Map<Object, OfflinePlayer> profiles = new HashMap<>();
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        private InMemoryProfileSource(final OfflinePlayer... profiles) {
+            for (final OfflinePlayer profile : profiles) {
+                this.profiles.put(profile.getUniqueId(), profile);
+                this.profiles.put(profile.getName().toLowerCase(Locale.ROOT), profile);
+            }
+        }
+
+        @Override
+        public OfflinePlayer lookUp(final UUID uniqueId) {
+            lookups.incrementAndGet();
+            return profiles.get(uniqueId);
+        }
+
+        @Override
+        public OfflinePlayer lookUp(final String name) {
+            lookups.incrementAndGet();
+            return profiles.get(name.toLowerCase(Locale.ROOT));
+        }
+    }
+}
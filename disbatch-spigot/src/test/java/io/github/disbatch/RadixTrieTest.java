@@ -0,0 +1,67 @@
+package io.github.disbatch;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.RadixTrie;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class RadixTrieTest {
+    private RadixTrie<String> trie;
+
+    @Before
+    public void setup() {
+        trie = RadixTrie.<String>empty()
+                .with("teleport", "tp")
+                .with("tp", "tp")
+                .with("team", "team")
+                .with("te", "te")
+                .with("Warp", "warp");
+    }
+
+    @Test
+    public void testCaseInsensitiveLookup() {
+        assertEquals("tp", trie.get("TELEPORT"));
+        assertEquals("tp", trie.get("tp"));
+        assertEquals("te", trie.get("Te"));
+        assertEquals("warp", trie.get("warp"));
+        assertNull(trie.get("t"));
+        assertNull(trie.get("teleports"));
+        assertNull(trie.get("tele"));
+    }
+
+    @Test
+    public void testPrefixCompletion() {
+        assertEquals(ImmutableList.of("te", "team", "teleport"), trie.keysWithPrefix("TE"));
+        assertEquals(ImmutableList.of("teleport"), trie.keysWithPrefix("tel"));
+        assertEquals(ImmutableList.of("Warp"), trie.keysWithPrefix("w"));
+        assertEquals(ImmutableList.of(), trie.keysWithPrefix("x"));
+        assertEquals(5, trie.keysWithPrefix("").size());
+    }
+
+    @Test
+    public void testPathCopying() {
+        final RadixTrie<String> replaced = trie.with("TEAM", "squad");
+
+        assertEquals("team", trie.get("team"));
+        assertEquals("squad", replaced.get("team"));
+        assertEquals(trie.size(), replaced.size());
+        assertSame(trie.get("warp"), replaced.get("warp"));
+    }
+
+    @Test
+    public void testRemovalMergesBranches() {
+        final RadixTrie<String> removed = trie.without("TE").without("team").without("missing");
+
+        assertNull(removed.get("te"));
+        assertNull(removed.get("team"));
+        assertEquals("tp", removed.get("teleport"));
+        assertEquals(ImmutableList.of("teleport"), removed.keysWithPrefix("te"));
+        assertEquals(3, removed.size());
+        assertEquals("te", trie.get("te"));
+        assertSame(removed, removed.without("team"));
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.disbatch;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.decorator.RateLimitedCommand;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.entity.Player;
+import org.easymock.EasyMock;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RateLimitedCommandTest extends EasyMockSupport {
+    private final AtomicInteger executions = new AtomicInteger();
+    private final AtomicLong time = new AtomicLong();
+    private RateLimitedCommand<Player> command;
+
+    @Before
+    public void setup() {
+        command = new RateLimitedCommand.Builder<Player>()
+                .command(new Command.Builder<Player>()
+                        .executor((sender, input) -> executions.incrementAndGet())
+                        .tabCompleter((sender, input) -> ImmutableList.of("suggestion"))
+                        .build())
+                .executions(3, 1, TimeUnit.HOURS)
+                .tabCompletions(1, 1, TimeUnit.HOURS)
+                .limitedMessage("Slow down!")
+                .capacity(64)
+                .ticker(time::get)
+                .build();
+    }
+
+    @Test
+    public void testExecutionsAreLimitedPerSender() {
+        final Player first = createPlayerMock(UUID.randomUUID());
+        final Player second = createPlayerMock(UUID.randomUUID());
+
+        first.sendMessage("Slow down!");
+        replayAll();
+
+        for (int i = 0; i < 4; i++)
+            command.execute(first, new DummyCommandLine("argument"));
+
+        command.execute(second, new DummyCommandLine("argument"));
+
+        assertEquals(4, executions.get());
+        assertEquals(ImmutableList.of("suggestion"), command.tabComplete(first, new DummyCommandLine("arg")));
+        assertTrue(command.tabComplete(first, new DummyCommandLine("arg")).isEmpty());
+        verifyAll();
+    }
+
+    @Test
+    public void testIdleBucketsAreReplaced() {
+        replayAll();
+
+        for (int i = 0; i < 10_000; i++) {
+            final Player player = createPlayerMock(UUID.randomUUID());
+            EasyMock.replay(player);
+            command.execute(player, new DummyCommandLine("argument"));
+            time.addAndGet(TimeUnit.MINUTES.toNanos(20));
+        }
+
+        assertEquals(10_000, executions.get());
+    }
+
+    @Test
+    public void testRefillingBucketsAreNotReplaced() {
+        final RateLimitedCommand<Player> command = new RateLimitedCommand.Builder<Player>()
+                .command(new Command.Builder<Player>()
+                        .executor((sender, input) -> executions.incrementAndGet())
+                        .build())
+                .executions(1, 1, TimeUnit.HOURS)
+                .limitedMessage("Slow down!")
+                .capacity(8)
+                .ticker(time::get)
+                .build();
+        final List<Player> players = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            final Player player = createPlayerMock(UUID.randomUUID());
+            player.sendMessage("Slow down!");
+            players.add(player);
+        }
+
+        replayAll();
+
+        // Eight players fill every bucket, the ninth draws from the overflow bucket and the tenth is left without
+        for (final Player player : players)
+            command.execute(player, new DummyCommandLine("argument"));
+
+        for (final Player player : players.subList(0, 8))
+            command.execute(player, new DummyCommandLine("argument"));
+
+        assertEquals(9, executions.get());
+        verifyAll();
+    }
+
+    private Player createPlayerMock(final UUID id) {
+        final Player player = createMock(Player.class);
+        EasyMock.expect(player.getUniqueId()).andReturn(id).anyTimes();
+
+        return player;
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.Command;
+import io.github.disbatch.command.SenderSpecificCommand;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.ConsoleCommandSender;
+import org.bukkit.entity.Player;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class SenderSpecificCommandTest extends EasyMockSupport {
+    private final List<String> executions = new ArrayList<>();
+    private SenderSpecificCommand command;
+
+    @Before
+    public void setup() {
+        command = new SenderSpecificCommand.Builder()
+                .forPlayers(new Command.Builder<Player>().executor((sender, input) -> executions.add("player")).build())
+                .forConsole(new Command.Builder<ConsoleCommandSender>().executor((sender, input) -> executions.add("console")).build())
+                .build();
+    }
+
+    @Test
+    public void testDispatchBySenderType() {
+        final CommandSender playerMock = createMock(Player.class);
+        final CommandSender consoleMock = createMock(ConsoleCommandSender.class);
+
+        command.execute(playerMock, new DummyCommandLine(""));
+        command.execute(consoleMock, new DummyCommandLine(""));
+
+        assertEquals(2, executions.size());
+        assertEquals("player", executions.get(0));
+        assertEquals("console", executions.get(1));
+        assertSame(command.resolve(playerMock.getClass()), command.resolve(playerMock.getClass()));
+    }
+
+    @Test
+    public void testUnacceptedSenderIsIgnored() {
+        final CommandSender senderMock = createMock(CommandSender.class);
+
+        assertNull(command.resolve(senderMock.getClass()));
+        command.execute(senderMock, new DummyCommandLine(""));
+        assertEquals(0, executions.size());
+    }
+}
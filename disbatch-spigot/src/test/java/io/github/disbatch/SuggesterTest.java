@@ -1,13 +1,23 @@
 package io.github.disbatch;
 
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.ParameterizedCommand;
 import io.github.disbatch.command.parameter.Suggester;
 import io.github.disbatch.command.parameter.Suggesters;
+import io.github.disbatch.command.parameter.SuggestionBuffer;
 import io.github.disbatch.mock.DummyCommandLine;
 import org.bukkit.command.CommandSender;
 import org.easymock.EasyMockSupport;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
 public class SuggesterTest extends EasyMockSupport {
     private CommandSender senderMock;
 
@@ -23,4 +33,43 @@ public class SuggesterTest extends EasyMockSupport {
         System.out.println("Suggestions: " + suggester.getSuggestions(senderMock, new DummyCommandLine("test")));
         System.out.println("Empty suggestions: " + suggester.getSuggestions(senderMock, new DummyCommandLine("test 1")));
     }
+
+    @Test
+    public void testCompletionSurvivesNextCompletion() {
+        final Suggester<CommandSender> suggester = Suggesters.matching(ImmutableList.of("spawn", "Arena", "arctic", "arena"));
+
+        final Collection<String> first = suggester.getSuggestions(senderMock, new DummyCommandLine("AR"));
+        final Collection<String> second = suggester.getSuggestions(senderMock, new DummyCommandLine("s"));
+
+        assertEquals(ImmutableList.of("arctic", "Arena", "arena"), first);
+        assertEquals(ImmutableList.of("spawn"), second);
+    }
+
+    @Test
+    public void testImmutableCompletionIsNotCopied() {
+        final List<String> suggestions = ImmutableList.of("spawn");
+        final ParameterizedCommand<CommandSender, String> command = new ParameterizedCommand.Builder<CommandSender, String>()
+                .parameter(new Parameter.Builder<CommandSender, String>()
+                        .parser((sender, input) -> input.getArgument(0))
+                        .suggester((sender, input) -> suggestions)
+                        .build())
+                .invalidInputHandler((sender, input) -> {})
+                .executor((sender, argument, input) -> {})
+                .build();
+
+        assertSame(suggestions, command.tabComplete(senderMock, new DummyCommandLine("s")));
+    }
+
+    @Test
+    public void testBufferLimit() {
+        final SuggestionBuffer buffer = SuggestionBuffer.acquire(2);
+
+        buffer.add("c");
+        buffer.add("a");
+        buffer.add("d");
+        buffer.add("b");
+        buffer.release();
+
+        assertEquals(ImmutableList.of("a", "b"), buffer.asList());
+    }
 }
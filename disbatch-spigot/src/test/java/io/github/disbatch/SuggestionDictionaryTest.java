@@ -0,0 +1,54 @@
+package io.github.disbatch;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.parameter.SuggestionDictionary;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+
+public class SuggestionDictionaryTest {
+    private final List<String> entries = new ArrayList<>();
+    private SuggestionDictionary dictionary;
+
+    @Before
+    public void setup() {
+        for (int i = 0; i < 2000; i++)
+            entries.add((i % 3 == 0 ? "Item_" : "item_") + Integer.toString(i * 7919 % 2000, 36));
+
+        entries.add("diamond_sword");
+        entries.add("Diamond");
+        entries.add("dirt");
+        dictionary = SuggestionDictionary.of(entries);
+    }
+
+    @Test
+    public void testMatchesLinearFilter() {
+        for (final String prefix : ImmutableList.of("", "i", "ITEM_", "item_1", "item_1a", "item_zz", "d", "DIAMOND", "diamond_", "dirt", "dirty", "x")) {
+            final String folded = prefix.toLowerCase(Locale.ROOT);
+            final List<String> expected = entries.stream()
+                    .filter(entry -> entry.toLowerCase(Locale.ROOT).startsWith(folded))
+                    .distinct()
+                    .sorted(String.CASE_INSENSITIVE_ORDER)
+                    .collect(Collectors.toList());
+
+            assertEquals(prefix, expected.size(), dictionary.withPrefix(prefix).size());
+            assertEquals(prefix, expected.stream().map(entry -> entry.toLowerCase(Locale.ROOT)).collect(Collectors.toList()),
+                    dictionary.withPrefix(prefix).stream().map(entry -> entry.toLowerCase(Locale.ROOT)).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testBoundedView() {
+        final List<String> view = dictionary.withPrefix("dI", 2);
+
+        assertEquals(ImmutableList.of("Diamond", "diamond_sword"), view);
+        assertEquals("diamond_sword", view.get(1));
+        assertEquals(ImmutableList.of(), dictionary.withPrefix("nothing", 5));
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.disbatch;
+
+import io.github.disbatch.command.CommandInput;
+import io.github.disbatch.command.TokenizedCommandInput;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class TokenizedCommandInputTest {
+
+    @Test
+    public void testViewsSliceTheOriginalLine() {
+        final TokenizedCommandInput input = TokenizedCommandInput.of("warp", "set", "home", "10", "64", "-20");
+        final TokenizedCommandInput grouped = input.descend().descend();
+        final CommandInput coordinates = grouped.slice(0, 3);
+
+        assertEquals("warp set home", grouped.getCommandLabel());
+        assertEquals("10 64 -20", coordinates.getArgumentLine());
+        assertEquals("64", coordinates.getArgument(1));
+        assertEquals("-20", grouped.slice(1, 3).getArgument(1));
+        assertEquals("warp set home 10 64 -20", coordinates.getCommandLine());
+        assertArrayEquals(new String[] {"64", "-20"}, grouped.slice(1, 3).getArguments());
+    }
+
+    @Test
+    public void testQuotedArguments() {
+        final TokenizedCommandInput input = TokenizedCommandInput.quoted("mail", "send", "\"Hello", "\\\"there\\\"\"", "Notch", "\"P.S.");
+
+        assertEquals(4, input.getArgumentLength());
+        assertEquals("Hello \"there\"", input.getArgument(1));
+        assertEquals("Notch", input.getArgument(2));
+        assertEquals("P.S.", input.getArgument(3));
+        assertEquals("\"Hello \\\"there\\\"\" Notch", input.slice(1, 3).getArgumentLine());
+        assertEquals("mail send", input.descend().getCommandLabel());
+    }
+
+    @Test
+    public void testTrailingSpaceIsAnEmptyArgument() {
+        final TokenizedCommandInput input = TokenizedCommandInput.parse("give Notch ");
+
+        assertEquals("give", input.getCommandLabel());
+        assertArrayEquals(new String[] {"Notch", ""}, input.getArguments());
+        assertEquals("", TokenizedCommandInput.of("give").getArgumentLine());
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.disbatch;
+
+import com.google.common.collect.ImmutableList;
+import io.github.disbatch.command.parameter.Parameter;
+import io.github.disbatch.command.parameter.exception.InvalidParameterException;
+import io.github.disbatch.command.parameter.model.IntegerParameter;
+import io.github.disbatch.command.parameter.model.QuadrupleArgument;
+import io.github.disbatch.command.parameter.model.StringParameter;
+import io.github.disbatch.command.parameter.model.TripleArgument;
+import io.github.disbatch.command.parameter.model.TupleParameter;
+import io.github.disbatch.command.parameter.model.UUIDParameter;
+import io.github.disbatch.mock.DummyCommandLine;
+import org.bukkit.command.CommandSender;
+import org.easymock.EasyMockSupport;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.UUID;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TupleParameterTest extends EasyMockSupport {
+    private static final String ID = "2d6f3c1e-8b5a-4f7e-9c3d-1a2b3c4d5e6f";
+
+    private CommandSender senderMock;
+
+    @Before
+    public void setup() {
+        senderMock = createMock(CommandSender.class);
+        replayAll();
+    }
+
+    @Test
+    public void testVariableElementTakesRemainingArguments() {
+        final TupleParameter<CommandSender, TripleArgument<Integer, String, UUID>> parameter =
+                TupleParameter.of(new IntegerParameter(), new StringParameter(), new UUIDParameter());
+        final TripleArgument<Integer, String, UUID> result = parameter.parse(senderMock, new DummyCommandLine("7 hello there " + ID));
+
+        assertEquals(Integer.valueOf(7), result.getFirst());
+        assertEquals("hello there", result.getSecond());
+        assertEquals(UUID.fromString(ID), result.getThird());
+        assertNull(parameter.parse(senderMock, new DummyCommandLine("7 " + ID)));
+    }
+
+    @Test
+    public void testSuggestionsAreRoutedToTypedElement() {
+        final Parameter<CommandSender, Integer> suggesting = new Parameter.Builder<CommandSender, Integer>()
+                .parser(new IntegerParameter()::parse)
+                .maximumUsage(1)
+                .suggester((sender, input) -> ImmutableList.of("typing:" + input.getArgumentLine()))
+                .build();
+        final TupleParameter<CommandSender, QuadrupleArgument<Integer, Integer, Integer, Integer>> parameter =
+                TupleParameter.of(new IntegerParameter(), new IntegerParameter(), suggesting, new IntegerParameter());
+
+        assertEquals(ImmutableList.of("typing:3"), parameter.getSuggestions(senderMock, new DummyCommandLine("1 2 3")));
+        assertEquals(ImmutableList.of(), parameter.getSuggestions(senderMock, new DummyCommandLine("1 2 3 4 5")));
+        assertEquals(Integer.valueOf(4), parameter.parse(senderMock, new DummyCommandLine("1 2 3 4")).getFourth());
+    }
+
+    @Test
+    public void testSuggestionsAreRoutedToElementsAfterVariableElement() {
+        final Parameter<CommandSender, String> variable = new Parameter.Builder<CommandSender, String>()
+                .parser(new StringParameter()::parse)
+                .minimumUsage(1)
+                .maximumUsage(3)
+                .suggester((sender, input) -> ImmutableList.of("variable:" + input.getArgumentLine()))
+                .build();
+        final Parameter<CommandSender, Integer> tail = new Parameter.Builder<CommandSender, Integer>()
+                .parser(new IntegerParameter()::parse)
+                .maximumUsage(1)
+                .suggester((sender, input) -> ImmutableList.of("tail:" + input.getArgumentLine()))
+                .build();
+        final TupleParameter<CommandSender, TripleArgument<Integer, String, Integer>> parameter =
+                TupleParameter.of(new IntegerParameter(), variable, tail);
+
+        assertEquals(ImmutableList.of("variable:hello"), parameter.getSuggestions(senderMock, new DummyCommandLine("7 hello")));
+        assertEquals(ImmutableList.of("tail:4"), parameter.getSuggestions(senderMock, new DummyCommandLine("7 hello 4")));
+        assertEquals(ImmutableList.of("tail:4"), parameter.getSuggestions(senderMock, new DummyCommandLine("7 hello there 4")));
+        assertEquals(Integer.valueOf(4), parameter.parse(senderMock, new DummyCommandLine("7 hello there 4")).getThird());
+    }
+
+    @Test(expected = InvalidParameterException.class)
+    public void testOnlyOneVariableElementIsAllowed() {
+        TupleParameter.of(new StringParameter(), new IntegerParameter(), new StringParameter());
+    }
+}